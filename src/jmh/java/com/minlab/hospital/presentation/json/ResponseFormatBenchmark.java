@@ -0,0 +1,112 @@
+package com.minlab.hospital.presentation.json;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.minlab.hospital.domain.repository.CappedPage;
+import com.minlab.hospital.presentation.dto.response.HospitalResponseDto;
+import com.minlab.hospital.presentation.dto.response.PageResponseDto;
+import com.minlab.hospital.presentation.dto.response.PatientResponseDto;
+import com.minlab.hospital.presentation.dto.response.PatientSearchResponseDto;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 응답 형식(JSON / CBOR) x 압축(gzip 유무)별 직렬화 처리량과 전송 바이트 수 비교
+ * - hospitals: 병원 전체 조회, patients: 병원별 환자 전체 조회, search: 환자 검색 페이지(PageResponseDto)
+ * - search-page: 이전 응답 형태(Spring Data Page 그대로 직렬화, pageable/sort 포함) 기준값
+ * - 매퍼는 WebConfig 와 같은 방식(같은 빌더 설정에 CBORFactory 만 교체)으로 생성, gzip 은 Tomcat 기본 압축 수준
+ * ./gradlew jmh -PjmhIncludes=ResponseFormatBenchmark  (결과: build/results/jmh/results.json, 바이트 수는 secondaryMetrics.bytes)
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class ResponseFormatBenchmark {
+
+    @Param({"hospitals", "patients", "search", "search-page"})
+    public String payload;
+
+    @Param({"json", "cbor"})
+    public String format;
+
+    @Param({"false", "true"})
+    public boolean gzip;
+
+    @Param({"10", "100"})
+    public int rows;
+
+    private ObjectMapper mapper;
+    private Object body;
+
+    /**
+     * 호출마다 마지막 응답 크기로 덮어씀 (반복 구간 값 = 응답 1건의 바이트 수)
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class WireBytes {
+        public long bytes;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            bytes = 0;
+        }
+    }
+
+    @Setup
+    public void setUp() {
+        Jackson2ObjectMapperBuilder builder = Jackson2ObjectMapperBuilder.json()
+                .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .serializerByType(HospitalResponseDto.class, new ResponseDtoSerializers.HospitalResponseSerializer())
+                .serializerByType(PatientResponseDto.class, new ResponseDtoSerializers.PatientResponseSerializer())
+                .serializerByType(PatientSearchResponseDto.class, new ResponseDtoSerializers.PatientSearchResponseSerializer());
+        mapper = "cbor".equals(format) ? builder.factory(new CBORFactory()).build() : builder.build();
+        body = body();
+    }
+
+    @Benchmark
+    public byte[] encode(WireBytes wire) throws IOException {
+        byte[] encoded = mapper.writeValueAsBytes(body);
+        if (gzip) {
+            ByteArrayOutputStream buffer = new ByteArrayOutputStream(encoded.length);
+            try (GZIPOutputStream out = new GZIPOutputStream(buffer)) {
+                out.write(encoded);
+            }
+            encoded = buffer.toByteArray();
+        }
+        wire.bytes = encoded.length;
+        return encoded;
+    }
+
+    private Object body() {
+        List<HospitalResponseDto> hospitals = new ArrayList<>();
+        List<PatientResponseDto> patients = new ArrayList<>();
+        List<PatientSearchResponseDto> searchResults = new ArrayList<>();
+        for (long i = 1; i <= rows; i++) {
+            LocalDate birthDate = LocalDate.of(1950, 1, 1).plusDays(i * 97);
+            LocalDateTime visitDate = LocalDateTime.of(2025, 8, 27, 9, 0).plusMinutes(i * 13);
+            hospitals.add(new HospitalResponseDto(i, "병원" + i, String.format("%08d", i), "의사" + i));
+            patients.add(new PatientResponseDto(i, "환자" + i, "001-" + i, "M", birthDate, "010-1234-5678", "서울시 강남구"));
+            searchResults.add(new PatientSearchResponseDto(i, "환자" + i, "001-" + i, "F", birthDate, "010-1234-5678", "서울시 강남구", visitDate));
+        }
+
+        // 검색 결과는 첫 페이지, 조건에 맞는 환자가 검색 상한(1000)을 넘는 경우
+        CappedPage<PatientSearchResponseDto> page = new CappedPage<>(searchResults, PageRequest.of(0, rows), 1000, true);
+        return switch (payload) {
+            case "hospitals" -> hospitals;
+            case "patients" -> patients;
+            case "search" -> PageResponseDto.from(page);
+            case "search-page" -> page;
+            default -> throw new IllegalArgumentException("알 수 없는 payload: " + payload);
+        };
+    }
+}
@@ -0,0 +1,94 @@
+package com.minlab.hospital.presentation.json;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.minlab.hospital.presentation.dto.response.PatientResponseDto;
+import com.minlab.hospital.presentation.dto.response.PatientSearchResponseDto;
+import com.minlab.hospital.presentation.dto.response.VisitResponseDto;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 기본 ObjectMapper(리플렉션) vs ResponseDtoSerializers 직렬화 비교
+ * ./gradlew jmh  (결과: build/results/jmh/results.json)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class ResponseSerializationBenchmark {
+
+    @Param({"10", "100"})
+    public int rows;
+
+    private ObjectMapper defaultMapper;
+    private ObjectMapper tunedMapper;
+
+    private List<PatientResponseDto> patients;
+    private List<PatientSearchResponseDto> searchResults;
+    private List<VisitResponseDto> visits;
+
+    @Setup
+    public void setUp() {
+        defaultMapper = JsonMapper.builder()
+                .addModule(new JavaTimeModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .build();
+        tunedMapper = JsonMapper.builder()
+                .addModule(new JavaTimeModule())
+                .addModule(new SimpleModule()
+                        .addSerializer(PatientResponseDto.class, new ResponseDtoSerializers.PatientResponseSerializer())
+                        .addSerializer(PatientSearchResponseDto.class, new ResponseDtoSerializers.PatientSearchResponseSerializer())
+                        .addSerializer(VisitResponseDto.class, new ResponseDtoSerializers.VisitResponseSerializer()))
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .build();
+
+        patients = new ArrayList<>();
+        searchResults = new ArrayList<>();
+        visits = new ArrayList<>();
+        for (long i = 1; i <= rows; i++) {
+            LocalDate birthDate = LocalDate.of(1950, 1, 1).plusDays(i * 97);
+            LocalDateTime visitDate = LocalDateTime.of(2025, 8, 27, 9, 0).plusMinutes(i * 13);
+            patients.add(new PatientResponseDto(i, "환자" + i, "001-" + i, "M", birthDate, "010-1234-5678", "서울시 강남구"));
+            searchResults.add(new PatientSearchResponseDto(i, "환자" + i, "001-" + i, "F", birthDate, "010-1234-5678", "서울시 강남구", visitDate));
+            visits.add(new VisitResponseDto(i, 1L, i, "001-" + i, visitDate, "방문중", "외래"));
+        }
+    }
+
+    @Benchmark
+    public byte[] patientsDefault() throws Exception {
+        return defaultMapper.writeValueAsBytes(patients);
+    }
+
+    @Benchmark
+    public byte[] patientsTuned() throws Exception {
+        return tunedMapper.writeValueAsBytes(patients);
+    }
+
+    @Benchmark
+    public byte[] searchResultsDefault() throws Exception {
+        return defaultMapper.writeValueAsBytes(searchResults);
+    }
+
+    @Benchmark
+    public byte[] searchResultsTuned() throws Exception {
+        return tunedMapper.writeValueAsBytes(searchResults);
+    }
+
+    @Benchmark
+    public byte[] visitsDefault() throws Exception {
+        return defaultMapper.writeValueAsBytes(visits);
+    }
+
+    @Benchmark
+    public byte[] visitsTuned() throws Exception {
+        return tunedMapper.writeValueAsBytes(visits);
+    }
+}
@@ -0,0 +1,108 @@
+package com.minlab.hospital.load;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 연산별 지연 시간(μs, HdrHistogram 유효숫자 3자리)과 응답 코드 집계
+ * - 2xx 가 아닌 응답도 지연 시간에 포함하고 errors 로 따로 집계
+ */
+class LatencyReport {
+
+    private static final long MAX_TRACKABLE_MICROS = TimeUnit.MINUTES.toMicros(1);
+
+    private final Map<Operation, Histogram> histograms = new EnumMap<>(Operation.class);
+    private final Map<Operation, Map<Integer, LongAdder>> statuses = new EnumMap<>(Operation.class);
+
+    LatencyReport() {
+        for (Operation operation : Operation.values()) {
+            histograms.put(operation, new ConcurrentHistogram(MAX_TRACKABLE_MICROS, 3));
+            statuses.put(operation, new ConcurrentHashMap<>());
+        }
+    }
+
+    void record(Operation operation, long latencyNanos, int status) {
+        long micros = Math.min(TimeUnit.NANOSECONDS.toMicros(latencyNanos), MAX_TRACKABLE_MICROS);
+        histograms.get(operation).recordValue(Math.max(micros, 1));
+        statuses.get(operation).computeIfAbsent(status, key -> new LongAdder()).increment();
+    }
+
+    /**
+     * 요약(load-test.txt) + 연산별 분위수 분포(<operation>.hgrm) 기록
+     * - 실행 시각 등 매번 달라지는 값은 넣지 않아 빌드 간 diff 로 비교 가능
+     */
+    String write(Path directory, LoadConfig config, double measuredSeconds) throws IOException {
+        Files.createDirectories(directory);
+
+        StringBuilder report = new StringBuilder();
+        report.append("# hospital-api load test").append(System.lineSeparator());
+        report.append("config: ").append(config).append(System.lineSeparator());
+        report.append("java: ").append(System.getProperty("java.version"))
+                .append(", cpus: ").append(Runtime.getRuntime().availableProcessors()).append(System.lineSeparator());
+        report.append(System.lineSeparator());
+        report.append(String.format("%-22s %9s %7s %9s %9s %9s %9s %9s %9s%n",
+                "operation", "count", "errors", "ops/s", "p50(ms)", "p90(ms)", "p99(ms)", "p99.9(ms)", "max(ms)"));
+
+        Histogram total = new Histogram(MAX_TRACKABLE_MICROS, 3);
+        long totalErrors = 0;
+        for (Operation operation : histograms.keySet()) {
+            Histogram histogram = histograms.get(operation);
+            if (histogram.getTotalCount() == 0) {
+                continue;
+            }
+            long errors = errors(operation);
+            totalErrors += errors;
+            total.add(histogram);
+            report.append(line(operation.key(), histogram, errors, measuredSeconds));
+
+            try (PrintStream out = new PrintStream(Files.newOutputStream(directory.resolve(operation.key() + ".hgrm")),
+                    false, StandardCharsets.UTF_8)) {
+                histogram.outputPercentileDistribution(out, 1000.0);
+            }
+        }
+        report.append(line("total", total, totalErrors, measuredSeconds));
+
+        report.append(System.lineSeparator()).append("responses by status:").append(System.lineSeparator());
+        for (Operation operation : statuses.keySet()) {
+            Map<Integer, Long> counts = new TreeMap<>();
+            statuses.get(operation).forEach((status, count) -> counts.put(status, count.sum()));
+            if (!counts.isEmpty()) {
+                report.append(String.format("%-22s %s%n", operation.key(), counts));
+            }
+        }
+
+        Files.writeString(directory.resolve("load-test.txt"), report, StandardCharsets.UTF_8);
+        return report.toString();
+    }
+
+    private long errors(Operation operation) {
+        return statuses.get(operation).entrySet().stream()
+                .filter(entry -> entry.getKey() < 200 || entry.getKey() >= 300)
+                .mapToLong(entry -> entry.getValue().sum())
+                .sum();
+    }
+
+    private static String line(String name, Histogram histogram, long errors, double seconds) {
+        return String.format("%-22s %9d %7d %9.1f %9.3f %9.3f %9.3f %9.3f %9.3f%n",
+                name, histogram.getTotalCount(), errors, histogram.getTotalCount() / seconds,
+                millis(histogram.getValueAtPercentile(50)), millis(histogram.getValueAtPercentile(90)),
+                millis(histogram.getValueAtPercentile(99)), millis(histogram.getValueAtPercentile(99.9)),
+                millis(histogram.getMaxValue()));
+    }
+
+    private static double millis(long micros) {
+        return micros / 1000.0;
+    }
+}
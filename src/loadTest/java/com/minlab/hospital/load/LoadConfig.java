@@ -0,0 +1,71 @@
+package com.minlab.hospital.load;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * 부하 테스트 설정 (시스템 프로퍼티, gradle -P 로 전달)
+ *
+ * @param threads   동시 요청 스레드 수
+ * @param duration  측정 시간
+ * @param warmup    측정 전 워밍업 시간 (기록하지 않음)
+ * @param hospitals 요청을 분산할 병원 수
+ * @param mix       연산별 비중
+ * @param rate      목표 초당 요청 수 (0 이면 스레드가 쉬지 않고 요청, 0 보다 크면 예정 시각 기준으로 지연 시간 기록)
+ * @param seed      난수 시드 (같은 시드면 같은 요청 순서)
+ */
+record LoadConfig(int threads, Duration duration, Duration warmup, int hospitals,
+                  Map<Operation, Integer> mix, double rate, long seed) {
+
+    static LoadConfig fromSystemProperties() {
+        return new LoadConfig(
+                Integer.getInteger("loadThreads", 16),
+                duration(System.getProperty("loadDuration", "30s")),
+                duration(System.getProperty("loadWarmup", "10s")),
+                Integer.getInteger("loadHospitals", 10),
+                mix(System.getProperty("loadMix", "register=20,search=20,visit-write=30,visit-read=30")),
+                Double.parseDouble(System.getProperty("loadRate", "0")),
+                Long.getLong("loadSeed", 42L)
+        );
+    }
+
+    private static Duration duration(String value) {
+        String trimmed = value.trim().toLowerCase();
+        if (trimmed.endsWith("ms")) {
+            return Duration.ofMillis(Long.parseLong(trimmed.substring(0, trimmed.length() - 2)));
+        }
+        if (trimmed.endsWith("m")) {
+            return Duration.ofMinutes(Long.parseLong(trimmed.substring(0, trimmed.length() - 1)));
+        }
+        if (trimmed.endsWith("s")) {
+            trimmed = trimmed.substring(0, trimmed.length() - 1);
+        }
+        return Duration.ofSeconds(Long.parseLong(trimmed));
+    }
+
+    private static Map<Operation, Integer> mix(String value) {
+        Map<Operation, Integer> mix = new EnumMap<>(Operation.class);
+        for (String part : value.split(",")) {
+            String[] pair = part.split("=");
+            if (pair.length != 2) {
+                throw new IllegalArgumentException("loadMix 형식이 올바르지 않습니다: " + value);
+            }
+            int weight = Integer.parseInt(pair[1].trim());
+            if (weight > 0) {
+                mix.put(Operation.of(pair[0].trim()), weight);
+            }
+        }
+        if (mix.isEmpty()) {
+            throw new IllegalArgumentException("loadMix 에 비중이 0 보다 큰 연산이 없습니다: " + value);
+        }
+        return mix;
+    }
+
+    @Override
+    public String toString() {
+        return "threads=" + threads + ", duration=" + duration.toSeconds() + "s, warmup=" + warmup.toSeconds()
+                + "s, hospitals=" + hospitals + ", rate=" + (rate > 0 ? rate + "/s" : "unbounded")
+                + ", seed=" + seed + ", mix=" + mix;
+    }
+}
@@ -0,0 +1,161 @@
+package com.minlab.hospital.load;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 실제 HTTP API 호출 (병원 여러 개에 요청 분산)
+ * - 등록된 환자 ID 를 병원별로 모아 방문 쓰기/조회 대상으로 사용
+ * - reactive-* 연산은 같은 경로를 리액티브 조회 서버(hospital.reactive.port)로 호출
+ */
+class LoadScenario {
+
+    private static final Duration TIMEOUT = Duration.ofSeconds(30);
+    private static final String[] NAMES = {"김민준", "이서연", "박도윤", "최하은", "정시우", "강지유", "조하준", "윤서아"};
+    private static final String[] STATUSES = {"방문중", "종료", "취소"};
+    private static final String[] TYPES = {"외래", "검사", "약처방"};
+    private static final String[] CATEGORIES = {"내과", "외과", "안과", "이비인후과", "정형외과", "피부과"};
+
+    private final HttpClient client = HttpClient.newBuilder().connectTimeout(TIMEOUT).build();
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final String baseUrl;
+    private final String reactiveBaseUrl;
+
+    private final List<Long> hospitalIds = new ArrayList<>();
+    private final Map<Long, List<Long>> patientsByHospital = new ConcurrentHashMap<>();
+
+    /**
+     * @param reactivePort 리액티브 조회 서버 포트 (없으면 null)
+     */
+    LoadScenario(int port, Integer reactivePort) {
+        this.baseUrl = "http://localhost:" + port;
+        this.reactiveBaseUrl = reactivePort != null ? "http://localhost:" + reactivePort : null;
+    }
+
+    /**
+     * 병원 생성 + 병원별 초기 환자/방문 등록 (측정 대상 아님)
+     */
+    void setUp(int hospitals, Random random) throws IOException, InterruptedException {
+        for (int i = 0; i < hospitals; i++) {
+            Map<String, String> hospital = Map.of(
+                    "name", "부하테스트병원" + i,
+                    "providerNumber", String.format("LT%06d", i),
+                    "doctorName", "원장" + i);
+            Long hospitalId = idOf(send(post("/api/hospitals", hospital)));
+            hospitalIds.add(hospitalId);
+            patientsByHospital.put(hospitalId, Collections.synchronizedList(new ArrayList<>()));
+
+            for (int p = 0; p < 5; p++) {
+                execute(Operation.REGISTER, hospitalId, random);
+            }
+        }
+    }
+
+    int execute(Operation operation, Random random) throws IOException, InterruptedException {
+        return execute(operation, hospitalIds.get(random.nextInt(hospitalIds.size())), random);
+    }
+
+    private int execute(Operation operation, Long hospitalId, Random random) throws IOException, InterruptedException {
+        return switch (operation) {
+            case REGISTER -> register(hospitalId, random);
+            case SEARCH -> send(get(searchPath(hospitalId, random))).statusCode();
+            case VISIT_WRITE -> send(post("/api/patients/" + patientOf(hospitalId, random) + "/visits", visit(random))).statusCode();
+            case VISIT_READ -> send(get(visitsPath(hospitalId, random))).statusCode();
+            case PATIENT_READ -> send(get(patientPath(hospitalId, random))).statusCode();
+            case REACTIVE_PATIENT_READ -> send(reactiveGet(patientPath(hospitalId, random))).statusCode();
+            case REACTIVE_SEARCH -> send(reactiveGet(searchPath(hospitalId, random))).statusCode();
+            case REACTIVE_VISIT_READ -> send(reactiveGet(visitsPath(hospitalId, random))).statusCode();
+        };
+    }
+
+    private String patientPath(Long hospitalId, Random random) {
+        return "/api/hospitals/" + hospitalId + "/patients/" + patientOf(hospitalId, random);
+    }
+
+    private static String searchPath(Long hospitalId, Random random) {
+        return "/api/hospitals/" + hospitalId + "/patients/search?name="
+                + encode(NAMES[random.nextInt(NAMES.length)]) + "&pageNo=1&pageSize=10";
+    }
+
+    private String visitsPath(Long hospitalId, Random random) {
+        return "/api/patients/" + patientOf(hospitalId, random) + "/visits?page=0&size=10";
+    }
+
+    private int register(Long hospitalId, Random random) throws IOException, InterruptedException {
+        Map<String, String> patient = Map.of(
+                "name", NAMES[random.nextInt(NAMES.length)],
+                "gender", random.nextBoolean() ? "M" : "F",
+                "birthDate", LocalDate.of(1950 + random.nextInt(70), 1 + random.nextInt(12), 1 + random.nextInt(28)).toString(),
+                "phone", String.format("010-%04d-%04d", random.nextInt(10_000), random.nextInt(10_000)),
+                "address", "서울시");
+        HttpResponse<String> response = send(post("/api/hospitals/" + hospitalId + "/patients", patient));
+        if (response.statusCode() == 200) {
+            patientsByHospital.get(hospitalId).add(idOf(response));
+        }
+        return response.statusCode();
+    }
+
+    private Long patientOf(Long hospitalId, Random random) {
+        List<Long> patients = patientsByHospital.get(hospitalId);
+        return patients.get(random.nextInt(patients.size()));
+    }
+
+    private static Map<String, String> visit(Random random) {
+        return Map.of(
+                "visitDate", "2025-08-27T14:30:00",
+                "visitStatus", STATUSES[random.nextInt(STATUSES.length)],
+                "visitType", TYPES[random.nextInt(TYPES.length)],
+                "visitCategory", CATEGORIES[random.nextInt(CATEGORIES.length)]);
+    }
+
+    private HttpRequest get(String path) {
+        return HttpRequest.newBuilder(URI.create(baseUrl + path)).timeout(TIMEOUT).GET().build();
+    }
+
+    private HttpRequest reactiveGet(String path) {
+        if (reactiveBaseUrl == null) {
+            throw new IllegalStateException("리액티브 조회 서버가 없습니다. (hospital.reactive.enabled=true 필요)");
+        }
+        return HttpRequest.newBuilder(URI.create(reactiveBaseUrl + path)).timeout(TIMEOUT).GET().build();
+    }
+
+    private HttpRequest post(String path, Object body) throws IOException {
+        return HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .timeout(TIMEOUT)
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofByteArray(objectMapper.writeValueAsBytes(body)))
+                .build();
+    }
+
+    private HttpResponse<String> send(HttpRequest request) throws IOException, InterruptedException {
+        return client.send(request, HttpResponse.BodyHandlers.ofString());
+    }
+
+    private Long idOf(HttpResponse<String> response) throws IOException {
+        if (response.statusCode() != 200) {
+            throw new IllegalStateException("초기 데이터 생성 실패: " + response.statusCode() + " " + response.body());
+        }
+        JsonNode body = objectMapper.readTree(response.body());
+        return body.get("id").asLong();
+    }
+
+    private static String encode(String value) {
+        return URLEncoder.encode(value, StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,105 @@
+package com.minlab.hospital.load;
+
+import com.minlab.hospital.HospitalApplication;
+import com.minlab.hospital.infrastructure.reactive.ReactiveReadServer;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 전체 애플리케이션을 임의 포트로 기동하고 설정한 비중으로 요청을 보내 지연 시간/처리량 측정
+ * - loadRate 미지정: 스레드마다 응답을 받으면 바로 다음 요청 (closed loop)
+ * - loadRate 지정: 스레드마다 일정 간격으로 요청하고 지연 시간은 예정 시각부터 계산
+ *   (서버가 밀려 요청이 늦게 나간 시간도 지연 시간에 포함, coordinated omission 보정)
+ */
+public final class LoadTestRunner {
+
+    private LoadTestRunner() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadConfig config = LoadConfig.fromSystemProperties();
+        Path reportDir = Path.of(System.getProperty("loadReportDir", "build/reports/load"));
+
+        SpringApplication application = new SpringApplication(HospitalApplication.class);
+        application.setAdditionalProfiles("load");
+        ConfigurableApplicationContext context = application.run("--server.port=0");
+        ExecutorService workers = Executors.newFixedThreadPool(config.threads());
+        try {
+            int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+            ReactiveReadServer reactiveServer = context.getBeanProvider(ReactiveReadServer.class).getIfAvailable();
+            if (reactiveServer == null && config.mix().keySet().stream().anyMatch(Operation::reactive)) {
+                throw new IllegalStateException("loadMix 에 reactive-* 연산이 있지만 리액티브 조회 서버가 비활성화되어 있습니다.");
+            }
+            LoadScenario scenario = new LoadScenario(port, reactiveServer != null ? reactiveServer.getPort() : null);
+            scenario.setUp(config.hospitals(), new Random(config.seed()));
+
+            LatencyReport report = new LatencyReport();
+            long startedAt = System.nanoTime();
+            long measureFrom = startedAt + config.warmup().toNanos();
+            long measureUntil = measureFrom + config.duration().toNanos();
+            long intervalNanos = config.rate() > 0 ? (long) (TimeUnit.SECONDS.toNanos(1) * config.threads() / config.rate()) : 0;
+
+            List<Future<?>> running = new ArrayList<>();
+            for (int i = 0; i < config.threads(); i++) {
+                Random random = new Random(config.seed() + i + 1);
+                running.add(workers.submit(() -> {
+                    run(scenario, report, config.mix(), random, startedAt, measureFrom, measureUntil, intervalNanos);
+                    return null;
+                }));
+            }
+            for (Future<?> worker : running) {
+                worker.get();
+            }
+
+            double measuredSeconds = config.duration().toNanos() / 1e9;
+            System.out.println(report.write(reportDir, config, measuredSeconds));
+            System.out.println("report: " + reportDir.resolve("load-test.txt").toAbsolutePath());
+        } finally {
+            workers.shutdownNow();
+            context.close();
+        }
+    }
+
+    private static void run(LoadScenario scenario, LatencyReport report, Map<Operation, Integer> mix, Random random,
+                            long startedAt, long measureFrom, long measureUntil, long intervalNanos) throws Exception {
+        List<Operation> weighted = new ArrayList<>();
+        mix.forEach((operation, weight) -> {
+            for (int i = 0; i < weight; i++) {
+                weighted.add(operation);
+            }
+        });
+
+        // 스레드마다 시작 시각을 어긋나게 해 요청이 한꺼번에 몰리지 않도록 함
+        long scheduled = startedAt + (intervalNanos > 0 ? (long) (random.nextDouble() * intervalNanos) : 0);
+        while (true) {
+            long now = System.nanoTime();
+            if (intervalNanos > 0 && scheduled > now) {
+                LockSupport.parkNanos(scheduled - now);
+            }
+            long start = intervalNanos > 0 ? scheduled : System.nanoTime();
+            if (start >= measureUntil) {
+                return;
+            }
+
+            Operation operation = weighted.get(random.nextInt(weighted.size()));
+            int status = scenario.execute(operation, random);
+            long end = System.nanoTime();
+            if (start >= measureFrom) {
+                report.record(operation, end - start, status);
+            }
+            scheduled += intervalNanos;
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package com.minlab.hospital.load;
+
+import java.util.Arrays;
+
+enum Operation {
+    REGISTER("register"),
+    SEARCH("search"),
+    VISIT_WRITE("visit-write"),
+    VISIT_READ("visit-read"),
+    PATIENT_READ("patient-read"),
+    // 같은 조회를 리액티브(WebFlux + R2DBC) 경로로 호출
+    REACTIVE_PATIENT_READ("reactive-patient-read"),
+    REACTIVE_SEARCH("reactive-search"),
+    REACTIVE_VISIT_READ("reactive-visit-read");
+
+    private final String key;
+
+    Operation(String key) {
+        this.key = key;
+    }
+
+    String key() {
+        return key;
+    }
+
+    static Operation of(String key) {
+        return Arrays.stream(values())
+                .filter(operation -> operation.key.equals(key))
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException("알 수 없는 연산: " + key + " (" + Arrays.toString(values()) + ")"));
+    }
+
+    boolean reactive() {
+        return name().startsWith("REACTIVE_");
+    }
+
+    @Override
+    public String toString() {
+        return key;
+    }
+}
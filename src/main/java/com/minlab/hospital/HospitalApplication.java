@@ -1,9 +1,12 @@
 package com.minlab.hospital;
 
+import com.minlab.hospital.config.NativeRuntimeHints;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.context.annotation.ImportRuntimeHints;
 
 @SpringBootApplication
+@ImportRuntimeHints(NativeRuntimeHints.class)
 public class HospitalApplication {
 
 	public static void main(String[] args) {
@@ -0,0 +1,73 @@
+package com.minlab.hospital.application.service;
+
+import com.minlab.hospital.application.support.ChangeFeedCursor;
+import com.minlab.hospital.domain.entity.OutboxEvent;
+import com.minlab.hospital.domain.repository.OutboxEventRepository;
+import com.minlab.hospital.domain.service.DataPartitions;
+import com.minlab.hospital.presentation.dto.response.ChangeEventResponseDto;
+import com.minlab.hospital.presentation.dto.response.ChangeFeedResponseDto;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 변경 피드 (outbox_event 조회)
+ * - 파티션(샤드)마다 별도 트랜잭션으로 조회하므로 클래스 단위 @Transactional 을 두지 않음
+ * - 커밋 순서로 부여된 피드 순번(OutboxSequencer) 순으로 반환하므로 늦게 커밋된 이벤트도 건너뛰지 않음
+ * - 순번 부여 전 이벤트는 다음 조회에서 반환 (부여 주기 hospital.outbox.sequence-interval-ms)
+ */
+@Service
+@RequiredArgsConstructor
+public class ChangeFeedService {
+
+    private static final int MAX_LIMIT = 1000;
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final DataPartitions dataPartitions;
+
+    /**
+     * since 이후 변경 이벤트 조회
+     */
+    public ChangeFeedResponseDto getChanges(String since, int limit) {
+        if (limit < 1 || limit > MAX_LIMIT) {
+            throw new IllegalArgumentException("limit 은 1~" + MAX_LIMIT + " 사이여야 합니다.");
+        }
+
+        ChangeFeedCursor cursor = ChangeFeedCursor.parse(since);
+
+        Map<Integer, Deque<OutboxEvent>> pending = new TreeMap<>();
+        int fetched = 0;
+        for (Integer partition : dataPartitions.ids()) {
+            List<OutboxEvent> events = dataPartitions.callOn(partition, () -> outboxEventRepository.findSequencedAfter(
+                    cursor.position(partition), PageRequest.of(0, limit + 1)));
+            pending.put(partition, new ArrayDeque<>(events));
+            fetched += events.size();
+        }
+
+        // 파티션별 순번 순서를 유지하며 기록 시각 순으로 병합 (파티션 안에서 건너뛰는 이벤트가 없어야 위치를 올릴 수 있음)
+        List<ChangeEventResponseDto> page = new ArrayList<>();
+        ChangeFeedCursor next = cursor;
+        while (page.size() < limit) {
+            Map.Entry<Integer, Deque<OutboxEvent>> earliest = pending.entrySet().stream()
+                    .filter(entry -> !entry.getValue().isEmpty())
+                    .min(Comparator.comparing(entry -> entry.getValue().peekFirst().getCreatedAt()))
+                    .orElse(null);
+            if (earliest == null) {
+                break;
+            }
+            OutboxEvent event = earliest.getValue().pollFirst();
+            page.add(ChangeEventResponseDto.fromEntity(event));
+            next = next.advance(earliest.getKey(), event.getFeedSeq());
+        }
+
+        return new ChangeFeedResponseDto(page, next.toString(), fetched > page.size());
+    }
+}
@@ -1,16 +1,19 @@
 package com.minlab.hospital.application.service;
 
+import com.minlab.hospital.application.support.ReadCoalescer;
 import com.minlab.hospital.domain.entity.Hospital;
 import com.minlab.hospital.domain.repository.HospitalRepository;
+import com.minlab.hospital.domain.service.HospitalReplicator;
 import com.minlab.hospital.presentation.dto.request.HospitalRequestDto;
 import com.minlab.hospital.presentation.dto.response.HospitalResponseDto;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
-import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
@@ -18,6 +21,9 @@ import java.util.stream.Collectors;
 public class HospitalService {
 
     private final HospitalRepository hospitalRepository;
+    // 샤딩 사용 시에만 존재
+    private final ObjectProvider<HospitalReplicator> hospitalReplicator;
+    private final ReadCoalescer readCoalescer;
 
     /**
      * 병원 등록
@@ -31,6 +37,7 @@ public class HospitalService {
                 .build();
 
         Hospital saved = hospitalRepository.save(hospital);
+        hospitalReplicator.ifAvailable(replicator -> replicator.replicate(saved));
         return HospitalResponseDto.fromEntity(saved);
     }
 
@@ -45,6 +52,7 @@ public class HospitalService {
         hospital.setName(requestDto.getName());
         hospital.setProviderNumber(requestDto.getProviderNumber());
         hospital.setDoctorName(requestDto.getDoctorName());
+        hospitalReplicator.ifAvailable(replicator -> replicator.replicate(hospital));
 
         return HospitalResponseDto.fromEntity(hospital);
     }
@@ -58,6 +66,7 @@ public class HospitalService {
                 .orElseThrow(() -> new EntityNotFoundException("해당 병원이 존재하지 않습니다. id"));
 
         hospitalRepository.delete(hospital);
+        hospitalReplicator.ifAvailable(replicator -> replicator.remove(hospitalId));
     }
 
     /**
@@ -71,13 +80,14 @@ public class HospitalService {
     }
 
     /**
-     * 전체 조회
+     * 전체 조회 (동시 동일 요청은 조회 1회로 처리)
      */
+    @Transactional(propagation = Propagation.SUPPORTS) // 트랜잭션은 ReadCoalescer 에서 leader 만 시작
     public List<HospitalResponseDto> getAllHospitals() {
-        return hospitalRepository.findAll()
+        return readCoalescer.load(List.of("hospitals"), () -> hospitalRepository.findAll()
                 .stream()
                 .map(HospitalResponseDto::fromEntity)
-                .collect(Collectors.toList());
+                .toList());
     }
 
 }
@@ -0,0 +1,106 @@
+package com.minlab.hospital.application.service;
+
+import com.minlab.hospital.application.support.DeletedPatientAccess;
+import com.minlab.hospital.application.support.OutboxRecorder;
+import com.minlab.hospital.domain.entity.OutboxEvent;
+import com.minlab.hospital.domain.entity.Patient;
+import com.minlab.hospital.domain.entity.Visit;
+import com.minlab.hospital.domain.repository.PatientRepository;
+import com.minlab.hospital.domain.repository.VisitRepository;
+import com.minlab.hospital.domain.service.DataPartitions;
+import com.minlab.hospital.domain.service.PatientLocator;
+import com.minlab.hospital.presentation.dto.response.VisitResponseDto;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 삭제 환자 영구 삭제 (삭제 후 보관 기간이 지난 환자와 방문)
+ * - 파티션(샤드)마다 배치 단위 트랜잭션으로 처리, 영구 삭제 전까지는 복원 가능
+ * - 영구 삭제된 환자는 증분 동기화에 나타나지 않으므로 보관 기간은 클라이언트 동기화 주기보다 길게 설정
+ * - 함께 삭제되는 방문은 변경 이벤트(DELETED)로 전달, 환자 위치 정보는 커밋 후 제거
+ * - 환자 순번/변경 순번은 병원 행 카운터에서 부여하므로 영구 삭제 후에도 재사용되지 않음
+ */
+@Slf4j
+@Service
+public class PatientPurgeService {
+
+    private static final int BATCH_SIZE = 500;
+
+    private final PatientRepository patientRepository;
+    private final VisitRepository visitRepository;
+    private final DataPartitions dataPartitions;
+    private final DeletedPatientAccess deletedPatientAccess;
+    private final OutboxRecorder outboxRecorder;
+    private final PatientLocator patientLocator;
+    private final TransactionTemplate transaction;
+    private final Duration retention;
+
+    public PatientPurgeService(PatientRepository patientRepository, VisitRepository visitRepository,
+                               DataPartitions dataPartitions, DeletedPatientAccess deletedPatientAccess,
+                               OutboxRecorder outboxRecorder, PatientLocator patientLocator,
+                               PlatformTransactionManager transactionManager,
+                               @Value("${hospital.patient.purge-retention:30d}") Duration retention) {
+        this.patientRepository = patientRepository;
+        this.visitRepository = visitRepository;
+        this.dataPartitions = dataPartitions;
+        this.deletedPatientAccess = deletedPatientAccess;
+        this.outboxRecorder = outboxRecorder;
+        this.patientLocator = patientLocator;
+        this.transaction = new TransactionTemplate(transactionManager);
+        this.retention = retention;
+    }
+
+    @Scheduled(fixedDelayString = "${hospital.patient.purge-ms:3600000}")
+    public void purge() {
+        int purged = purgeDeletedBefore(LocalDateTime.now().minus(retention));
+        if (purged > 0) {
+            log.info("[purge] 삭제 환자 {}명 영구 삭제 (보관 기간 {})", purged, retention);
+        }
+    }
+
+    public int purgeDeletedBefore(LocalDateTime threshold) {
+        int total = 0;
+        for (Integer partition : dataPartitions.ids()) {
+            while (true) {
+                List<Long> purged = dataPartitions.callOn(partition, () -> transaction.execute(
+                        status -> deletedPatientAccess.includingDeleted(() -> purgeBatch(threshold))));
+                if (purged == null || purged.isEmpty()) {
+                    break;
+                }
+                patientLocator.remove(purged);
+                total += purged.size();
+                if (purged.size() < BATCH_SIZE) {
+                    break;
+                }
+            }
+        }
+        return total;
+    }
+
+    private List<Long> purgeBatch(LocalDateTime threshold) {
+        List<Long> ids = patientRepository.findPurgeable(threshold, PageRequest.of(0, BATCH_SIZE))
+                .stream()
+                .map(Patient::getId)
+                .toList();
+        if (ids.isEmpty()) {
+            return ids;
+        }
+
+        for (Visit visit : visitRepository.findByPatientIdIn(ids)) {
+            outboxRecorder.record(OutboxEvent.AggregateType.VISIT, visit.getId(), visit.getHospital().getId(),
+                    OutboxEvent.EventType.DELETED, VisitResponseDto.fromEntity(visit));
+        }
+        visitRepository.deleteByPatientIdIn(ids);
+        patientRepository.deleteByIdIn(ids);
+        return ids;
+    }
+}
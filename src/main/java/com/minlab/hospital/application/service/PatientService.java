@@ -1,48 +1,83 @@
 package com.minlab.hospital.application.service;
 
+import com.minlab.hospital.application.support.AsyncSearchExecutor;
+import com.minlab.hospital.application.support.DeletedPatientAccess;
+import com.minlab.hospital.application.support.OutboxRecorder;
+import com.minlab.hospital.application.support.PatientCache;
+import com.minlab.hospital.application.support.ReadCoalescer;
+import com.minlab.hospital.domain.code.Code;
+import com.minlab.hospital.domain.code.CodeTable;
+import com.minlab.hospital.domain.code.CodeType;
 import com.minlab.hospital.domain.entity.Hospital;
+import com.minlab.hospital.domain.entity.OutboxEvent;
 import com.minlab.hospital.domain.entity.Patient;
 import com.minlab.hospital.domain.entity.QPatient;
 import com.minlab.hospital.domain.entity.QVisit;
+import com.minlab.hospital.domain.repository.CappedPage;
 import com.minlab.hospital.domain.repository.HospitalRepository;
 import com.minlab.hospital.domain.repository.PatientRepository;
+import com.minlab.hospital.domain.repository.VisitRepository;
+import com.minlab.hospital.domain.service.PatientLocator;
 import com.minlab.hospital.domain.service.PatientNumberGenerator;
+import com.minlab.hospital.infrastructure.profiling.PatientSeqWaitEvent;
 import com.minlab.hospital.presentation.dto.request.PatientRequestDto;
 import com.minlab.hospital.presentation.dto.request.PatientSearchRequestDto;
+import com.minlab.hospital.presentation.dto.response.BatchGetResponseDto;
+import com.minlab.hospital.presentation.dto.response.PatientChangeResponseDto;
+import com.minlab.hospital.presentation.dto.response.PatientChangesResponseDto;
+import com.minlab.hospital.presentation.dto.response.PatientDetailResponseDto;
 import com.minlab.hospital.presentation.dto.response.PatientResponseDto;
 import com.minlab.hospital.presentation.dto.response.PatientSearchResponseDto;
+import com.minlab.hospital.presentation.dto.response.VisitResponseDto;
 import com.querydsl.core.Tuple;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
 
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
 public class PatientService {
 
+    private static final int MAX_CHANGES_LIMIT = 1000;
+    private static final int MAX_RECENT_VISITS = 50;
+
     private final PatientRepository patientRepository;
+    private final VisitRepository visitRepository;
     private final HospitalRepository hospitalRepository;
     private final PatientNumberGenerator generator;
+    private final PatientLocator patientLocator;
+    private final ReadCoalescer readCoalescer;
+    private final PatientCache patientCache;
+    private final OutboxRecorder outboxRecorder;
+    private final DeletedPatientAccess deletedPatientAccess;
+    private final AsyncSearchExecutor asyncSearchExecutor;
+    private final CodeTable codeTable;
 
     /**
      * 환자 등록
      */
     @Transactional
     public PatientResponseDto registerPatient(Long hospitalId, PatientRequestDto requestDto) {
-        Hospital hospital = hospitalRepository.findById(hospitalId)
+        PatientSeqWaitEvent seqWait = new PatientSeqWaitEvent();
+        seqWait.begin();
+        Hospital hospital = hospitalRepository.findByIdForUpdate(hospitalId)
                 .orElseThrow(() -> new EntityNotFoundException("해당 병원을 찾을 수 없습니다."));
 
-        // 병원별 max seq 조회
-        Long maxSeq = patientRepository.findMaxSeqByHospitalForUpdate(hospitalId);
-        long nextSeq = (maxSeq == null ? 1: maxSeq + 1);
+        // 병원별 다음 순번 (병원 행 카운터, 영구 삭제된 환자의 순번도 재사용하지 않음)
+        long nextSeq = hospital.nextPatientSeq();
+        seqWait.record(hospitalId, nextSeq);
 
         // 환자 번호 생성
         String patientNumber = generator.generate(hospitalId, nextSeq);
@@ -52,13 +87,19 @@ public class PatientService {
                 .seq(nextSeq)
                 .patientNumber(patientNumber)
                 .name(requestDto.getName())
-                .gender(requestDto.getGender())
+                .gender(codeTable.fromLabel(CodeType.GENDER, requestDto.getGender()))
                 .birthDate(requestDto.getBirthDate())
                 .phone(requestDto.getPhone())
                 .address(requestDto.getAddress())
+                .changeSeq(hospital.nextChangeSeq())
                 .build();
 
-        return PatientResponseDto.fromEntity(patientRepository.save(patient));
+        Patient saved = patientRepository.save(patient);
+        patientLocator.register(saved.getId(), hospitalId);
+
+        PatientResponseDto response = PatientResponseDto.fromEntity(saved);
+        outboxRecorder.record(OutboxEvent.AggregateType.PATIENT, saved.getId(), hospitalId, OutboxEvent.EventType.CREATED, response);
+        return response;
     }
 
     /**
@@ -66,17 +107,21 @@ public class PatientService {
      */
     @Transactional
     public PatientResponseDto updatePatient(Long hospitalId, Long patientId, PatientRequestDto requestDto) {
-        Patient patient = patientRepository.findByHospital_IdAndIdAndStatus(hospitalId, patientId, 'A')
+        Patient patient = patientRepository.findByHospital_IdAndId(hospitalId, patientId)
                 .orElseThrow(() -> new EntityNotFoundException("해당 병원에서 환자를 찾을 수 없습니다."));
 
         // 환자등록번호는 변경 불가 (비즈니스 규칙)
         patient.setName(requestDto.getName());
-        patient.setGender(requestDto.getGender());
+        patient.setGender(codeTable.fromLabel(CodeType.GENDER, requestDto.getGender()));
         patient.setBirthDate(requestDto.getBirthDate());
         patient.setPhone(requestDto.getPhone());
         patient.setAddress(requestDto.getAddress());
+        patient.setChangeSeq(nextChangeSeq(hospitalId));
+        patientCache.invalidate(hospitalId, patientId, patient.getPatientNumber());
 
-        return PatientResponseDto.fromEntity(patient);
+        PatientResponseDto response = PatientResponseDto.fromEntity(patient);
+        outboxRecorder.record(OutboxEvent.AggregateType.PATIENT, patientId, hospitalId, OutboxEvent.EventType.UPDATED, response);
+        return response;
     }
 
     /**
@@ -84,46 +129,165 @@ public class PatientService {
      */
     @Transactional
     public void deletePatient(Long hospitalId, Long patientId) {
-        Patient patient = patientRepository.findByHospital_IdAndIdAndStatus(hospitalId, patientId, 'A')
+        Patient patient = patientRepository.findByHospital_IdAndId(hospitalId, patientId)
                 .orElseThrow(() -> new EntityNotFoundException("해당 병원에서 환자를 찾을 수 없습니다."));
 
         patient.softDelete();
+        patient.setChangeSeq(nextChangeSeq(hospitalId));
+        patientCache.invalidate(hospitalId, patientId, patient.getPatientNumber());
+        outboxRecorder.record(OutboxEvent.AggregateType.PATIENT, patientId, hospitalId, OutboxEvent.EventType.DELETED,
+                PatientResponseDto.fromEntity(patient));
     }
 
     /**
-     * 환자 단건 조회
+     * 삭제된 환자 복원 (영구 삭제 전까지, 증분 동기화/변경 이벤트에는 수정으로 전달)
      */
+    @Transactional
+    public PatientResponseDto restorePatient(Long hospitalId, Long patientId) {
+        Patient patient = deletedPatientAccess.includingDeleted(() -> patientRepository.findByHospital_IdAndId(hospitalId, patientId))
+                .filter(found -> !found.isActive())
+                .orElseThrow(() -> new EntityNotFoundException("해당 병원에서 삭제된 환자를 찾을 수 없습니다."));
+
+        patient.restore();
+        patient.setChangeSeq(nextChangeSeq(hospitalId));
+        patientCache.invalidate(hospitalId, patientId, patient.getPatientNumber());
+
+        PatientResponseDto response = PatientResponseDto.fromEntity(patient);
+        outboxRecorder.record(OutboxEvent.AggregateType.PATIENT, patientId, hospitalId, OutboxEvent.EventType.UPDATED, response);
+        return response;
+    }
+
+    /**
+     * 환자 단건 조회 (캐시, 동시 동일 요청은 조회 1회로 처리)
+     */
+    @Transactional(propagation = Propagation.SUPPORTS) // 트랜잭션은 ReadCoalescer 에서 leader 만 시작
     public PatientResponseDto getPatient(Long hospitalId, Long patientId) {
-        Patient patient = patientRepository.findByHospital_IdAndIdAndStatus(hospitalId, patientId, 'A')
-                .orElseThrow(() -> new EntityNotFoundException("해당 병원에서 환자를 찾을 수 없습니다."));
+        return patientCache.get(hospitalId, patientId, () -> readCoalescer.load(List.of("patient", hospitalId, patientId), () -> {
+            Patient patient = patientRepository.findByHospital_IdAndId(hospitalId, patientId)
+                    .orElseThrow(() -> new EntityNotFoundException("해당 병원에서 환자를 찾을 수 없습니다."));
+
+            return PatientResponseDto.fromEntity(patient);
+        }));
+    }
+
+    /**
+     * 환자등록번호로 단건 조회 (캐시, 동시 동일 요청은 조회 1회로 처리)
+     */
+    @Transactional(propagation = Propagation.SUPPORTS) // 트랜잭션은 ReadCoalescer 에서 leader 만 시작
+    public PatientResponseDto getPatientByNumber(Long hospitalId, String patientNumber) {
+        return patientCache.getByNumber(hospitalId, patientNumber, () -> readCoalescer.load(List.of("patientByNumber", hospitalId, patientNumber), () -> {
+            Patient patient = patientRepository.findByNaturalId(hospitalId, patientNumber)
+                    .filter(Patient::isActive)
+                    .orElseThrow(() -> new EntityNotFoundException("해당 병원에서 환자를 찾을 수 없습니다."));
 
-        return PatientResponseDto.fromEntity(patient);
+            return PatientResponseDto.fromEntity(patient);
+        }));
     }
 
     /**
-     * 환자 전체 조회
+     * 환자 전체 조회 (동시 동일 요청은 조회 1회로 처리)
      */
+    @Transactional(propagation = Propagation.SUPPORTS) // 트랜잭션은 ReadCoalescer 에서 leader 만 시작
     public List<PatientResponseDto> getAllPatients(Long hospitalId) {
-        // 병원 존재 여부 확인
-        if (!hospitalRepository.existsById(hospitalId)) {
-            throw new EntityNotFoundException("해당 병원을 찾을 수 없습니다.");
+        return readCoalescer.load(List.of("patients", hospitalId), () -> {
+            // 병원 존재 여부 확인
+            if (!hospitalRepository.existsById(hospitalId)) {
+                throw new EntityNotFoundException("해당 병원을 찾을 수 없습니다.");
+            }
+
+            return patientRepository.findByHospital_Id(hospitalId)
+                    .stream()
+                    .map(PatientResponseDto::fromEntity)
+                    .toList();
+        });
+    }
+
+    /**
+     * 환자 상세 (환자 + 최근 방문 + 진료 과목별 방문 수, 한 트랜잭션에서 쿼리 2회)
+     */
+    public PatientDetailResponseDto getPatientDetail(Long hospitalId, Long patientId, int recentVisits) {
+        if (recentVisits < 1 || recentVisits > MAX_RECENT_VISITS) {
+            throw new IllegalArgumentException("recentVisits 는 1~" + MAX_RECENT_VISITS + " 사이여야 합니다.");
+        }
+
+        List<Tuple> rows = patientRepository.findPatientWithVisitCounts(hospitalId, patientId);
+        if (rows.isEmpty()) {
+            throw new EntityNotFoundException("해당 병원에서 환자를 찾을 수 없습니다.");
+        }
+
+        Patient patient = rows.get(0).get(QPatient.patient);
+        Map<String, Long> countsByCategory = new TreeMap<>();
+        for (Tuple row : rows) {
+            Code category = row.get(QVisit.visit.visitCategory);
+            if (category != null) {
+                countsByCategory.put(category.label(), row.get(QVisit.visit.id.count()));
+            }
         }
+        long totalVisits = countsByCategory.values().stream().mapToLong(Long::longValue).sum();
+
+        // 방문의 patient 는 위에서 조회한 영속 엔티티를 사용 (추가 조회 없음)
+        List<VisitResponseDto> visits = visitRepository.findByPatient_IdOrderByVisitDateDescIdDesc(patientId, PageRequest.of(0, recentVisits))
+                .stream()
+                .map(VisitResponseDto::fromEntity)
+                .toList();
 
-        return patientRepository.findByHospital_IdAndStatus(hospitalId, 'A')
+        return new PatientDetailResponseDto(PatientResponseDto.fromEntity(patient), visits, countsByCategory, totalVisits);
+    }
+
+    /**
+     * 환자 여러 명 조회 (IN 쿼리 1회, 요청 순서 유지, 없는 ID 는 missing 으로 반환)
+     */
+    public BatchGetResponseDto<PatientResponseDto> getPatients(Long hospitalId, List<Long> patientIds) {
+        List<PatientResponseDto> found = patientRepository.findByHospital_IdAndIdIn(hospitalId, Set.copyOf(patientIds))
                 .stream()
                 .map(PatientResponseDto::fromEntity)
-                .collect(Collectors.toList());
+                .toList();
+
+        return BatchGetResponseDto.of(patientIds, found, PatientResponseDto::id);
+    }
+
+    /**
+     * 증분 동기화: since(변경 순번) 이후 등록/수정/삭제된 환자
+     */
+    public PatientChangesResponseDto getPatientChanges(Long hospitalId, long since, int limit) {
+        if (limit < 1 || limit > MAX_CHANGES_LIMIT) {
+            throw new IllegalArgumentException("limit 은 1~" + MAX_CHANGES_LIMIT + " 사이여야 합니다.");
+        }
+        if (!hospitalRepository.existsById(hospitalId)) {
+            throw new EntityNotFoundException("해당 병원을 찾을 수 없습니다.");
+        }
+
+        List<Patient> changed = deletedPatientAccess.includingDeleted(() -> patientRepository
+                .findByHospital_IdAndChangeSeqGreaterThanOrderByChangeSeq(hospitalId, since, PageRequest.of(0, limit + 1)));
+        boolean hasMore = changed.size() > limit;
+        List<PatientChangeResponseDto> changes = changed.stream()
+                .limit(limit)
+                .map(PatientChangeResponseDto::fromEntity)
+                .toList();
+        long next = changes.isEmpty() ? since : changes.get(changes.size() - 1).changeSeq();
+
+        return new PatientChangesResponseDto(changes, next, hasMore);
     }
 
     /**
-     * 환자 목록 조회 (조건 + 페이징)
+     * 환자 목록 조회 (조건 + 페이징) - 검색 전용 스레드에서 실행, future 취소 시 실행 중인 쿼리 취소
      */
-    public Page<PatientSearchResponseDto> searchPatients(Long hospitalId, PatientSearchRequestDto condition, Pageable pageable) {
+    @Transactional(propagation = Propagation.NOT_SUPPORTED) // 트랜잭션은 AsyncSearchExecutor 작업 스레드에서 시작
+    public CompletableFuture<CappedPage<PatientSearchResponseDto>> searchPatientsAsync(
+            Long hospitalId, PatientSearchRequestDto condition, Pageable pageable) {
+        return asyncSearchExecutor.submit(() -> searchPatients(hospitalId, condition, pageable));
+    }
+
+    /**
+     * 환자 목록 조회 (조건 + 페이징, 조건에 맞는 행은 hospital.search.max-rows 까지)
+     */
+    public CappedPage<PatientSearchResponseDto> searchPatients(Long hospitalId, PatientSearchRequestDto condition, Pageable pageable) {
         if (!hospitalRepository.existsById(hospitalId)) {
             throw new EntityNotFoundException("해당 병원을 찾을 수 없습니다.");
         }
 
-        Page<Tuple> page = patientRepository.searchPatients(hospitalId, condition, pageable);
+        CappedPage<Tuple> page = patientRepository.searchPatients(hospitalId, condition, pageable,
+                asyncSearchExecutor.maxRows(), asyncSearchExecutor.queryTimeout());
 
         return page.map(tuple -> {
             Patient patient = tuple.get(QPatient.patient);
@@ -132,4 +296,13 @@ public class PatientService {
         });
     }
 
+    /**
+     * 병원 행을 잠그고 다음 변경 순번 부여 (같은 병원의 변경은 커밋 순서대로 순번 증가 → 동기화 시 누락 없음)
+     */
+    private long nextChangeSeq(Long hospitalId) {
+        return hospitalRepository.findByIdForUpdate(hospitalId)
+                .orElseThrow(() -> new EntityNotFoundException("해당 병원을 찾을 수 없습니다."))
+                .nextChangeSeq();
+    }
+
 }
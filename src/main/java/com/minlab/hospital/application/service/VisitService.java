@@ -1,19 +1,30 @@
 package com.minlab.hospital.application.service;
 
+import com.minlab.hospital.application.support.OutboxRecorder;
+import com.minlab.hospital.application.support.ReadCoalescer;
+import com.minlab.hospital.domain.code.CodeTable;
+import com.minlab.hospital.domain.code.CodeType;
+import com.minlab.hospital.domain.entity.OutboxEvent;
 import com.minlab.hospital.domain.entity.Patient;
 import com.minlab.hospital.domain.entity.Visit;
 import com.minlab.hospital.domain.repository.PatientRepository;
 import com.minlab.hospital.domain.repository.VisitRepository;
+import com.minlab.hospital.infrastructure.profiling.VisitWriteEvent;
 import com.minlab.hospital.presentation.dto.request.VisitRequestDto;
+import com.minlab.hospital.presentation.dto.response.BatchGetResponseDto;
 import com.minlab.hospital.presentation.dto.response.VisitResponseDto;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 @Service
@@ -23,25 +34,34 @@ public class VisitService {
 
     private final VisitRepository visitRepository;
     private final PatientRepository patientRepository;
+    private final ReadCoalescer readCoalescer;
+    private final OutboxRecorder outboxRecorder;
+    private final CodeTable codeTable;
 
     /**
      * 방문 등록
      */
     @Transactional
     public VisitResponseDto registerVisit(Long patientId, VisitRequestDto requestDto) {
-        Patient patient = patientRepository.findById(patientId)
+        VisitWriteEvent event = new VisitWriteEvent();
+        event.begin();
+        Patient patient = patientRepository.findOneById(patientId)
                 .orElseThrow(() -> new EntityNotFoundException("해당 환자를 찾을 수 없습니다."));
 
         Visit visit = Visit.builder()
                 .patient(patient)
                 .hospital(patient.getHospital()) // 환자에서 병원 가져오기
                 .visitDate(requestDto.getVisitDate())
-                .visitStatus(requestDto.getVisitStatus())
-                .visitType(requestDto.getVisitType())
-                .visitCategory(requestDto.getVisitCategory())
+                .visitStatus(codeTable.fromLabel(CodeType.VISIT_STATUS, requestDto.getVisitStatus()))
+                .visitType(codeTable.fromLabel(CodeType.VISIT_TYPE, requestDto.getVisitType()))
+                .visitCategory(codeTable.fromLabel(CodeType.VISIT_CATEGORY, requestDto.getVisitCategory()))
                 .build();
 
-        return VisitResponseDto.fromEntity(visitRepository.save(visit));
+        Visit saved = visitRepository.save(visit);
+        VisitResponseDto response = VisitResponseDto.fromEntity(saved);
+        outboxRecorder.record(OutboxEvent.AggregateType.VISIT, saved.getId(), patient.getHospital().getId(), OutboxEvent.EventType.CREATED, response);
+        event.record("register", patient.getHospital().getId(), saved.getId());
+        return response;
     }
 
     /**
@@ -49,15 +69,20 @@ public class VisitService {
      */
     @Transactional
     public VisitResponseDto updateVisit(Long visitId, VisitRequestDto requestDto) {
-        Visit visit = visitRepository.findById(visitId)
+        VisitWriteEvent event = new VisitWriteEvent();
+        event.begin();
+        Visit visit = visitRepository.findActiveById(visitId)
                 .orElseThrow(() -> new EntityNotFoundException("해당 방문을 찾을 수 없습니다."));
 
         visit.setVisitDate(requestDto.getVisitDate());
-        visit.setVisitStatus(requestDto.getVisitStatus());
-        visit.setVisitType(requestDto.getVisitType());
-        visit.setVisitCategory(requestDto.getVisitCategory());
-
-        return VisitResponseDto.fromEntity(visit);
+        visit.setVisitStatus(codeTable.fromLabel(CodeType.VISIT_STATUS, requestDto.getVisitStatus()));
+        visit.setVisitType(codeTable.fromLabel(CodeType.VISIT_TYPE, requestDto.getVisitType()));
+        visit.setVisitCategory(codeTable.fromLabel(CodeType.VISIT_CATEGORY, requestDto.getVisitCategory()));
+
+        VisitResponseDto response = VisitResponseDto.fromEntity(visit);
+        outboxRecorder.record(OutboxEvent.AggregateType.VISIT, visitId, visit.getHospital().getId(), OutboxEvent.EventType.UPDATED, response);
+        event.record("update", visit.getHospital().getId(), visitId);
+        return response;
     }
 
     /**
@@ -65,31 +90,62 @@ public class VisitService {
      */
     @Transactional
     public void deleteVisit(Long visitId) {
-        Visit visit = visitRepository.findById(visitId)
+        VisitWriteEvent event = new VisitWriteEvent();
+        event.begin();
+        Visit visit = visitRepository.findActiveById(visitId)
                 .orElseThrow(() -> new EntityNotFoundException("해당 방문을 찾을 수 없습니다."));
 
+        outboxRecorder.record(OutboxEvent.AggregateType.VISIT, visitId, visit.getHospital().getId(), OutboxEvent.EventType.DELETED,
+                VisitResponseDto.fromEntity(visit));
         visitRepository.delete(visit);
+        event.record("delete", visit.getHospital().getId(), visitId);
     }
 
     /**
      * 방문 단건 조회
      */
     public VisitResponseDto getVisit(Long visitId) {
-        Visit visit = visitRepository.findById(visitId)
+        Visit visit = visitRepository.findActiveById(visitId)
                 .orElseThrow(() -> new EntityNotFoundException("해당 방문을 찾을 수 없습니다."));
         return VisitResponseDto.fromEntity(visit);
     }
 
     /**
-     * 특정 환자 방문 전체 조회
+     * 병원의 방문 여러 건 조회 (IN 쿼리 1회, 요청 순서 유지, 없는 ID 는 missing 으로 반환)
+     */
+    public BatchGetResponseDto<VisitResponseDto> getVisits(Long hospitalId, List<Long> visitIds) {
+        List<VisitResponseDto> found = visitRepository.findByHospitalIdAndIdIn(hospitalId, Set.copyOf(visitIds))
+                .stream()
+                .map(VisitResponseDto::fromEntity)
+                .toList();
+
+        return BatchGetResponseDto.of(visitIds, found, VisitResponseDto::id);
+    }
+
+    /**
+     * 특정 환자 방문 전체 조회 (동시 동일 요청은 조회 1회로 처리)
      */
+    @Transactional(propagation = Propagation.SUPPORTS) // 트랜잭션은 ReadCoalescer 에서 leader 만 시작
     public Page<VisitResponseDto> getVisitsByPatient(Long patientId, Pageable pageable) {
-        if (!patientRepository.existsById(patientId)) {
-            throw new EntityNotFoundException("해당 환자를 찾을 수 없습니다.");
-        }
+        return readCoalescer.load(List.of("visitsByPatient", patientId, pageable), () -> {
+            if (!patientRepository.existsById(patientId)) {
+                throw new EntityNotFoundException("해당 환자를 찾을 수 없습니다.");
+            }
+
+            Page<Visit> visitPage = visitRepository.findByPatient_Id(patientId, orderedById(pageable));
 
-        Page<Visit> visitPage = visitRepository.findByPatient_Id(patientId, pageable);
+            return visitPage.map(VisitResponseDto::fromEntity);
+        });
+    }
 
-        return visitPage.map(VisitResponseDto::fromEntity);
+    /**
+     * 요청 정렬 뒤에 id 오름차순을 추가 (정렬 미지정/같은 값이어도 페이지 간 순서 고정, 리액티브 경로와 동일)
+     */
+    private static Pageable orderedById(Pageable pageable) {
+        Sort sort = pageable.getSort();
+        if (sort.getOrderFor("id") == null) {
+            sort = sort.and(Sort.by("id"));
+        }
+        return PageRequest.of(pageable.getPageNumber(), pageable.getPageSize(), sort);
     }
 }
@@ -0,0 +1,145 @@
+package com.minlab.hospital.application.support;
+
+import com.minlab.hospital.infrastructure.query.QueryCounter;
+import com.minlab.hospital.infrastructure.replica.ReadYourWrites;
+import com.minlab.hospital.infrastructure.sharding.ShardContext;
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
+import jakarta.persistence.EntityManager;
+import org.hibernate.Session;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+
+/**
+ * 검색 전용 비동기 실행기 (요청 스레드는 검색 결과를 기다리지 않고 반환)
+ * - 전용 스레드 풀에서 readOnly 트랜잭션으로 실행, 풀과 대기열이 모두 차면 즉시 거절 (TaskRejectedException)
+ * - 요청 스레드의 샤드 / read-your-writes / 쿼리 집계 / 추적 컨텍스트를 작업 스레드로 전달
+ * - 반환된 future 를 cancel 하면 실행 중인 JDBC 문장 취소 (Session.cancelQuery)
+ */
+@Component
+public class AsyncSearchExecutor implements DisposableBean {
+
+    private final ThreadPoolTaskExecutor executor;
+    private final TransactionTemplate readOnlyTransaction;
+    private final EntityManager entityManager;
+    private final ObservationRegistry observationRegistry;
+    private final int maxRows;
+    private final Duration queryTimeout;
+
+    public AsyncSearchExecutor(PlatformTransactionManager transactionManager,
+                               EntityManager entityManager,
+                               ObservationRegistry observationRegistry,
+                               @Value("${hospital.search.threads:8}") int threads,
+                               @Value("${hospital.search.queue-capacity:64}") int queueCapacity,
+                               @Value("${hospital.search.max-rows:1000}") int maxRows,
+                               @Value("${hospital.search.query-timeout:3s}") Duration queryTimeout) {
+        if (queryTimeout.toSeconds() < 1) {
+            throw new IllegalArgumentException("hospital.search.query-timeout 은 1초 이상이어야 합니다. (JDBC 제한 시간은 초 단위)");
+        }
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.entityManager = entityManager;
+        this.observationRegistry = observationRegistry;
+        this.maxRows = maxRows;
+        this.queryTimeout = queryTimeout;
+
+        this.executor = new ThreadPoolTaskExecutor();
+        this.executor.setThreadNamePrefix("search-");
+        this.executor.setCorePoolSize(threads);
+        this.executor.setMaxPoolSize(threads);
+        this.executor.setQueueCapacity(queueCapacity);
+        this.executor.setTaskDecorator(this::propagateContext);
+        this.executor.initialize();
+    }
+
+    public <T> CompletableFuture<T> submit(Supplier<T> search) {
+        QueryCancellation cancellation = new QueryCancellation();
+        CompletableFuture<T> future = CompletableFuture.supplyAsync(() -> readOnlyTransaction.execute(status -> {
+            cancellation.bind(entityManager.unwrap(Session.class));
+            try {
+                return search.get();
+            } finally {
+                cancellation.unbind();
+            }
+        }), executor);
+
+        future.whenComplete((result, error) -> {
+            if (future.isCancelled()) {
+                cancellation.cancel();
+            }
+        });
+        return future;
+    }
+
+    public int maxRows() {
+        return maxRows;
+    }
+
+    public Duration queryTimeout() {
+        return queryTimeout;
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdown();
+    }
+
+    // 제출 시점(요청 스레드)에 호출
+    private Runnable propagateContext(Runnable task) {
+        Integer shard = ShardContext.current();
+        boolean pinned = ReadYourWrites.isPinned();
+        Observation observation = observationRegistry.getCurrentObservation();
+        Runnable counted = QueryCounter.propagate(task);
+
+        return () -> {
+            if (shard != null) {
+                ShardContext.set(shard);
+            }
+            if (pinned) {
+                ReadYourWrites.pin();
+            }
+            try (Observation.Scope scope = observation != null ? observation.openScope() : null) {
+                counted.run();
+            } finally {
+                ShardContext.clear();
+                ReadYourWrites.clear();
+            }
+        };
+    }
+
+    /**
+     * 작업 스레드의 Session 과 취소 요청 연결 (작업 시작 전에 취소되면 조회하지 않음)
+     */
+    private static final class QueryCancellation {
+
+        private Session session;
+        private boolean cancelled;
+
+        synchronized void bind(Session session) {
+            if (cancelled) {
+                throw new CancellationException("검색이 취소되었습니다.");
+            }
+            this.session = session;
+        }
+
+        synchronized void unbind() {
+            session = null;
+        }
+
+        synchronized void cancel() {
+            cancelled = true;
+            if (session != null) {
+                session.cancelQuery();
+            }
+        }
+    }
+}
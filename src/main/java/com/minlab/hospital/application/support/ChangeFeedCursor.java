@@ -0,0 +1,57 @@
+package com.minlab.hospital.application.support;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+
+/**
+ * 변경 피드 위치: 파티션별 마지막으로 받은 이벤트의 피드 순번
+ * - 형식: "0:120,1:87" (샤딩 미사용 시 "0:120", 숫자만 있으면 파티션 0)
+ */
+public final class ChangeFeedCursor {
+
+    private final Map<Integer, Long> positions;
+
+    private ChangeFeedCursor(Map<Integer, Long> positions) {
+        this.positions = positions;
+    }
+
+    public static ChangeFeedCursor parse(String token) {
+        Map<Integer, Long> positions = new TreeMap<>();
+        if (token == null || token.isBlank()) {
+            return new ChangeFeedCursor(positions);
+        }
+
+        try {
+            for (String part : token.split(",")) {
+                int separator = part.indexOf(':');
+                if (separator < 0) {
+                    positions.put(0, Long.parseLong(part.trim()));
+                } else {
+                    positions.put(Integer.parseInt(part.substring(0, separator).trim()),
+                            Long.parseLong(part.substring(separator + 1).trim()));
+                }
+            }
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("since 값이 올바르지 않습니다: " + token);
+        }
+        return new ChangeFeedCursor(positions);
+    }
+
+    public long position(int partition) {
+        return positions.getOrDefault(partition, 0L);
+    }
+
+    public ChangeFeedCursor advance(int partition, long seq) {
+        Map<Integer, Long> advanced = new TreeMap<>(positions);
+        advanced.merge(partition, seq, Math::max);
+        return new ChangeFeedCursor(advanced);
+    }
+
+    @Override
+    public String toString() {
+        return positions.entrySet().stream()
+                .map(entry -> entry.getKey() + ":" + entry.getValue())
+                .collect(Collectors.joining(","));
+    }
+}
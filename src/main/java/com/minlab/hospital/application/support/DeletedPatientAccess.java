@@ -0,0 +1,39 @@
+package com.minlab.hospital.application.support;
+
+import com.minlab.hospital.domain.entity.Patient;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.Session;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.function.Supplier;
+
+/**
+ * 삭제 환자 포함 조회 (복원, 증분 동기화, 영구 삭제, 감사)
+ * - 현재 트랜잭션의 세션에서만 activePatient 필터를 잠시 해제하므로 트랜잭션 안에서 호출
+ */
+@Component
+@RequiredArgsConstructor
+public class DeletedPatientAccess {
+
+    private final EntityManager entityManager;
+
+    public <T> T includingDeleted(Supplier<T> action) {
+        if (!TransactionSynchronizationManager.isActualTransactionActive()) {
+            throw new IllegalStateException("삭제 환자 조회는 트랜잭션 안에서 호출해야 합니다.");
+        }
+
+        Session session = entityManager.unwrap(Session.class);
+        if (session.getEnabledFilter(Patient.ACTIVE_FILTER) == null) {
+            return action.get();
+        }
+
+        session.disableFilter(Patient.ACTIVE_FILTER);
+        try {
+            return action.get();
+        } finally {
+            session.enableFilter(Patient.ACTIVE_FILTER);
+        }
+    }
+}
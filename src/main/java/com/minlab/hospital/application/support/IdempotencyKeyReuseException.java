@@ -0,0 +1,11 @@
+package com.minlab.hospital.application.support;
+
+/**
+ * 이미 사용한 Idempotency-Key 로 다른 본문의 요청 (422)
+ */
+public class IdempotencyKeyReuseException extends RuntimeException {
+
+    public IdempotencyKeyReuseException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,118 @@
+package com.minlab.hospital.application.support;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.function.Supplier;
+
+/**
+ * Idempotency-Key 별 최초 응답 보관 (재전송 시 쓰기 없이 최초 응답 반환)
+ * - 같은 키로 동시에 들어온 요청은 최초 요청의 처리 결과를 함께 사용
+ * - 실패한 요청은 보관하지 않음 (같은 키로 재시도 가능)
+ * - 같은 키에 다른 요청 본문이 오면 IdempotencyKeyReuseException
+ * - 노드 로컬 저장소: 재전송이 다른 노드로 가면 중복 제거되지 않음
+ */
+@Component
+public class IdempotencyStore {
+
+    public static final String HEADER = "Idempotency-Key";
+
+    private static final int MAX_KEY_LENGTH = 255;
+
+    private final ObjectMapper objectMapper;
+    private final Cache<Key, Entry> entries;
+
+    public IdempotencyStore(ObjectMapper objectMapper,
+                            @Value("${hospital.idempotency.ttl:24h}") Duration ttl,
+                            @Value("${hospital.idempotency.max-entries:100000}") long maxEntries) {
+        this.objectMapper = objectMapper;
+        this.entries = Caffeine.newBuilder()
+                .expireAfterWrite(ttl)
+                .maximumSize(maxEntries)
+                .build();
+    }
+
+    /**
+     * @param scope          키 적용 범위 (예: 병원, 환자 단위 등록 API)
+     * @param idempotencyKey 없으면 중복 제거 없이 바로 실행
+     * @param request        요청 본문 (같은 키의 재전송인지 확인용)
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T execute(String scope, String idempotencyKey, Object request, Supplier<T> action) {
+        if (idempotencyKey == null) {
+            return action.get();
+        }
+        if (idempotencyKey.isBlank() || idempotencyKey.length() > MAX_KEY_LENGTH) {
+            throw new IllegalArgumentException(HEADER + " 는 1~" + MAX_KEY_LENGTH + "자여야 합니다.");
+        }
+
+        Key key = new Key(scope, idempotencyKey);
+        Entry entry = new Entry(fingerprint(request), new CompletableFuture<>());
+        Entry existing = entries.asMap().putIfAbsent(key, entry);
+        if (existing != null) {
+            if (!Arrays.equals(existing.fingerprint(), entry.fingerprint())) {
+                throw new IdempotencyKeyReuseException("같은 " + HEADER + " 로 다른 요청이 전송되었습니다.");
+            }
+            joined(scope, idempotencyKey);
+            return (T) await(existing.response());
+        }
+
+        try {
+            T response = action.get();
+            entry.response().complete(response);
+            return response;
+        } catch (RuntimeException | Error e) {
+            entries.asMap().remove(key, entry);
+            entry.response().completeExceptionally(e);
+            throw e;
+        }
+    }
+
+    /**
+     * 같은 키의 최초 요청(처리 중 또는 완료)에 합류한 직후 호출 (테스트에서 합류 시점 확인용)
+     */
+    void joined(String scope, String idempotencyKey) {
+    }
+
+    private byte[] fingerprint(Object request) {
+        try {
+            return MessageDigest.getInstance("SHA-256").digest(objectMapper.writeValueAsBytes(request));
+        } catch (JsonProcessingException | NoSuchAlgorithmException e) {
+            throw new IllegalStateException("요청 본문을 확인할 수 없습니다.", e);
+        }
+    }
+
+    private static Object await(CompletableFuture<Object> response) {
+        try {
+            return response.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("최초 요청 처리 대기 중 인터럽트되었습니다.", e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (cause instanceof Error error) {
+                throw error;
+            }
+            throw new IllegalStateException(cause);
+        }
+    }
+
+    private record Key(String scope, String idempotencyKey) {
+    }
+
+    private record Entry(byte[] fingerprint, CompletableFuture<Object> response) {
+    }
+}
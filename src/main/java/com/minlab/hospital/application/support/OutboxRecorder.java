@@ -0,0 +1,44 @@
+package com.minlab.hospital.application.support;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.minlab.hospital.domain.entity.OutboxEvent;
+import com.minlab.hospital.domain.repository.OutboxEventRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+
+/**
+ * 변경 이벤트를 현재 트랜잭션에 추가 (변경이 롤백되면 이벤트도 함께 취소)
+ */
+@Component
+@RequiredArgsConstructor
+public class OutboxRecorder {
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final ObjectMapper objectMapper;
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public OutboxEvent record(OutboxEvent.AggregateType aggregateType, Long aggregateId, Long hospitalId,
+                              OutboxEvent.EventType eventType, Object payload) {
+        return outboxEventRepository.save(OutboxEvent.builder()
+                .aggregateType(aggregateType)
+                .aggregateId(aggregateId)
+                .hospitalId(hospitalId)
+                .eventType(eventType)
+                .payload(toJson(payload))
+                .createdAt(LocalDateTime.now())
+                .build());
+    }
+
+    private String toJson(Object payload) {
+        try {
+            return objectMapper.writeValueAsString(payload);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("변경 이벤트를 직렬화할 수 없습니다.", e);
+        }
+    }
+}
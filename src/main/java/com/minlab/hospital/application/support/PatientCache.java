@@ -0,0 +1,68 @@
+package com.minlab.hospital.application.support;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.minlab.hospital.domain.service.PatientInvalidation;
+import com.minlab.hospital.domain.service.PatientInvalidationChannel;
+import com.minlab.hospital.presentation.dto.response.PatientResponseDto;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.function.Supplier;
+
+/**
+ * 환자 단건 조회 캐시: (병원 ID, 환자 ID), (병원 ID, 환자등록번호) 두 가지 키
+ * - 수정/삭제 시 invalidate → 무효화 채널로 모든 노드에서 두 키 모두 제거
+ * - 무효화를 놓치거나 replica 지연으로 이전 값이 다시 캐시되는 경우는 TTL 로 한정
+ * - 적중률: cache.gets{cache=patient.by-id|patient.by-number, result=hit|miss}
+ */
+@Component
+public class PatientCache {
+
+    private final Cache<ById, PatientResponseDto> byId;
+    private final Cache<ByNumber, PatientResponseDto> byNumber;
+    private final PatientInvalidationChannel invalidationChannel;
+
+    public PatientCache(PatientInvalidationChannel invalidationChannel, MeterRegistry meterRegistry,
+                        @Value("${hospital.cache.patient.ttl:5m}") Duration ttl,
+                        @Value("${hospital.cache.patient.max-size:50000}") long maxSize) {
+        this.invalidationChannel = invalidationChannel;
+        this.byId = Caffeine.newBuilder().expireAfterWrite(ttl).maximumSize(maxSize).recordStats().build();
+        this.byNumber = Caffeine.newBuilder().expireAfterWrite(ttl).maximumSize(maxSize).recordStats().build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, byId, "patient.by-id");
+        CaffeineCacheMetrics.monitor(meterRegistry, byNumber, "patient.by-number");
+        invalidationChannel.subscribe(this::evict);
+    }
+
+    public PatientResponseDto get(Long hospitalId, Long patientId, Supplier<PatientResponseDto> loader) {
+        return byId.get(new ById(hospitalId, patientId), key -> loader.get());
+    }
+
+    public PatientResponseDto getByNumber(Long hospitalId, String patientNumber, Supplier<PatientResponseDto> loader) {
+        return byNumber.get(new ByNumber(hospitalId, patientNumber), key -> loader.get());
+    }
+
+    /**
+     * 현재 트랜잭션 커밋 후 모든 노드의 캐시에서 제거
+     */
+    public void invalidate(Long hospitalId, Long patientId, String patientNumber) {
+        invalidationChannel.publish(new PatientInvalidation(hospitalId, patientId, patientNumber));
+    }
+
+    private void evict(PatientInvalidation invalidation) {
+        byId.invalidate(new ById(invalidation.hospitalId(), invalidation.patientId()));
+        if (invalidation.patientNumber() != null) {
+            byNumber.invalidate(new ByNumber(invalidation.hospitalId(), invalidation.patientNumber()));
+        }
+    }
+
+    private record ById(Long hospitalId, Long patientId) {
+    }
+
+    private record ByNumber(Long hospitalId, String patientNumber) {
+    }
+}
@@ -0,0 +1,39 @@
+package com.minlab.hospital.application.support;
+
+import com.minlab.hospital.infrastructure.replica.ReadYourWrites;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * 동일한 조회 요청을 하나의 DB 조회로 합침 (교대 시간 등 같은 화면을 동시에 여는 경우)
+ * - leader 만 readOnly 트랜잭션을 열어 조회, 나머지는 커넥션 없이 결과 대기
+ * - 이미 트랜잭션 안에서 호출되었거나 read-your-writes 고정 요청은 합치지 않음
+ * - 결과는 여러 요청이 공유하므로 불변 객체(record, 불변 List/Page)만 반환해야 함
+ */
+@Component
+public class ReadCoalescer {
+
+    private final SingleFlight<List<?>, Object> flights;
+    private final TransactionTemplate readOnlyTransaction;
+
+    public ReadCoalescer(PlatformTransactionManager transactionManager,
+                         @Value("${hospital.coalescing.max-in-flight:1000}") int maxInFlight) {
+        this.flights = new SingleFlight<>(maxInFlight);
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+    }
+
+    @SuppressWarnings("unchecked")
+    public <T> T load(List<?> key, Supplier<T> loader) {
+        if (TransactionSynchronizationManager.isActualTransactionActive() || ReadYourWrites.isPinned()) {
+            return readOnlyTransaction.execute(status -> loader.get());
+        }
+        return (T) flights.execute(key, () -> readOnlyTransaction.execute(status -> loader.get()));
+    }
+}
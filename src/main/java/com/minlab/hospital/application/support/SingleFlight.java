@@ -0,0 +1,83 @@
+package com.minlab.hospital.application.support;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.function.Supplier;
+
+/**
+ * 같은 키로 동시에 들어온 호출은 먼저 들어온 호출(leader)의 결과를 함께 사용
+ * - 완료(성공/실패) 즉시 키 제거 → 결과를 보관하지 않음, 다음 호출은 새로 실행
+ * - leader 실패 시 대기 중인 호출에도 같은 예외 전달
+ * - 진행 중인 키가 maxInFlight 개 이상이면 새 키는 합치지 않고 바로 실행
+ */
+public class SingleFlight<K, V> {
+
+    private final ConcurrentMap<K, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+    private final int maxInFlight;
+
+    public SingleFlight(int maxInFlight) {
+        this.maxInFlight = maxInFlight;
+    }
+
+    public V execute(K key, Supplier<V> loader) {
+        CompletableFuture<V> existing = inFlight.get(key);
+        if (existing != null) {
+            return join(key, existing);
+        }
+        if (inFlight.size() >= maxInFlight) {
+            return loader.get();
+        }
+
+        CompletableFuture<V> call = new CompletableFuture<>();
+        existing = inFlight.putIfAbsent(key, call);
+        if (existing != null) {
+            return join(key, existing);
+        }
+
+        try {
+            V value = loader.get();
+            call.complete(value);
+            return value;
+        } catch (RuntimeException | Error e) {
+            call.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, call);
+        }
+    }
+
+    int inFlightCount() {
+        return inFlight.size();
+    }
+
+    /**
+     * 진행 중인 호출에 합류한 직후 호출 (테스트에서 합류 시점 확인용)
+     */
+    void joined(K key) {
+    }
+
+    private V join(K key, CompletableFuture<V> call) {
+        joined(key);
+        return await(call);
+    }
+
+    private V await(CompletableFuture<V> call) {
+        try {
+            return call.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("동일 요청 결과 대기 중 인터럽트되었습니다.", e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (cause instanceof Error error) {
+                throw error;
+            }
+            throw new IllegalStateException(cause);
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package com.minlab.hospital.config;
+
+import com.minlab.hospital.domain.service.PatientLocator;
+import com.minlab.hospital.infrastructure.admission.AdmissionInterceptor;
+import com.minlab.hospital.infrastructure.admission.AdmissionProperties;
+import com.minlab.hospital.infrastructure.admission.AdmissionRegistry;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/**
+ * 병원별 요청 허용량 (토큰 버킷 + 동시 처리 제한)
+ * - 한 병원의 과도한 요청이 커넥션 풀을 모두 점유하지 않도록 @Admission 핸들러에 적용
+ */
+@Configuration
+@EnableConfigurationProperties(AdmissionProperties.class)
+@ConditionalOnProperty(name = "hospital.admission.enabled", havingValue = "true", matchIfMissing = true)
+public class AdmissionConfig {
+
+    @Bean
+    public AdmissionRegistry admissionRegistry(AdmissionProperties properties, MeterRegistry meterRegistry) {
+        return new AdmissionRegistry(properties, meterRegistry, System::nanoTime);
+    }
+
+    @Bean
+    public WebMvcConfigurer admissionWebMvcConfigurer(AdmissionRegistry admissionRegistry, PatientLocator patientLocator) {
+        AdmissionInterceptor interceptor = new AdmissionInterceptor(admissionRegistry, patientLocator);
+        return new WebMvcConfigurer() {
+            @Override
+            public void addInterceptors(InterceptorRegistry registry) {
+                // 샤드 라우팅(소속 병원 조회)보다 먼저 허용량 확인
+                registry.addInterceptor(interceptor).addPathPatterns("/api/**").order(Ordered.HIGHEST_PRECEDENCE);
+            }
+        };
+    }
+}
@@ -0,0 +1,21 @@
+package com.minlab.hospital.config;
+
+import com.minlab.hospital.domain.code.CodeTable;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+
+/**
+ * 단일 DB 모드의 코드 테이블 (샤딩 모드는 ShardingConfig 에서 디렉터리 샤드로 생성)
+ */
+@Configuration
+@ConditionalOnProperty(name = "hospital.sharding.enabled", havingValue = "false", matchIfMissing = true)
+public class CodeTableConfig {
+
+    @Bean
+    public CodeTable codeTable(DataSource dataSource) {
+        return new CodeTable(dataSource);
+    }
+}
@@ -1,31 +1,35 @@
 package com.minlab.hospital.config;
 
-import com.minlab.hospital.domain.entity.Hospital;
-import com.minlab.hospital.domain.repository.HospitalRepository;
 import lombok.RequiredArgsConstructor;
-import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.CommandLineRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Component;
 
+/**
+ * 기본 병원 데이터 등록
+ * - hospital.seed.enabled=false 이면 빈 자체를 생성하지 않음
+ * - 병원 테이블이 비어 있을 때만 등록 (존재 확인 + 등록을 단일 구문으로 처리, 재기동 시 중복 없음)
+ */
 @Component
+@ConditionalOnProperty(name = "hospital.seed.enabled", havingValue = "true", matchIfMissing = true)
 @RequiredArgsConstructor
 public class DataInitializer implements CommandLineRunner {
 
-    private final HospitalRepository hospitalRepository;
+    private static final String SEED_HOSPITALS = """
+            INSERT INTO hospital (name, provider_number, doctor_name)
+            SELECT name, provider_number, doctor_name
+            FROM (SELECT 1 AS ord, '민랩종합병원' AS name, '1100001234' AS provider_number, '김병원장' AS doctor_name
+                  UNION ALL
+                  SELECT 2, '민랩의원', '2200005678', '박원장') seed
+            WHERE NOT EXISTS (SELECT 1 FROM hospital)
+            ORDER BY ord
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
 
     @Override
     public void run(String... args) {
-        if (hospitalRepository.count() == 0) {
-            hospitalRepository.save(Hospital.builder()
-                    .name("민랩종합병원")
-                    .providerNumber("1100001234")
-                    .doctorName("김병원장")
-                    .build());
-            hospitalRepository.save(Hospital.builder()
-                    .name("민랩의원")
-                    .providerNumber("2200005678")
-                    .doctorName("박원장")
-                    .build());
-        }
+        jdbcTemplate.update(SEED_HOSPITALS);
     }
 }
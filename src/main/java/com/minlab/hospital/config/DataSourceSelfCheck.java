@@ -0,0 +1,80 @@
+package com.minlab.hospital.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.annotation.Profile;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 운영(prod) 프로필 기동 시 커넥션 풀 / Hibernate 설정 점검
+ * - 실제 적용된 값을 로그로 출력
+ * - 필수 설정이 빠져 있으면 기동 실패
+ */
+@Slf4j
+@Component
+@Profile("prod")
+@RequiredArgsConstructor
+public class DataSourceSelfCheck {
+
+    private static final List<String> REQUIRED_HIBERNATE_SETTINGS = List.of(
+            "hibernate.jdbc.batch_size",
+            "hibernate.order_inserts",
+            "hibernate.order_updates",
+            "hibernate.default_batch_fetch_size",
+            "hibernate.query.plan_cache_max_size",
+            "hibernate.query.in_clause_parameter_padding"
+    );
+
+    private static final Set<String> ALLOWED_DDL_AUTO = Set.of("none", "validate");
+
+    private final DataSource dataSource;
+    private final EntityManagerFactory entityManagerFactory;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void verify() throws SQLException {
+        List<String> problems = new ArrayList<>();
+
+        HikariDataSource hikari = dataSource.unwrap(HikariDataSource.class);
+        log.info("[datasource] pool={}, url={}, maximumPoolSize={}, minimumIdle={}, connectionTimeout={}ms, maxLifetime={}ms, properties={}",
+                hikari.getPoolName(), hikari.getJdbcUrl(), hikari.getMaximumPoolSize(), hikari.getMinimumIdle(),
+                hikari.getConnectionTimeout(), hikari.getMaxLifetime(), hikari.getDataSourceProperties().stringPropertyNames());
+
+        if (hikari.getMinimumIdle() != hikari.getMaximumPoolSize()) {
+            log.warn("[datasource] minimumIdle({}) != maximumPoolSize({}): 부하 시 커넥션 생성 지연 발생 가능",
+                    hikari.getMinimumIdle(), hikari.getMaximumPoolSize());
+        }
+        if (hikari.getDataSourceProperties().isEmpty()) {
+            problems.add("prepared statement 캐시 설정(hikari.data-source-properties) 없음");
+        }
+
+        Map<String, Object> properties = entityManagerFactory.getProperties();
+        Object ddlAuto = properties.getOrDefault("hibernate.hbm2ddl.auto", "none");
+        log.info("[hibernate] hibernate.hbm2ddl.auto={}", ddlAuto);
+        if (!ALLOWED_DDL_AUTO.contains(String.valueOf(ddlAuto))) {
+            problems.add("hibernate.hbm2ddl.auto=" + ddlAuto + " (validate 또는 none 이어야 함, 스키마는 Flyway 로 관리)");
+        }
+
+        for (String key : REQUIRED_HIBERNATE_SETTINGS) {
+            Object value = properties.get(key);
+            log.info("[hibernate] {}={}", key, value);
+            if (value == null) {
+                problems.add(key + " 미설정");
+            }
+        }
+
+        if (!problems.isEmpty()) {
+            throw new IllegalStateException("운영 데이터소스 설정 점검 실패: " + String.join(", ", problems));
+        }
+    }
+}
@@ -0,0 +1,92 @@
+package com.minlab.hospital.config;
+
+import com.minlab.hospital.domain.code.Code;
+import com.minlab.hospital.domain.code.CodeConverter;
+import com.minlab.hospital.domain.entity.CodeValue;
+import com.minlab.hospital.domain.entity.Hospital;
+import com.minlab.hospital.domain.entity.OutboxEvent;
+import com.minlab.hospital.domain.entity.OutboxSequence;
+import com.minlab.hospital.domain.entity.Patient;
+import com.minlab.hospital.domain.entity.QHospital;
+import com.minlab.hospital.domain.entity.QOutboxEvent;
+import com.minlab.hospital.domain.entity.QPatient;
+import com.minlab.hospital.domain.entity.QVisit;
+import com.minlab.hospital.domain.entity.Visit;
+import com.minlab.hospital.infrastructure.outbox.OutboxMessage;
+import com.minlab.hospital.infrastructure.profiling.RecordingSummary;
+import com.minlab.hospital.presentation.dto.request.BatchGetRequestDto;
+import com.minlab.hospital.presentation.dto.request.HospitalRequestDto;
+import com.minlab.hospital.presentation.dto.request.PatientRequestDto;
+import com.minlab.hospital.presentation.dto.request.PatientSearchRequestDto;
+import com.minlab.hospital.presentation.dto.request.VisitRequestDto;
+import com.minlab.hospital.presentation.dto.response.BatchGetResponseDto;
+import com.minlab.hospital.presentation.dto.response.ChangeEventResponseDto;
+import com.minlab.hospital.presentation.dto.response.ChangeFeedResponseDto;
+import com.minlab.hospital.presentation.dto.response.HospitalResponseDto;
+import com.minlab.hospital.presentation.dto.response.JfrRecordingResponseDto;
+import com.minlab.hospital.presentation.dto.response.PageResponseDto;
+import com.minlab.hospital.presentation.dto.response.PatientChangeResponseDto;
+import com.minlab.hospital.presentation.dto.response.PatientChangesResponseDto;
+import com.minlab.hospital.presentation.dto.response.PatientDetailResponseDto;
+import com.minlab.hospital.presentation.dto.response.PatientResponseDto;
+import com.minlab.hospital.presentation.dto.response.PatientSearchResponseDto;
+import com.minlab.hospital.presentation.dto.response.ShardMoveResponseDto;
+import com.minlab.hospital.presentation.dto.response.VisitResponseDto;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+
+import java.util.List;
+
+/**
+ * GraalVM native-image 용 리플렉션/리소스 힌트
+ * - 엔티티: Lombok 생성 생성자/접근자, Querydsl 이 필드 어노테이션을 리플렉션으로 조회
+ * - Q 타입: PatientRepositoryImpl, PatientService 에서 사용
+ * - DTO: Jackson 바인딩 (제네릭 PageResponseDto 내부 타입 포함)
+ * LAZY 연관관계 프록시는 빌드 시 Hibernate 바이트코드 확장(build.gradle 의 hibernate.enhancement)으로 대체
+ */
+public class NativeRuntimeHints implements RuntimeHintsRegistrar {
+
+    private static final List<Class<?>> ENTITIES = List.of(Hospital.class, Patient.class, Visit.class, OutboxEvent.class, OutboxSequence.class,
+            CodeValue.class, CodeValue.Key.class, Code.class);
+
+    private static final List<Class<?>> QUERY_TYPES = List.of(QHospital.class, QPatient.class, QVisit.class, QOutboxEvent.class);
+
+    // Hibernate 가 스프링 빈 컨테이너를 통해 리플렉션으로 생성
+    private static final List<Class<?>> CONVERTERS = List.of(
+            CodeConverter.GenderConverter.class, CodeConverter.VisitStatusConverter.class,
+            CodeConverter.VisitTypeConverter.class, CodeConverter.VisitCategoryConverter.class);
+
+    private static final List<Class<?>> DTOS = List.of(
+            HospitalRequestDto.class, PatientRequestDto.class, PatientSearchRequestDto.class, VisitRequestDto.class,
+            HospitalResponseDto.class, PatientResponseDto.class, PatientSearchResponseDto.class, VisitResponseDto.class,
+            PageResponseDto.class, ChangeEventResponseDto.class, ChangeFeedResponseDto.class, ShardMoveResponseDto.class,
+            OutboxMessage.class, PatientChangeResponseDto.class, PatientChangesResponseDto.class,
+            BatchGetRequestDto.class, BatchGetResponseDto.class, PatientDetailResponseDto.class,
+            JfrRecordingResponseDto.class, RecordingSummary.class
+    );
+
+    @Override
+    public void registerHints(RuntimeHints hints, ClassLoader classLoader) {
+        ENTITIES.forEach(type -> hints.reflection().registerType(type,
+                MemberCategory.INVOKE_DECLARED_CONSTRUCTORS,
+                MemberCategory.INVOKE_DECLARED_METHODS,
+                MemberCategory.DECLARED_FIELDS));
+
+        QUERY_TYPES.forEach(type -> hints.reflection().registerType(type,
+                MemberCategory.INVOKE_PUBLIC_CONSTRUCTORS,
+                MemberCategory.PUBLIC_FIELDS));
+
+        CONVERTERS.forEach(type -> hints.reflection().registerType(type,
+                MemberCategory.INVOKE_PUBLIC_CONSTRUCTORS,
+                MemberCategory.INVOKE_PUBLIC_METHODS));
+
+        DTOS.forEach(type -> hints.reflection().registerType(type,
+                MemberCategory.INVOKE_DECLARED_CONSTRUCTORS,
+                MemberCategory.INVOKE_PUBLIC_METHODS,
+                MemberCategory.DECLARED_FIELDS));
+
+        hints.resources().registerPattern("db/migration/*.sql");
+        hints.resources().registerPattern("db/vendor/*/*.sql");
+    }
+}
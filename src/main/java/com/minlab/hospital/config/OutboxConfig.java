@@ -0,0 +1,60 @@
+package com.minlab.hospital.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.minlab.hospital.domain.repository.OutboxEventRepository;
+import com.minlab.hospital.domain.repository.OutboxSequenceRepository;
+import com.minlab.hospital.domain.service.DataPartitions;
+import com.minlab.hospital.infrastructure.outbox.FileOutboxSink;
+import com.minlab.hospital.infrastructure.outbox.HttpOutboxSink;
+import com.minlab.hospital.infrastructure.outbox.InMemoryOutboxSink;
+import com.minlab.hospital.infrastructure.outbox.OutboxProperties;
+import com.minlab.hospital.infrastructure.outbox.OutboxRelay;
+import com.minlab.hospital.infrastructure.outbox.OutboxSequencer;
+import com.minlab.hospital.infrastructure.outbox.OutboxSink;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.web.client.RestClient;
+
+import java.nio.file.Path;
+
+/**
+ * 변경 이벤트 피드 순번 부여 + 릴레이 (hospital.outbox.sink = memory | file | http)
+ * - 여러 노드에서 실행해도 카운터 행 잠금으로 순번을 한 번씩만 부여하고, 선점으로 같은 이벤트를 동시에 전달하지 않음
+ */
+@Configuration
+@EnableConfigurationProperties(OutboxProperties.class)
+public class OutboxConfig {
+
+    @Bean
+    public OutboxSink outboxSink(OutboxProperties properties, ObjectMapper objectMapper,
+                                 RestClient.Builder restClientBuilder) {
+        return switch (properties.getSink()) {
+            case "memory" -> new InMemoryOutboxSink(10_000);
+            case "file" -> new FileOutboxSink(Path.of(properties.getFile().getPath()), objectMapper);
+            case "http" -> new HttpOutboxSink(restClientBuilder, properties.getHttp().getUrl(), properties.getHttp().getTimeout());
+            default -> throw new IllegalStateException("지원하지 않는 hospital.outbox.sink 입니다: " + properties.getSink());
+        };
+    }
+
+    @Bean
+    public OutboxSequencer outboxSequencer(OutboxEventRepository outboxEventRepository,
+                                           OutboxSequenceRepository outboxSequenceRepository,
+                                           DataPartitions dataPartitions, PlatformTransactionManager transactionManager,
+                                           OutboxProperties properties) {
+        return new OutboxSequencer(outboxEventRepository, outboxSequenceRepository, dataPartitions,
+                transactionManager, properties);
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "hospital.outbox.relay.enabled", havingValue = "true", matchIfMissing = true)
+    public OutboxRelay outboxRelay(OutboxEventRepository outboxEventRepository, OutboxSink outboxSink,
+                                   DataPartitions dataPartitions, PlatformTransactionManager transactionManager,
+                                   OutboxProperties properties, MeterRegistry meterRegistry) {
+        return new OutboxRelay(outboxEventRepository, outboxSink, dataPartitions, transactionManager,
+                properties, meterRegistry);
+    }
+}
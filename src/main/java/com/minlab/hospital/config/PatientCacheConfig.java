@@ -0,0 +1,50 @@
+package com.minlab.hospital.config;
+
+import com.minlab.hospital.infrastructure.cache.LocalPatientInvalidationChannel;
+import com.minlab.hospital.infrastructure.cache.OutboxPatientInvalidationChannel;
+import com.minlab.hospital.infrastructure.sharding.ShardRoutingDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.sql.DataSource;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 환자 캐시 무효화 채널 (hospital.cache.invalidation)
+ * - local: 단일 노드 (기본값)
+ * - outbox: DB 테이블 기록 + 노드별 주기 조회 (다중 노드)
+ */
+@Configuration
+public class PatientCacheConfig {
+
+    @Bean
+    @ConditionalOnProperty(name = "hospital.cache.invalidation", havingValue = "local", matchIfMissing = true)
+    public LocalPatientInvalidationChannel localPatientInvalidationChannel() {
+        return new LocalPatientInvalidationChannel();
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "hospital.cache.invalidation", havingValue = "outbox")
+    public OutboxPatientInvalidationChannel outboxPatientInvalidationChannel(
+            DataSource dataSource,
+            MeterRegistry meterRegistry,
+            @Value("${hospital.cache.outbox.lookback:5s}") Duration lookback,
+            @Value("${hospital.cache.outbox.retention:10m}") Duration retention) {
+        Map<String, JdbcTemplate> sources = new LinkedHashMap<>();
+        if (dataSource instanceof ShardRoutingDataSource shards) {
+            shards.shardIds().forEach(shard -> sources.put("shard-" + shard, new JdbcTemplate(shards.shard(shard))));
+        } else {
+            sources.put("primary", new JdbcTemplate(dataSource));
+        }
+
+        return new OutboxPatientInvalidationChannel(new JdbcTemplate(dataSource), sources, lookback, retention,
+                Clock.systemUTC(), meterRegistry);
+    }
+}
@@ -0,0 +1,36 @@
+package com.minlab.hospital.config;
+
+import com.minlab.hospital.infrastructure.profiling.FlightRecorderManager;
+import com.minlab.hospital.infrastructure.profiling.ProfilingProperties;
+import com.minlab.hospital.presentation.actuator.ProfilingEndpoint;
+import com.minlab.hospital.presentation.actuator.ProfilingFileEndpoint;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 운영 중 JFR 기록 (hospital.profiling.enabled=true 일 때만, 기본 비활성)
+ * - 서비스 API 가 아닌 액추에이터 엔드포인트(/actuator/jfr, /actuator/jfrfile)로 노출
+ *   → prod 는 management.server.port 로 서비스 포트와 분리
+ */
+@Configuration
+@EnableConfigurationProperties(ProfilingProperties.class)
+@ConditionalOnProperty(name = "hospital.profiling.enabled", havingValue = "true")
+public class ProfilingConfig {
+
+    @Bean
+    public FlightRecorderManager flightRecorderManager(ProfilingProperties properties) {
+        return new FlightRecorderManager(properties);
+    }
+
+    @Bean
+    public ProfilingEndpoint profilingEndpoint(FlightRecorderManager flightRecorderManager) {
+        return new ProfilingEndpoint(flightRecorderManager);
+    }
+
+    @Bean
+    public ProfilingFileEndpoint profilingFileEndpoint(FlightRecorderManager flightRecorderManager) {
+        return new ProfilingFileEndpoint(flightRecorderManager);
+    }
+}
@@ -0,0 +1,58 @@
+package com.minlab.hospital.config;
+
+import com.minlab.hospital.infrastructure.query.QueryBudgetFilter;
+import com.minlab.hospital.infrastructure.query.QueryBudgetInterceptor;
+import com.minlab.hospital.infrastructure.query.QueryBudgetProperties;
+import com.minlab.hospital.infrastructure.query.QueryCountingInspector;
+import com.minlab.hospital.infrastructure.query.QueryCountingIntegrator;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.jpa.boot.spi.IntegratorProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.util.List;
+
+/**
+ * 요청별 쿼리 예산 (JDBC 문장 수 / 조회 엔티티 수)
+ * - 지연 로딩 N+1 등으로 한 요청의 쿼리 수가 늘어나면 경고 로그 + 메트릭, 테스트에서는 mode=fail 로 실패 처리
+ */
+@Configuration
+@EnableConfigurationProperties(QueryBudgetProperties.class)
+@ConditionalOnProperty(name = "hospital.query-budget.enabled", havingValue = "true", matchIfMissing = true)
+public class QueryBudgetConfig {
+
+    @Bean
+    public HibernatePropertiesCustomizer queryCountingHibernateCustomizer() {
+        IntegratorProvider integrators = () -> List.of(new QueryCountingIntegrator());
+        return properties -> {
+            properties.put(AvailableSettings.STATEMENT_INSPECTOR, new QueryCountingInspector());
+            properties.put("hibernate.integrator_provider", integrators);
+        };
+    }
+
+    @Bean
+    public FilterRegistrationBean<QueryBudgetFilter> queryBudgetFilter(QueryBudgetProperties properties, MeterRegistry meterRegistry) {
+        FilterRegistrationBean<QueryBudgetFilter> registration =
+                new FilterRegistrationBean<>(new QueryBudgetFilter(properties, meterRegistry));
+        registration.addUrlPatterns("/api/*");
+        return registration;
+    }
+
+    @Bean
+    public WebMvcConfigurer queryBudgetWebMvcConfigurer() {
+        QueryBudgetInterceptor interceptor = new QueryBudgetInterceptor();
+        return new WebMvcConfigurer() {
+            @Override
+            public void addInterceptors(InterceptorRegistry registry) {
+                registry.addInterceptor(interceptor).addPathPatterns("/api/**");
+            }
+        };
+    }
+}
@@ -0,0 +1,71 @@
+package com.minlab.hospital.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.minlab.hospital.infrastructure.reactive.ReactiveReadProperties;
+import com.minlab.hospital.infrastructure.reactive.ReactiveReadRepository;
+import com.minlab.hospital.infrastructure.reactive.ReactiveReadServer;
+import com.minlab.hospital.presentation.reactive.ReactiveReadHandler;
+import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.pool.ConnectionPoolConfiguration;
+import io.r2dbc.spi.ConnectionFactories;
+import io.r2dbc.spi.ConnectionFactoryOptions;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.web.ServerProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.codec.json.Jackson2JsonDecoder;
+import org.springframework.http.codec.json.Jackson2JsonEncoder;
+import org.springframework.web.reactive.function.server.HandlerStrategies;
+import org.springframework.web.reactive.function.server.RouterFunctions;
+
+import java.time.Duration;
+
+/**
+ * 조회 전용 리액티브 경로 (R2DBC + WebFlux, 별도 포트)
+ * - 커넥션 풀은 빈으로 노출하지 않음 (R2DBC 트랜잭션 매니저/초기화 자동 구성 방지, JPA 트랜잭션 매니저와 충돌 없음)
+ * - JSON 은 서블릿 경로와 같은 ObjectMapper 사용 (같은 DTO, 같은 직렬화 결과)
+ * - 서블릿 필터/인터셉터 밖이므로 요청 허용량 제한(AdmissionInterceptor), 쿼리 예산(QueryBudgetFilter),
+ *   요청 추적(Observation)이 적용되지 않음 → 기본 비활성, 처리량 비교용으로만 사용
+ */
+@Configuration
+@EnableConfigurationProperties(ReactiveReadProperties.class)
+@ConditionalOnProperty(name = "hospital.reactive.enabled", havingValue = "true")
+public class ReactiveReadConfig {
+
+    @Bean
+    public ReactiveReadRepository reactiveReadRepository(ReactiveReadProperties properties,
+                                                         @Value("${hospital.search.max-rows:1000}") int maxRows,
+                                                         @Value("${hospital.search.query-timeout:3s}") Duration queryTimeout) {
+        ConnectionFactoryOptions options = ConnectionFactoryOptions.parse(properties.getUrl()).mutate()
+                .option(ConnectionFactoryOptions.USER, properties.getUsername())
+                .option(ConnectionFactoryOptions.PASSWORD, properties.getPassword())
+                .build();
+        ConnectionPool pool = new ConnectionPool(ConnectionPoolConfiguration.builder(ConnectionFactories.get(options))
+                .name("hospital-reactive")
+                .initialSize(properties.getPoolSize())
+                .maxSize(properties.getPoolSize())
+                .build());
+
+        return new ReactiveReadRepository(pool, maxRows, queryTimeout);
+    }
+
+    @Bean
+    public ReactiveReadServer reactiveReadServer(ReactiveReadProperties properties,
+                                                 ReactiveReadRepository reactiveReadRepository,
+                                                 ObjectMapper objectMapper,
+                                                 ServerProperties serverProperties) {
+        HandlerStrategies strategies = HandlerStrategies.builder()
+                .codecs(codecs -> {
+                    codecs.defaultCodecs().jackson2JsonEncoder(new Jackson2JsonEncoder(objectMapper));
+                    codecs.defaultCodecs().jackson2JsonDecoder(new Jackson2JsonDecoder(objectMapper));
+                })
+                .build();
+
+        return new ReactiveReadServer(
+                RouterFunctions.toHttpHandler(new ReactiveReadHandler(reactiveReadRepository).routes(), strategies),
+                properties.getPort(),
+                serverProperties.getCompression());
+    }
+}
@@ -0,0 +1,105 @@
+package com.minlab.hospital.config;
+
+import com.minlab.hospital.infrastructure.replica.ReadYourWritesInterceptor;
+import com.minlab.hospital.infrastructure.replica.ReadYourWritesTracker;
+import com.minlab.hospital.infrastructure.replica.ReplicaLagMonitor;
+import com.minlab.hospital.infrastructure.replica.ReplicaProperties;
+import com.minlab.hospital.infrastructure.replica.ReplicaRoutingDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import javax.sql.DataSource;
+import java.time.Clock;
+
+/**
+ * 읽기/쓰기 분리 (hospital.replica.enabled=true, 샤딩 미사용 시)
+ * - 서비스의 @Transactional(readOnly = true) 는 replica, 쓰기 트랜잭션은 primary
+ * - primary 는 spring.datasource.* (풀 설정 spring.datasource.hikari.*), replica 는 hospital.replica.* 설정 사용
+ * - 복제 지연 측정 테이블(replication_heartbeat)은 Flyway 마이그레이션으로 생성
+ */
+@Configuration
+@EnableConfigurationProperties(ReplicaProperties.class)
+@ConditionalOnExpression("${hospital.replica.enabled:false} and !${hospital.sharding.enabled:false}")
+public class ReplicaConfig {
+
+    /**
+     * primary 커넥션 풀 (spring.datasource.hikari.* 바인딩, 자동 구성 DataSource 와 같은 설정)
+     * - 라우팅 데이터소스 안에서만 사용하므로 타입 주입 후보에서 제외
+     */
+    @Bean(defaultCandidate = false)
+    @ConfigurationProperties("spring.datasource.hikari")
+    public DataSource replicaPrimaryDataSource(DataSourceProperties dataSourceProperties) {
+        HikariDataSource primary = dataSourceProperties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .build();
+        primary.setPoolName("hospital-primary"); // spring.datasource.hikari.pool-name 이 있으면 바인딩 시 덮어씀
+        return primary;
+    }
+
+    @Bean(destroyMethod = "close")
+    public ReplicaRoutingDataSource replicaRoutingDataSource(@Qualifier("replicaPrimaryDataSource") DataSource primary,
+                                                             ReplicaProperties properties,
+                                                             ObjectProvider<ReplicaLagMonitor> lagMonitor,
+                                                             MeterRegistry meterRegistry) {
+        HikariDataSource replica = new HikariDataSource();
+        replica.setPoolName("hospital-replica");
+        replica.setJdbcUrl(properties.getUrl());
+        replica.setUsername(properties.getUsername());
+        replica.setPassword(properties.getPassword());
+        replica.setMaximumPoolSize(properties.getMaximumPoolSize());
+        replica.setReadOnly(true);
+
+        // 지연 측정 빈은 라우팅 데이터소스를 사용하므로 조회 시점에 가져옴
+        return new ReplicaRoutingDataSource(primary, replica, () -> lagMonitor.getObject().isHealthy(), meterRegistry);
+    }
+
+    /**
+     * 트랜잭션 시작 시가 아니라 첫 쿼리 시점에 커넥션을 가져와 readOnly 여부로 라우팅되도록 지연
+     */
+    @Bean
+    @Primary
+    public DataSource dataSource(ReplicaRoutingDataSource replicaRoutingDataSource) {
+        return new LazyConnectionDataSourceProxy(replicaRoutingDataSource);
+    }
+
+    @Bean
+    public ReplicaLagMonitor replicaLagMonitor(ReplicaRoutingDataSource replicaRoutingDataSource,
+                                               ReplicaProperties properties, MeterRegistry meterRegistry) {
+        ReplicaLagMonitor monitor = new ReplicaLagMonitor(
+                new JdbcTemplate(replicaRoutingDataSource.primary()),
+                new JdbcTemplate(replicaRoutingDataSource.replica()),
+                properties.getMaxLag(), Clock.systemUTC(), meterRegistry);
+        monitor.initialize();
+        monitor.check();
+        return monitor;
+    }
+
+    @Bean
+    public ReadYourWritesTracker readYourWritesTracker(ReplicaProperties properties) {
+        return new ReadYourWritesTracker(properties.getStickyWindow(), Clock.systemUTC());
+    }
+
+    @Bean
+    public WebMvcConfigurer readYourWritesWebMvcConfigurer(ReadYourWritesTracker tracker) {
+        ReadYourWritesInterceptor interceptor = new ReadYourWritesInterceptor(tracker);
+        return new WebMvcConfigurer() {
+            @Override
+            public void addInterceptors(InterceptorRegistry registry) {
+                registry.addInterceptor(interceptor).addPathPatterns("/api/**");
+            }
+        };
+    }
+}
@@ -0,0 +1,142 @@
+package com.minlab.hospital.config;
+
+import com.minlab.hospital.domain.code.CodeTable;
+import com.minlab.hospital.domain.service.DataPartitions;
+import com.minlab.hospital.domain.service.PatientLocator;
+import com.minlab.hospital.infrastructure.sharding.DirectoryPatientLocator;
+import com.minlab.hospital.infrastructure.sharding.ShardCodeAligner;
+import com.minlab.hospital.infrastructure.sharding.ShardContext;
+import com.minlab.hospital.infrastructure.sharding.ShardDataPartitions;
+import com.minlab.hospital.infrastructure.sharding.ShardRebalancer;
+import com.minlab.hospital.infrastructure.sharding.ShardResolver;
+import com.minlab.hospital.infrastructure.sharding.ShardRoutingDataSource;
+import com.minlab.hospital.infrastructure.sharding.ShardRoutingInterceptor;
+import com.minlab.hospital.infrastructure.sharding.ShardedHospitalReplicator;
+import com.minlab.hospital.infrastructure.sharding.ShardingProperties;
+import com.zaxxer.hikari.HikariDataSource;
+import org.flywaydb.core.Flyway;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import javax.sql.DataSource;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 병원 단위 샤딩 (hospital.sharding.enabled=true)
+ * - 샤드마다 커넥션 풀 생성, Flyway 마이그레이션, 샤드별 IDENTITY 구간 예약
+ * - 요청 경로의 병원 ID 로 샤드 선택 → Patient/Visit 리포지토리는 변경 없이 해당 샤드 사용
+ * - 병원 원본/배정 정보/환자 위치는 0번(디렉터리) 샤드에 저장
+ */
+@Configuration
+@EnableConfigurationProperties(ShardingProperties.class)
+@ConditionalOnProperty(name = "hospital.sharding.enabled", havingValue = "true")
+public class ShardingConfig {
+
+    private static final List<String> SHARDED_TABLES = List.of("patient", "visit");
+
+    @Bean
+    @Primary
+    public ShardRoutingDataSource dataSource(ShardingProperties properties) {
+        if (properties.getShards().isEmpty()) {
+            throw new IllegalStateException("hospital.sharding.shards 가 비어 있습니다.");
+        }
+
+        Map<Integer, DataSource> shards = new LinkedHashMap<>();
+        for (int index = 0; index < properties.getShards().size(); index++) {
+            HikariDataSource dataSource = createPool(index, properties.getShards().get(index));
+            Flyway.configure()
+                    .dataSource(dataSource)
+                    .locations(properties.getMigrationLocations().toArray(String[]::new))
+                    .load()
+                    .migrate();
+            reserveIdBlock(new JdbcTemplate(dataSource), index * properties.getIdBlockSize());
+            shards.put(index, dataSource);
+        }
+        return new ShardRoutingDataSource(shards);
+    }
+
+    @Bean
+    public ShardResolver shardResolver(ShardRoutingDataSource dataSource) {
+        ShardResolver resolver = new ShardResolver(
+                new JdbcTemplate(dataSource.shard(ShardContext.DIRECTORY_SHARD)), dataSource.shardIds().size());
+        resolver.refresh();
+        return resolver;
+    }
+
+    @Bean
+    public PatientLocator patientLocator(ShardRoutingDataSource dataSource) {
+        return new DirectoryPatientLocator(new JdbcTemplate(dataSource.shard(ShardContext.DIRECTORY_SHARD)));
+    }
+
+    /**
+     * 코드 테이블은 디렉터리 샤드 하나를 공유, 기동 시 데이터 샤드의 코드를 같은 값으로 맞춤
+     */
+    @Bean
+    public CodeTable codeTable(ShardRoutingDataSource dataSource) {
+        CodeTable codeTable = new CodeTable(dataSource.shard(ShardContext.DIRECTORY_SHARD));
+        new ShardCodeAligner(dataSource, codeTable).alignAll();
+        return codeTable;
+    }
+
+    @Bean
+    public DataPartitions dataPartitions(ShardRoutingDataSource dataSource) {
+        return new ShardDataPartitions(dataSource);
+    }
+
+    @Bean
+    public ShardedHospitalReplicator hospitalReplicator(ShardRoutingDataSource dataSource) {
+        return new ShardedHospitalReplicator(dataSource);
+    }
+
+    @Bean
+    public ShardRebalancer shardRebalancer(ShardRoutingDataSource dataSource, ShardResolver shardResolver,
+                                           ShardedHospitalReplicator hospitalReplicator, ShardingProperties properties) {
+        // 다른 노드가 MOVING 상태를 읽을 시간(재조회 주기 2회) 동안 대기 후 복사 시작
+        return new ShardRebalancer(dataSource, shardResolver, hospitalReplicator, properties.getDirectoryRefreshMs() * 2);
+    }
+
+    @Bean
+    public WebMvcConfigurer shardRoutingWebMvcConfigurer(ShardResolver shardResolver, PatientLocator patientLocator) {
+        ShardRoutingInterceptor interceptor = new ShardRoutingInterceptor(shardResolver, patientLocator);
+        return new WebMvcConfigurer() {
+            @Override
+            public void addInterceptors(InterceptorRegistry registry) {
+                registry.addInterceptor(interceptor)
+                        .addPathPatterns("/api/hospitals/*/patients/**", "/api/hospitals/*/visits/**", "/api/patients/**");
+            }
+        };
+    }
+
+    private static HikariDataSource createPool(int index, ShardingProperties.Shard shard) {
+        HikariDataSource dataSource = new HikariDataSource();
+        dataSource.setPoolName("hospital-shard-" + index);
+        dataSource.setJdbcUrl(shard.getUrl());
+        dataSource.setUsername(shard.getUsername());
+        dataSource.setPassword(shard.getPassword());
+        dataSource.setMaximumPoolSize(shard.getMaximumPoolSize());
+        return dataSource;
+    }
+
+    /**
+     * 샤드 n 의 환자/방문 ID 를 n * idBlockSize 이후부터 발급 (샤드 간 ID 충돌 방지, 샤드 이동 시 ID 유지)
+     */
+    private static void reserveIdBlock(JdbcTemplate jdbc, long offset) {
+        if (offset == 0) {
+            return;
+        }
+        for (String table : SHARDED_TABLES) {
+            Long maxId = jdbc.queryForObject("SELECT COALESCE(MAX(id), 0) FROM " + table, Long.class);
+            if (maxId != null && maxId < offset) {
+                jdbc.execute("ALTER TABLE " + table + " ALTER COLUMN id RESTART WITH " + (offset + 1));
+            }
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package com.minlab.hospital.config;
+
+import org.springframework.boot.LazyInitializationExcludeFilter;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.stereotype.Service;
+import org.springframework.web.bind.annotation.RestController;
+
+@Configuration
+public class StartupConfig {
+
+    /**
+     * spring.main.lazy-initialization=true (fast-start 프로필) 에서도 요청 경로의 빈은 기동 시 생성
+     * - 컨트롤러/서비스와 그 의존성(리포지토리, EntityManagerFactory, DataSource)은 즉시 초기화
+     * - 그 외 부가 컴포넌트는 처음 사용할 때 초기화
+     */
+    @Bean
+    static LazyInitializationExcludeFilter requestPathBeans() {
+        return (beanName, beanDefinition, beanType) ->
+                AnnotatedElementUtils.hasAnnotation(beanType, RestController.class)
+                        || AnnotatedElementUtils.hasAnnotation(beanType, Service.class);
+    }
+}
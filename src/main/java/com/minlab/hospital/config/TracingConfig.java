@@ -0,0 +1,46 @@
+package com.minlab.hospital.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.minlab.hospital.infrastructure.tracing.FileSpanExporter;
+import com.minlab.hospital.infrastructure.tracing.HospitalIdObservationFilter;
+import com.minlab.hospital.infrastructure.tracing.LayerObservationAspect;
+import com.minlab.hospital.infrastructure.tracing.TracingProperties;
+import io.micrometer.observation.ObservationFilter;
+import io.micrometer.observation.ObservationRegistry;
+import io.opentelemetry.exporter.logging.LoggingSpanExporter;
+import io.opentelemetry.sdk.trace.export.SpanExporter;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.nio.file.Path;
+
+/**
+ * 요청 추적 (OpenTelemetry, 수집기 없이 로그/파일로 스팬 기록)
+ * - HTTP 요청(Jackson 직렬화 포함) → 컨트롤러 → 트랜잭션 → 리포지토리 → JDBC 커넥션 획득/쿼리/결과 행 수
+ * - JDBC 스팬은 datasource-micrometer (jdbc.* 설정), 샘플링은 management.tracing.sampling.probability
+ */
+@Configuration
+@EnableConfigurationProperties(TracingProperties.class)
+@ConditionalOnProperty(name = "hospital.tracing.enabled", havingValue = "true", matchIfMissing = true)
+public class TracingConfig {
+
+    @Bean
+    public SpanExporter hospitalSpanExporter(TracingProperties properties, ObjectMapper objectMapper) {
+        return switch (properties.getExporter()) {
+            case LOG -> LoggingSpanExporter.create();
+            case FILE -> new FileSpanExporter(Path.of(properties.getFile().getPath()), objectMapper);
+        };
+    }
+
+    @Bean
+    public LayerObservationAspect layerObservationAspect(ObservationRegistry observationRegistry) {
+        return new LayerObservationAspect(observationRegistry);
+    }
+
+    @Bean
+    public ObservationFilter hospitalIdObservationFilter() {
+        return new HospitalIdObservationFilter();
+    }
+}
@@ -0,0 +1,31 @@
+package com.minlab.hospital.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.util.List;
+
+@Configuration
+@RequiredArgsConstructor
+public class WebConfig implements WebMvcConfigurer {
+
+    private final Jackson2ObjectMapperBuilder objectMapperBuilder;
+
+    /**
+     * Accept: application/cbor 요청에 CBOR 로 응답
+     * (기본 CBOR 컨버터 대신 spring.jackson.* 설정이 적용된 ObjectMapper 사용, JSON 이 기본 형식으로 유지되도록 마지막에 추가)
+     */
+    @Override
+    public void extendMessageConverters(List<HttpMessageConverter<?>> converters) {
+        converters.removeIf(MappingJackson2CborHttpMessageConverter.class::isInstance);
+
+        ObjectMapper cborMapper = objectMapperBuilder.factory(new CBORFactory()).build();
+        converters.add(new MappingJackson2CborHttpMessageConverter(cborMapper));
+    }
+}
@@ -0,0 +1,8 @@
+package com.minlab.hospital.domain.code;
+
+/**
+ * 코드 테이블의 값 하나 (DB 에는 작은 정수 code, API 에는 기존 문자열 label)
+ * - code 는 저장된 데이터와 연결되므로 한 번 부여하면 변경/재사용 금지
+ */
+public record Code(CodeType type, short code, String label) {
+}
@@ -0,0 +1,63 @@
+package com.minlab.hospital.domain.code;
+
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+/**
+ * Code ↔ SMALLINT 컬럼 (코드 종류별 하위 클래스)
+ * - Hibernate 가 스프링 빈 컨테이너로 생성하므로 CodeTable 을 생성자로 주입받음
+ */
+public abstract class CodeConverter implements AttributeConverter<Code, Short> {
+
+    private final CodeTable codeTable;
+    private final CodeType type;
+
+    protected CodeConverter(CodeTable codeTable, CodeType type) {
+        this.codeTable = codeTable;
+        this.type = type;
+    }
+
+    @Override
+    public Short convertToDatabaseColumn(Code attribute) {
+        if (attribute == null) {
+            return null;
+        }
+        if (attribute.type() != type) {
+            throw new IllegalArgumentException(type.description() + " 컬럼에 다른 종류의 코드를 저장할 수 없습니다: " + attribute);
+        }
+        return attribute.code();
+    }
+
+    @Override
+    public Code convertToEntityAttribute(Short dbData) {
+        return dbData == null ? null : codeTable.fromCode(type, dbData);
+    }
+
+    @Converter
+    public static class GenderConverter extends CodeConverter {
+        public GenderConverter(CodeTable codeTable) {
+            super(codeTable, CodeType.GENDER);
+        }
+    }
+
+    @Converter
+    public static class VisitStatusConverter extends CodeConverter {
+        public VisitStatusConverter(CodeTable codeTable) {
+            super(codeTable, CodeType.VISIT_STATUS);
+        }
+    }
+
+    @Converter
+    public static class VisitTypeConverter extends CodeConverter {
+        public VisitTypeConverter(CodeTable codeTable) {
+            super(codeTable, CodeType.VISIT_TYPE);
+        }
+    }
+
+    @Converter
+    public static class VisitCategoryConverter extends CodeConverter {
+        public VisitCategoryConverter(CodeTable codeTable) {
+            super(codeTable, CodeType.VISIT_CATEGORY);
+        }
+    }
+}
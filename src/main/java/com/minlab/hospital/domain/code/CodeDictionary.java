@@ -0,0 +1,42 @@
+package com.minlab.hospital.domain.code;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 코드 종류 하나의 code ↔ label 양방향 사전 (불변, 값 추가 시 새 사전 생성)
+ * - label 문자열은 사전의 값을 그대로 응답에 사용하므로 행마다 새 String 을 만들지 않음
+ */
+final class CodeDictionary {
+
+    private final Map<Short, Code> byCode = new HashMap<>();
+    private final Map<String, Code> byLabel = new HashMap<>();
+
+    CodeDictionary(Collection<Code> codes) {
+        for (Code code : codes) {
+            if (byCode.put(code.code(), code) != null || byLabel.put(code.label(), code) != null) {
+                throw new IllegalStateException(code.type().description() + " code/label 중복: " + code);
+            }
+        }
+    }
+
+    Code byCode(short code) {
+        return byCode.get(code);
+    }
+
+    Code byLabel(String label) {
+        return byLabel.get(label);
+    }
+
+    CodeDictionary with(Code code) {
+        if (code.equals(byCode.get(code.code()))) {
+            return this;
+        }
+        List<Code> codes = new ArrayList<>(byCode.values());
+        codes.add(code);
+        return new CodeDictionary(codes);
+    }
+}
@@ -0,0 +1,119 @@
+package com.minlab.hospital.domain.code;
+
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 코드 테이블(code_value)의 메모리 사전 (코드 종류별 code ↔ label)
+ * - 처음 보는 label 은 다음 code 로 등록 (별도 트랜잭션 → 요청 트랜잭션이 롤백돼도 코드는 유지)
+ * - 사전에 없는 code 를 읽으면(다른 노드가 등록) 테이블을 다시 읽어 갱신
+ * - 사전은 코드 종류별 불변 객체를 교체하므로 조회에 잠금 없음
+ * - 샤딩 사용 시 디렉터리 샤드의 테이블 하나를 모든 샤드가 공유 (샤드 간 같은 label 은 같은 code)
+ */
+public class CodeTable {
+
+    // code_value.label 컬럼 길이 (기존 문자열 컬럼 중 가장 긴 VARCHAR(20))
+    public static final int MAX_LABEL_LENGTH = 20;
+
+    private static final int MAX_REGISTER_ATTEMPTS = 5;
+
+    private final JdbcTemplate jdbc;
+    private final TransactionTemplate registerTransaction;
+    private final Map<CodeType, CodeDictionary> dictionaries = new ConcurrentHashMap<>();
+
+    public CodeTable(DataSource dataSource) {
+        this.jdbc = new JdbcTemplate(dataSource);
+        this.registerTransaction = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+        this.registerTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    /**
+     * API 입력 문자열 → 값 (처음 보는 값이면 등록, 비어 있거나 너무 길면 400)
+     */
+    public Code fromLabel(CodeType type, String label) {
+        if (label == null || label.isBlank()) {
+            throw new IllegalArgumentException(type.description() + " 값이 비어 있습니다.");
+        }
+        if (label.length() > MAX_LABEL_LENGTH) {
+            throw new IllegalArgumentException(type.description() + " 값은 " + MAX_LABEL_LENGTH + "자 이하여야 합니다: " + label);
+        }
+
+        return resolve(type, label);
+    }
+
+    /**
+     * 이미 저장된 label → 값 (입력 검증 없이 조회, 없으면 등록)
+     */
+    public Code resolve(CodeType type, String label) {
+        Code code = dictionary(type).byLabel(label);
+        return code != null ? code : register(type, label);
+    }
+
+    public Code fromCode(CodeType type, short code) {
+        Code value = dictionary(type).byCode(code);
+        if (value == null) {
+            value = reload(type).byCode(code);
+        }
+        if (value == null) {
+            throw new IllegalStateException(type.description() + " 에 정의되지 않은 코드입니다: " + code);
+        }
+        return value;
+    }
+
+    private CodeDictionary dictionary(CodeType type) {
+        CodeDictionary dictionary = dictionaries.get(type);
+        // 스키마 생성(ddl-auto) 전에 만들어질 수 있으므로 처음 사용할 때 읽음
+        return dictionary != null ? dictionary : reload(type);
+    }
+
+    private synchronized CodeDictionary reload(CodeType type) {
+        List<Code> codes = jdbc.query("SELECT code, label FROM code_value WHERE code_type = ?",
+                (rs, rowNum) -> new Code(type, rs.getShort("code"), rs.getString("label")), type.name());
+        CodeDictionary dictionary = new CodeDictionary(codes);
+        dictionaries.put(type, dictionary);
+        return dictionary;
+    }
+
+    private synchronized void add(Code code) {
+        dictionaries.put(code.type(), dictionary(code.type()).with(code));
+    }
+
+    private Code register(CodeType type, String label) {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                Code registered = registerTransaction.execute(status -> insertIfAbsent(type, label));
+                add(registered);
+                return registered;
+            } catch (DuplicateKeyException e) {
+                // 다른 노드/스레드가 같은 code 또는 같은 label 을 먼저 등록 → 다시 조회 후 재시도
+                if (attempt >= MAX_REGISTER_ATTEMPTS) {
+                    throw e;
+                }
+            }
+        }
+    }
+
+    private Code insertIfAbsent(CodeType type, String label) {
+        List<Short> existing = jdbc.queryForList("SELECT code FROM code_value WHERE code_type = ? AND label = ?",
+                Short.class, type.name(), label);
+        if (!existing.isEmpty()) {
+            return new Code(type, existing.get(0), label);
+        }
+
+        Integer next = jdbc.queryForObject("SELECT COALESCE(MAX(code), 0) + 1 FROM code_value WHERE code_type = ?",
+                Integer.class, type.name());
+        if (next == null || next > Short.MAX_VALUE) {
+            throw new IllegalStateException(type.description() + " 코드를 더 이상 등록할 수 없습니다.");
+        }
+        jdbc.update("INSERT INTO code_value (code_type, code, label) VALUES (?, ?, ?)", type.name(), next.shortValue(), label);
+        return new Code(type, next.shortValue(), label);
+    }
+}
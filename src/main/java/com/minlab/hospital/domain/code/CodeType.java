@@ -0,0 +1,22 @@
+package com.minlab.hospital.domain.code;
+
+/**
+ * 코드 테이블(code_value)의 코드 종류
+ */
+public enum CodeType {
+
+    GENDER("성별"),
+    VISIT_STATUS("방문 상태"),
+    VISIT_TYPE("진료 유형"),
+    VISIT_CATEGORY("진료 과목");
+
+    private final String description;
+
+    CodeType(String description) {
+        this.description = description;
+    }
+
+    public String description() {
+        return description;
+    }
+}
@@ -0,0 +1,39 @@
+package com.minlab.hospital.domain.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.io.Serializable;
+
+/**
+ * 코드 테이블 (성별/방문 상태/진료 유형/진료 과목의 code ↔ label)
+ * - 조회/등록은 CodeTable 이 JDBC 로 수행, 엔티티는 스키마 생성/검증용
+ * - code 는 코드 종류별 1 부터 증가, label 은 코드 종류 안에서 unique
+ */
+@Entity
+@Table(name = "code_value",
+        uniqueConstraints = { @UniqueConstraint(name = "uk_code_value_label", columnNames = {"code_type", "label"}) })
+@IdClass(CodeValue.Key.class)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class CodeValue {
+
+    @Id
+    @Column(name = "code_type", length = 20)
+    private String codeType; // CodeType 이름
+
+    @Id
+    @Column(name = "code")
+    private Short code;
+
+    @Column(nullable = false, length = 20)
+    private String label;
+
+    @Getter @Setter
+    @NoArgsConstructor @AllArgsConstructor
+    @EqualsAndHashCode
+    public static class Key implements Serializable {
+        private String codeType;
+        private Short code;
+    }
+}
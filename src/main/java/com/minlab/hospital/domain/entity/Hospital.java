@@ -2,6 +2,8 @@ package com.minlab.hospital.domain.entity;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.ColumnDefault;
+import org.hibernate.annotations.DynamicUpdate;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -11,6 +13,7 @@ import java.util.List;
 @NoArgsConstructor @AllArgsConstructor @Builder
 @Table(name = "hospital")
 @EqualsAndHashCode(onlyExplicitlyIncluded = true)
+@DynamicUpdate // 병원 정보 수정 시 순번 컬럼은 쓰지 않음 (잠금 없이 읽은 순번으로 덮어쓰지 않도록)
 public class Hospital {
 
     @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -26,4 +29,30 @@ public class Hospital {
     @Column(nullable = false, length = 10)
     private String doctorName;         // 병원장명
 
+    @Column(nullable = false, name = "last_patient_seq")
+    @ColumnDefault("0")
+    @Builder.Default
+    @Setter(AccessLevel.NONE)
+    private Long lastPatientSeq = 0L;    // 마지막 환자 순번 (환자 영구 삭제와 무관하게 증가만 → 환자등록번호 재사용 없음)
+
+    @Column(nullable = false, name = "last_change_seq")
+    @ColumnDefault("0")
+    @Builder.Default
+    @Setter(AccessLevel.NONE)
+    private Long lastChangeSeq = 0L;     // 마지막 환자 변경 순번 (증분 동기화 기준)
+
+    /**
+     * 다음 환자 순번 (병원 행 잠금 후 호출)
+     */
+    public long nextPatientSeq() {
+        return ++lastPatientSeq;
+    }
+
+    /**
+     * 다음 환자 변경 순번 (병원 행 잠금 후 호출)
+     */
+    public long nextChangeSeq() {
+        return ++lastChangeSeq;
+    }
+
 }
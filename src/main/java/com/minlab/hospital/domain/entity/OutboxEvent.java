@@ -0,0 +1,69 @@
+package com.minlab.hospital.domain.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 환자/방문 변경 이벤트 (변경과 같은 트랜잭션에 기록, 릴레이가 외부로 전달)
+ */
+@Entity
+@Table(name = "outbox_event",
+        indexes = {
+                @Index(name = "idx_outbox_event_published", columnList = "published_at, feed_seq"),
+                @Index(name = "uk_outbox_event_feed_seq", columnList = "feed_seq", unique = true)
+        })
+@Getter @Setter
+@NoArgsConstructor @AllArgsConstructor @Builder
+@EqualsAndHashCode(onlyExplicitlyIncluded = true)
+public class OutboxEvent {
+
+    public enum AggregateType { PATIENT, VISIT }
+
+    public enum EventType { CREATED, UPDATED, DELETED }
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @EqualsAndHashCode.Include
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private AggregateType aggregateType;
+
+    @Column(nullable = false)
+    private Long aggregateId;
+
+    @Column(nullable = false)
+    private Long hospitalId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private EventType eventType;
+
+    /**
+     * 변경 후 상태 (API 응답과 같은 JSON)
+     */
+    @Column(nullable = false, length = 4000)
+    private String payload;
+
+    @Column(nullable = false)
+    private LocalDateTime createdAt;
+
+    /**
+     * 변경 피드 순번 (커밋 순서, null: 아직 부여되지 않음)
+     */
+    @Column(name = "feed_seq")
+    private Long feedSeq;
+
+    /**
+     * 릴레이 선점 만료 시각 (null 또는 지난 시각: 선점 가능)
+     */
+    private LocalDateTime claimedUntil;
+
+    /**
+     * 릴레이 전달 완료 시각 (null: 미전달)
+     */
+    private LocalDateTime publishedAt;
+}
@@ -0,0 +1,32 @@
+package com.minlab.hospital.domain.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+/**
+ * 변경 피드 순번 카운터 (파티션마다 1행)
+ * - 행 잠금 후 순번을 부여하고 커밋하므로 순번 순서 = 부여 트랜잭션의 커밋 순서
+ */
+@Entity
+@Table(name = "outbox_sequence")
+@Getter
+@NoArgsConstructor @AllArgsConstructor
+@EqualsAndHashCode(onlyExplicitlyIncluded = true)
+public class OutboxSequence {
+
+    public static final int ID = 1;
+
+    @Id
+    @EqualsAndHashCode.Include
+    private Integer id;
+
+    @Column(nullable = false, name = "last_seq")
+    private Long lastSeq;
+
+    /**
+     * 다음 피드 순번 (카운터 행 잠금 후 호출)
+     */
+    public long next() {
+        return ++lastSeq;
+    }
+}
@@ -1,26 +1,51 @@
 package com.minlab.hospital.domain.entity;
 
+import com.minlab.hospital.domain.code.Code;
+import com.minlab.hospital.domain.code.CodeConverter;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Filter;
+import org.hibernate.annotations.FilterDef;
+import org.hibernate.annotations.NaturalId;
 import org.springframework.format.annotation.DateTimeFormat;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 
 @Entity
 @Table(name = "patient",
-        uniqueConstraints = { @UniqueConstraint(columnNames = {"hospital_id", "seq"}) })
+        uniqueConstraints = {
+                @UniqueConstraint(columnNames = {"hospital_id", "seq"}),
+                @UniqueConstraint(name = "uk_patient_hospital_number", columnNames = {"hospital_id", "patient_number"})
+        },
+        indexes = {
+                @Index(name = "idx_patient_hospital_change_seq", columnList = "hospital_id, change_seq"),
+                @Index(name = "idx_patient_hospital_status", columnList = "hospital_id, status, id"),
+                @Index(name = "idx_patient_status_deleted_at", columnList = "status, deleted_at")
+        })
 @Getter @Setter
 @NoArgsConstructor @AllArgsConstructor @Builder
 @EqualsAndHashCode(onlyExplicitlyIncluded = true)
+@FilterDef(name = Patient.ACTIVE_FILTER, defaultCondition = "status = 'A'", autoEnabled = true)
+@Filter(name = Patient.ACTIVE_FILTER)
 public class Patient {
 
+    public static final char ACTIVE = 'A';
+    public static final char DELETED = 'D';
+
+    /**
+     * 모든 세션에서 자동 활성화되는 삭제 환자 제외 필터 (쿼리 조회에 적용, ID 로 직접 로딩하는 find/연관관계에는 미적용)
+     */
+    public static final String ACTIVE_FILTER = "activePatient";
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     @EqualsAndHashCode.Include
     private Long id;
 
+    @NaturalId
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "hospital_id", nullable = false)
     private Hospital hospital;
@@ -28,11 +53,13 @@ public class Patient {
     @Column(nullable = false, length = 20)
     private String name; // 환자 이름
 
+    @NaturalId
     @Column(nullable = false, length = 20, name = "patient_number")
     private String patientNumber; // 환자등록번호 (병원별 unique)
 
-    @Column(nullable = false, length = 10)
-    private String gender; // 성별
+    @Column(nullable = false)
+    @Convert(converter = CodeConverter.GenderConverter.class)
+    private Code gender; // 성별
 
     @Column(nullable = false)
     @DateTimeFormat(pattern = "yyyy-MM-dd")
@@ -47,18 +74,32 @@ public class Patient {
     @Column(nullable = false)
     private Long seq; // 병원별 순번, 무제한 증가
 
+    @Column(nullable = false, name = "change_seq")
+    private Long changeSeq; // 병원별 변경 순번 (등록/수정/삭제마다 증가, 동기화 기준)
+
     @OneToMany(mappedBy = "patient")
+    @Builder.Default
     private List<Visit> visits = new ArrayList<>();
 
     @Column(nullable = false, length = 1)
-    private char status = 'A'; // 'A': active, 'D': deleted
+    @Builder.Default
+    private char status = ACTIVE; // 'A': active, 'D': deleted
+
+    @Column(name = "deleted_at")
+    private LocalDateTime deletedAt; // 삭제 시각 (보관 기간이 지나면 영구 삭제)
 
     public void softDelete() {
-        this.status = 'D';
+        this.status = DELETED;
+        this.deletedAt = LocalDateTime.now();
+    }
+
+    public void restore() {
+        this.status = ACTIVE;
+        this.deletedAt = null;
     }
 
     public boolean isActive() {
-        return this.status == 'A';
+        return this.status == ACTIVE;
     }
 
 }
@@ -1,12 +1,15 @@
 package com.minlab.hospital.domain.entity;
 
+import com.minlab.hospital.domain.code.Code;
+import com.minlab.hospital.domain.code.CodeConverter;
 import jakarta.persistence.*;
 import lombok.*;
 
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "visit")
+@Table(name = "visit",
+        indexes = { @Index(name = "idx_visit_patient_date", columnList = "patient_id, visit_date") })
 @Getter @Setter
 @NoArgsConstructor
 @AllArgsConstructor
@@ -42,18 +45,21 @@ public class Visit {
     /**
      * 방문 상태 (예: 방문중, 종료, 취소)
      */
-    @Column(length = 20, nullable = false)
-    private String visitStatus;
+    @Column(nullable = false)
+    @Convert(converter = CodeConverter.VisitStatusConverter.class)
+    private Code visitStatus;
 
     /**
      * 진료 유형 (예: 약처방, 검사)
      */
-    @Column(length = 20, nullable = false)
-    private String visitType;
+    @Column(nullable = false)
+    @Convert(converter = CodeConverter.VisitTypeConverter.class)
+    private Code visitType;
 
     /**
      * 진료 과목 (예: 내과, 안과)
      */
-    @Column(length = 20, nullable = false)
-    private String visitCategory;
+    @Column(nullable = false)
+    @Convert(converter = CodeConverter.VisitCategoryConverter.class)
+    private Code visitCategory;
 }
@@ -0,0 +1,30 @@
+package com.minlab.hospital.domain.repository;
+
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * 조회 행 수 상한이 적용된 페이지
+ * - truncated: 조건에 맞는 행이 상한보다 많아 전체 개수/이후 페이지가 상한까지만 반영됨
+ */
+public class CappedPage<T> extends PageImpl<T> {
+
+    private final boolean truncated;
+
+    public CappedPage(List<T> content, Pageable pageable, long total, boolean truncated) {
+        super(content, pageable, total);
+        this.truncated = truncated;
+    }
+
+    public boolean isTruncated() {
+        return truncated;
+    }
+
+    @Override
+    public <U> CappedPage<U> map(Function<? super T, ? extends U> converter) {
+        return new CappedPage<>(getConvertedContent(converter), getPageable(), getTotalElements(), truncated);
+    }
+}
@@ -1,7 +1,18 @@
 package com.minlab.hospital.domain.repository;
 
 import com.minlab.hospital.domain.entity.Hospital;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Optional;
 
 public interface HospitalRepository extends JpaRepository<Hospital, Long> {
+
+    // 병원 행 잠금 (병원별 환자 순번/변경 순번 부여를 직렬화)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT h FROM Hospital h WHERE h.id = :hospitalId")
+    Optional<Hospital> findByIdForUpdate(@Param("hospitalId") Long hospitalId);
 }
@@ -0,0 +1,47 @@
+package com.minlab.hospital.domain.repository;
+
+import com.minlab.hospital.domain.entity.OutboxEvent;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+public interface OutboxEventRepository extends JpaRepository<OutboxEvent, Long> {
+
+    // 피드 순번이 없는 커밋된 이벤트 (ID 순), 카운터 행 잠금 안에서 조회
+    @Query("SELECT e FROM OutboxEvent e WHERE e.feedSeq IS NULL ORDER BY e.id")
+    List<OutboxEvent> findUnsequenced(Pageable pageable);
+
+    // 선점 가능한 미전달 이벤트 (피드 순번 순), 다른 노드의 릴레이와 같은 이벤트를 동시에 선점하지 않도록 잠금
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT e FROM OutboxEvent e WHERE e.publishedAt IS NULL AND e.feedSeq IS NOT NULL"
+            + " AND (e.claimedUntil IS NULL OR e.claimedUntil < :now) ORDER BY e.feedSeq")
+    List<OutboxEvent> findClaimable(@Param("now") LocalDateTime now, Pageable pageable);
+
+    // 변경 피드: 특정 순번 이후 (순번은 커밋 순서로 부여되므로 늦게 커밋된 이벤트도 건너뛰지 않음)
+    @Query("SELECT e FROM OutboxEvent e WHERE e.feedSeq > :afterSeq ORDER BY e.feedSeq")
+    List<OutboxEvent> findSequencedAfter(@Param("afterSeq") Long afterSeq, Pageable pageable);
+
+    @Modifying
+    @Query("UPDATE OutboxEvent e SET e.claimedUntil = :claimedUntil WHERE e.id IN :ids")
+    int claim(@Param("ids") Collection<Long> ids, @Param("claimedUntil") LocalDateTime claimedUntil);
+
+    @Modifying
+    @Query("UPDATE OutboxEvent e SET e.claimedUntil = NULL WHERE e.id IN :ids AND e.publishedAt IS NULL")
+    int releaseClaim(@Param("ids") Collection<Long> ids);
+
+    @Modifying
+    @Query("UPDATE OutboxEvent e SET e.publishedAt = :publishedAt WHERE e.id IN :ids")
+    int markPublished(@Param("ids") Collection<Long> ids, @Param("publishedAt") LocalDateTime publishedAt);
+
+    @Modifying
+    @Query("DELETE FROM OutboxEvent e WHERE e.publishedAt < :threshold")
+    int deletePublishedBefore(@Param("threshold") LocalDateTime threshold);
+}
@@ -0,0 +1,18 @@
+package com.minlab.hospital.domain.repository;
+
+import com.minlab.hospital.domain.entity.OutboxSequence;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Optional;
+
+public interface OutboxSequenceRepository extends JpaRepository<OutboxSequence, Integer> {
+
+    // 카운터 행 잠금 (피드 순번 부여를 직렬화)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT s FROM OutboxSequence s WHERE s.id = :id")
+    Optional<OutboxSequence> findByIdForUpdate(@Param("id") Integer id);
+}
@@ -2,24 +2,51 @@ package com.minlab.hospital.domain.repository;
 
 import com.minlab.hospital.domain.entity.Patient;
 import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
+/**
+ * 환자 조회는 Patient 의 activePatient 필터로 삭제 환자를 제외 (JPQL/Querydsl/파생 쿼리 공통)
+ * - 필터가 적용되지 않는 findById/getReferenceById 대신 findOneById 사용
+ * - 삭제 환자 포함 조회는 DeletedPatientAccess 로 필터를 해제하고 호출
+ */
 public interface PatientRepository extends JpaRepository<Patient, Long>, PatientRepositoryCustom {
 
+    // 환자 조회 (findById 와 달리 쿼리로 조회하므로 삭제 필터 적용)
+    Optional<Patient> findOneById(Long patientId);
+
     // 특정 병원의 특정 환자 조회
-    Optional<Patient> findByHospital_IdAndIdAndStatus(Long hospitalId, Long patientId, char status);
+    Optional<Patient> findByHospital_IdAndId(Long hospitalId, Long patientId);
+
+    // 특정 병원의 환자 여러 명 조회 (IN)
+    List<Patient> findByHospital_IdAndIdIn(Long hospitalId, Collection<Long> ids);
 
     // 특정 병원의 모든 환자 조회
-    List<Patient> findByHospital_IdAndStatus(Long hospitalId, char status);
+    List<Patient> findByHospital_Id(Long hospitalId);
+
+    // 환자 소속 병원 ID 조회 (hospital 조인 없이 FK 컬럼만 조회)
+    @Query("SELECT p.hospital.id FROM Patient p WHERE p.id = :patientId")
+    Optional<Long> findHospitalIdById(@Param("patientId") Long patientId);
 
+    // 특정 병원에서 since 이후 변경된 환자 (변경 순번 순, 삭제 환자는 필터 해제 시 포함)
+    List<Patient> findByHospital_IdAndChangeSeqGreaterThanOrderByChangeSeq(Long hospitalId, Long since, Pageable pageable);
+
+    // 보관 기간이 지난 삭제 환자 (영구 삭제 대상, 삭제 중 복원되지 않도록 잠금)
     @Lock(LockModeType.PESSIMISTIC_WRITE)
-    @Query("SELECT COALESCE(MAX(p.seq), 0) FROM Patient p WHERE p.hospital.id = :hospitalId")
-    Long findMaxSeqByHospitalForUpdate(@Param("hospitalId") Long hospitalId);
+    @Query("SELECT p FROM Patient p WHERE p.status = 'D' AND p.deletedAt < :threshold ORDER BY p.id")
+    List<Patient> findPurgeable(@Param("threshold") LocalDateTime threshold, Pageable pageable);
+
+    @Modifying
+    @Query("DELETE FROM Patient p WHERE p.id IN :ids")
+    int deleteByIdIn(@Param("ids") Collection<Long> ids);
 
 }
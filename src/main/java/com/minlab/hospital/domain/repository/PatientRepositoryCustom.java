@@ -1,10 +1,22 @@
 package com.minlab.hospital.domain.repository;
 
+import com.minlab.hospital.domain.entity.Patient;
 import com.minlab.hospital.presentation.dto.request.PatientSearchRequestDto;
 import com.querydsl.core.Tuple;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+
 public interface PatientRepositoryCustom {
-    Page<Tuple> searchPatients(Long hospitalId, PatientSearchRequestDto condition, Pageable pageable);
+    /**
+     * 조건 검색 (조건에 맞는 행은 maxRows 까지만 조회, 각 쿼리는 queryTimeout 초과 시 취소)
+     */
+    CappedPage<Tuple> searchPatients(Long hospitalId, PatientSearchRequestDto condition, Pageable pageable,
+                                     int maxRows, Duration queryTimeout);
+
+    List<Tuple> findPatientWithVisitCounts(Long hospitalId, Long patientId);
+
+    Optional<Patient> findByNaturalId(Long hospitalId, String patientNumber);
 }
\ No newline at end of file
@@ -1,59 +1,139 @@
 package com.minlab.hospital.domain.repository;
 
+import com.minlab.hospital.domain.entity.Hospital;
+import com.minlab.hospital.domain.entity.Patient;
 import com.minlab.hospital.domain.entity.QPatient;
 import com.minlab.hospital.domain.entity.QVisit;
+import com.minlab.hospital.infrastructure.profiling.PatientSearchEvent;
 import com.minlab.hospital.presentation.dto.request.PatientSearchRequestDto;
 import com.querydsl.core.BooleanBuilder;
 import com.querydsl.core.Tuple;
 import com.querydsl.jpa.impl.JPAQueryFactory;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Query;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
+import org.hibernate.Session;
 import org.springframework.data.domain.Pageable;
 
+import java.time.Duration;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.StringJoiner;
 
 @RequiredArgsConstructor
 public class PatientRepositoryImpl implements PatientRepositoryCustom {
 
+    // 밀리초, JDBC Statement.setQueryTimeout 으로 전달 (초 단위로 반올림)
+    private static final String QUERY_TIMEOUT_HINT = "jakarta.persistence.query.timeout";
+
     private final JPAQueryFactory queryFactory;
+    private final EntityManager entityManager;
 
+    /**
+     * 페이지 조회는 maxRows 이내 구간만, 전체 개수는 maxRows + 1 건까지만 세어 상한 초과 여부 판단
+     * (짧은 이름 조건으로 대형 병원 전체를 훑는 경우에도 스캔/집계 범위가 상한으로 제한됨)
+     * - 개수는 LIMIT 서브쿼리에 대한 COUNT 한 건으로 DB 에서 집계 (리액티브 경로와 같은 SQL, ID 목록을 가져오지 않음)
+     */
     @Override
-    public Page<Tuple> searchPatients(Long hospitalId, PatientSearchRequestDto condition, Pageable pageable) {
+    public CappedPage<Tuple> searchPatients(Long hospitalId, PatientSearchRequestDto condition, Pageable pageable,
+                                            int maxRows, Duration queryTimeout) {
         QPatient patient = QPatient.patient;
         QVisit visit = QVisit.visit;
+        PatientSearchEvent event = new PatientSearchEvent();
+        event.begin();
 
         BooleanBuilder builder = new BooleanBuilder();
         builder.and(patient.hospital.id.eq(hospitalId));
+        StringJoiner filters = new StringJoiner(",");
+
+        // 개수 집계용 같은 조건의 SQL (네이티브 쿼리에는 activePatient 필터가 적용되지 않으므로 상태 조건 명시)
+        StringBuilder where = new StringBuilder(" WHERE p.hospital_id = :hospitalId AND p.status = '" + Patient.ACTIVE + "'");
+        Map<String, Object> params = new LinkedHashMap<>();
+        params.put("hospitalId", hospitalId);
 
         if (condition.getName() != null && !condition.getName().isBlank()) {
             builder.and(patient.name.containsIgnoreCase(condition.getName()));
+            where.append(" AND LOWER(p.name) LIKE :name ESCAPE '!'");
+            params.put("name", "%" + escapeLike(condition.getName().toLowerCase()) + "%");
+            filters.add("name");
         }
         if (condition.getPatientNumber() != null && !condition.getPatientNumber().isBlank()) {
             builder.and(patient.patientNumber.eq(condition.getPatientNumber()));
+            where.append(" AND p.patient_number = :patientNumber");
+            params.put("patientNumber", condition.getPatientNumber());
+            filters.add("patientNumber");
         }
         if (condition.getBirthDate() != null && !condition.getBirthDate().isBlank()) {
             builder.and(patient.birthDate.stringValue().eq(condition.getBirthDate()));
+            where.append(" AND CAST(p.birth_date AS VARCHAR(10)) = :birthDate");
+            params.put("birthDate", condition.getBirthDate());
+            filters.add("birthDate");
         }
 
-        // 환자 + 최근 방문일
-        List<Tuple> tuples = queryFactory
+        int timeoutMillis = (int) queryTimeout.toMillis();
+
+        // 환자 + 최근 방문일 (상한 밖 페이지는 조회하지 않음)
+        long remaining = maxRows - pageable.getOffset();
+        List<Tuple> tuples = remaining <= 0 ? List.of() : queryFactory
                 .select(patient, visit.visitDate.max())
                 .from(patient)
                 .leftJoin(visit).on(visit.patient.eq(patient))
                 .where(builder)
                 .groupBy(patient.id)
+                .orderBy(patient.id.asc()) // 페이지 간 순서 고정 (리액티브 경로와 동일)
                 .offset(pageable.getOffset())
-                .limit(pageable.getPageSize())
+                .limit(Math.min(pageable.getPageSize(), remaining))
+                .setHint(QUERY_TIMEOUT_HINT, timeoutMillis)
                 .fetch();
 
-        // 전체 개수
-        Long total = queryFactory
-                .select(patient.count())
+        // 전체 개수 (maxRows + 1 건까지)
+        Query count = entityManager
+                .createNativeQuery("SELECT COUNT(*) FROM (SELECT p.id FROM patient p" + where + " LIMIT :cap) t")
+                .setParameter("cap", maxRows + 1L)
+                .setHint(QUERY_TIMEOUT_HINT, timeoutMillis);
+        params.forEach(count::setParameter);
+        long matched = ((Number) count.getSingleResult()).longValue();
+        boolean truncated = matched > maxRows;
+        long totalCount = Math.min(matched, maxRows);
+        event.record(hospitalId, filters.toString(), tuples.size(), totalCount);
+
+        return new CappedPage<>(tuples, pageable, totalCount, truncated);
+    }
+
+    /**
+     * 환자 + 진료 과목별 방문 수 (행: patient, visitCategory, count / 방문이 없으면 category null, count 0 인 1행)
+     */
+    @Override
+    public List<Tuple> findPatientWithVisitCounts(Long hospitalId, Long patientId) {
+        QPatient patient = QPatient.patient;
+        QVisit visit = QVisit.visit;
+
+        return queryFactory
+                .select(patient, visit.visitCategory, visit.id.count())
                 .from(patient)
-                .where(builder)
-                .fetchOne();
+                .leftJoin(visit).on(visit.patient.eq(patient))
+                .where(patient.hospital.id.eq(hospitalId),
+                        patient.id.eq(patientId))
+                .groupBy(patient.id, visit.visitCategory)
+                .fetch();
+    }
+
+    /**
+     * 자연 키(병원, 환자등록번호) 조회: 영속성 컨텍스트에 있으면 DB 조회 없음, 없으면 uk_patient_hospital_number 1회 조회
+     */
+    @Override
+    public Optional<Patient> findByNaturalId(Long hospitalId, String patientNumber) {
+        Session session = entityManager.unwrap(Session.class);
+        return session.byNaturalId(Patient.class)
+                .using("hospital", session.getReference(Hospital.class, hospitalId))
+                .using("patientNumber", patientNumber)
+                .loadOptional();
+    }
 
-        return new PageImpl<>(tuples, pageable, total != null ? total : 0L);
+    // Querydsl containsIgnoreCase 와 같은 이스케이프 문자('!')
+    private static String escapeLike(String value) {
+        return value.replace("!", "!!").replace("%", "!%").replace("_", "!_");
     }
 }
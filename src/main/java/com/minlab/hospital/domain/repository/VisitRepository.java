@@ -4,11 +4,44 @@ import com.minlab.hospital.domain.entity.Visit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
 
+/**
+ * 방문 조회는 활성 환자('A')의 방문만 반환 (삭제 환자의 방문은 조회/수정/삭제 대상 아님)
+ * - Patient 의 activePatient 필터는 방문 ID 로딩/조인에 적용되지 않으므로 조건을 쿼리에 직접 명시
+ * - 필터가 적용되지 않는 findById 대신 findActiveById 사용
+ */
 public interface VisitRepository extends JpaRepository<Visit, Long> {
 
+    // 활성 환자의 방문 단건 조회 (응답에 필요한 환자 함께 조회)
+    @Query("SELECT v FROM Visit v JOIN FETCH v.patient p WHERE v.id = :visitId AND p.status = 'A'")
+    Optional<Visit> findActiveById(@Param("visitId") Long visitId);
+
     // 특정 환자의 모든 방문 조회
-    Page<Visit> findByPatient_Id(Long patientId, Pageable pageable);
+    @Query(value = "SELECT v FROM Visit v WHERE v.patient.id = :patientId AND v.patient.status = 'A'",
+            countQuery = "SELECT COUNT(v) FROM Visit v WHERE v.patient.id = :patientId AND v.patient.status = 'A'")
+    Page<Visit> findByPatient_Id(@Param("patientId") Long patientId, Pageable pageable);
+
+    // 특정 환자의 최근 방문 (idx_visit_patient_date)
+    List<Visit> findByPatient_IdOrderByVisitDateDescIdDesc(Long patientId, Pageable pageable);
+
+    // 특정 병원의 방문 여러 건 조회 (IN, 응답에 필요한 환자 함께 조회)
+    @Query("SELECT v FROM Visit v JOIN FETCH v.patient p WHERE v.hospital.id = :hospitalId AND v.id IN :ids AND p.status = 'A'")
+    List<Visit> findByHospitalIdAndIdIn(@Param("hospitalId") Long hospitalId, @Param("ids") Collection<Long> ids);
+
+    // 환자 영구 삭제 전 방문 조회 (삭제 이벤트 기록용)
+    @Query("SELECT v FROM Visit v WHERE v.patient.id IN :patientIds ORDER BY v.id")
+    List<Visit> findByPatientIdIn(@Param("patientIds") Collection<Long> patientIds);
+
+    // 환자 영구 삭제 전 방문 삭제
+    @Modifying
+    @Query("DELETE FROM Visit v WHERE v.patient.id IN :patientIds")
+    int deleteByPatientIdIn(@Param("patientIds") Collection<Long> patientIds);
 
 }
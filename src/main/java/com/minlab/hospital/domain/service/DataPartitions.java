@@ -0,0 +1,15 @@
+package com.minlab.hospital.domain.service;
+
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * 데이터가 나뉘어 저장된 단위(샤드) 목록과 단위별 실행
+ * - 샤딩 미사용 시 단일 파티션(0)
+ */
+public interface DataPartitions {
+
+    List<Integer> ids();
+
+    <T> T callOn(int partition, Supplier<T> action);
+}
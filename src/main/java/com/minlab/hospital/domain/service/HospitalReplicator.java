@@ -0,0 +1,13 @@
+package com.minlab.hospital.domain.service;
+
+import com.minlab.hospital.domain.entity.Hospital;
+
+/**
+ * 병원 정보 복제 (샤딩 사용 시 모든 샤드에 병원 행 유지)
+ */
+public interface HospitalReplicator {
+
+    void replicate(Hospital hospital);
+
+    void remove(Long hospitalId);
+}
@@ -0,0 +1,7 @@
+package com.minlab.hospital.domain.service;
+
+/**
+ * 변경/삭제되어 캐시에서 제거해야 하는 환자
+ */
+public record PatientInvalidation(Long hospitalId, Long patientId, String patientNumber) {
+}
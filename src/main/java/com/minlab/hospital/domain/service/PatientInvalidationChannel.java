@@ -0,0 +1,16 @@
+package com.minlab.hospital.domain.service;
+
+import java.util.function.Consumer;
+
+/**
+ * 환자 캐시 무효화 전파 (노드 간)
+ */
+public interface PatientInvalidationChannel {
+
+    /**
+     * 현재 트랜잭션 커밋 후 모든 노드의 구독자에게 전달
+     */
+    void publish(PatientInvalidation invalidation);
+
+    void subscribe(Consumer<PatientInvalidation> listener);
+}
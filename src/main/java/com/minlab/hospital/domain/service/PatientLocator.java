@@ -0,0 +1,23 @@
+package com.minlab.hospital.domain.service;
+
+import java.util.Collection;
+import java.util.Optional;
+
+/**
+ * 환자 ID 로 소속 병원 조회
+ * - /api/patients/{patientId}/... 처럼 경로에 병원 ID 가 없는 요청의 라우팅/제한에 사용
+ */
+public interface PatientLocator {
+
+    Optional<Long> hospitalIdOf(Long patientId);
+
+    /**
+     * 신규 환자 등록 시 호출
+     */
+    void register(Long patientId, Long hospitalId);
+
+    /**
+     * 환자 영구 삭제 후 호출
+     */
+    void remove(Collection<Long> patientIds);
+}
@@ -0,0 +1,22 @@
+package com.minlab.hospital.infrastructure.admission;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 병원별 요청 허용량(hospital.admission.budgets.{이름}) 적용 대상 핸들러
+ * - 병원 ID 는 경로 변수 {hospitalId}, 없으면 {patientId} 의 소속 병원
+ */
+@Documented
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface Admission {
+
+    /**
+     * 허용량 이름
+     */
+    String value();
+}
@@ -0,0 +1,92 @@
+package com.minlab.hospital.infrastructure.admission;
+
+import com.minlab.hospital.domain.service.PatientLocator;
+import jakarta.servlet.DispatcherType;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.util.Map;
+
+/**
+ * @Admission 핸들러 진입 전 병원별 허용량 확인, 요청 종료 시 동시 처리 슬롯 반환
+ * - 비동기 처리 요청은 재진입(ASYNC dispatch) 종료 시 반환 (비동기 작업 동안 슬롯 유지)
+ * - 경로에 {patientId} 만 있으면 공용 조회 허용량을 먼저 확인한 뒤 소속 병원 조회 (거절될 요청이 DB 를 조회하지 않도록)
+ */
+@RequiredArgsConstructor
+public class AdmissionInterceptor implements AsyncHandlerInterceptor {
+
+    private static final String PERMIT_ATTRIBUTE = AdmissionInterceptor.class.getName() + ".permit";
+
+    private final AdmissionRegistry admissionRegistry;
+    private final PatientLocator patientLocator;
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (request.getDispatcherType() == DispatcherType.ASYNC) {
+            return true;
+        }
+        if (!(handler instanceof HandlerMethod handlerMethod)) {
+            return true;
+        }
+        Admission admission = handlerMethod.getMethodAnnotation(Admission.class);
+        if (admission == null) {
+            return true;
+        }
+
+        Long hospitalId = resolveHospitalId(request);
+        if (hospitalId == null) {
+            return true;
+        }
+
+        request.setAttribute(PERMIT_ATTRIBUTE, admissionRegistry.acquire(admission.value(), hospitalId));
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        if (request.getAttribute(PERMIT_ATTRIBUTE) instanceof AdmissionRegistry.Permit permit) {
+            permit.release();
+            request.removeAttribute(PERMIT_ATTRIBUTE);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private Long resolveHospitalId(HttpServletRequest request) {
+        Map<String, String> variables = (Map<String, String>) request.getAttribute(HandlerMapping.URI_TEMPLATE_VARIABLES_ATTRIBUTE);
+        if (variables == null) {
+            return null;
+        }
+
+        Long hospitalId = parse(variables.get("hospitalId"));
+        if (hospitalId != null) {
+            return hospitalId;
+        }
+
+        Long patientId = parse(variables.get("patientId"));
+        if (patientId == null) {
+            return null;
+        }
+
+        AdmissionRegistry.Permit lookup = admissionRegistry.acquireLookup();
+        try {
+            return patientLocator.hospitalIdOf(patientId).orElse(null);
+        } finally {
+            lookup.release();
+        }
+    }
+
+    private static Long parse(String value) {
+        if (value == null) {
+            return null;
+        }
+        try {
+            return Long.valueOf(value);
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+}
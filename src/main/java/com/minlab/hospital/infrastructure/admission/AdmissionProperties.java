@@ -0,0 +1,54 @@
+package com.minlab.hospital.infrastructure.admission;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+@Getter @Setter
+@ConfigurationProperties(prefix = "hospital.admission")
+public class AdmissionProperties {
+
+    private boolean enabled = true;
+
+    /**
+     * 허용량 이름별 설정 (@Admission 의 value)
+     */
+    private Map<String, Budget> budgets = new LinkedHashMap<>();
+
+    /**
+     * 경로에 병원 ID 가 없는 요청의 소속 병원 조회 허용량 (모든 병원 공용, 조회 후 병원별 허용량 적용)
+     */
+    private Budget lookup = new Budget();
+
+    /**
+     * 이 시간 동안 요청이 없던 병원의 상태는 제거
+     */
+    private Duration idleTimeout = Duration.ofMinutes(10);
+
+    /**
+     * (병원, 허용량) 상태 최대 개수 (초과 시 새 병원은 공용 상태를 함께 사용)
+     */
+    private int maxEntries = 10_000;
+
+    @Getter @Setter
+    public static class Budget {
+        /**
+         * 초당 허용 요청 수
+         */
+        private double ratePerSecond = 10;
+
+        /**
+         * 순간 최대 요청 수 (버킷 크기)
+         */
+        private int burst = 20;
+
+        /**
+         * 동시 처리 최대 요청 수
+         */
+        private int maxConcurrent = 5;
+    }
+}
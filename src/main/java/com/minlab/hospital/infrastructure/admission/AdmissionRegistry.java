@@ -0,0 +1,179 @@
+package com.minlab.hospital.infrastructure.admission;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+/**
+ * (병원, 허용량 이름) 별 토큰 버킷 + 동시 처리 제한(bulkhead)
+ * - 대기 없이 즉시 허용/거절
+ * - 결과는 hospital.admission{hospital, budget, outcome} 카운터로 기록
+ */
+public class AdmissionRegistry {
+
+    /**
+     * maxEntries 초과 시 새 병원이 함께 쓰는 상태의 키
+     */
+    static final String OVERFLOW_TENANT = "overflow";
+
+    /**
+     * 소속 병원 조회(acquireLookup) 상태의 키
+     */
+    static final String LOOKUP_TENANT = "lookup";
+    static final String LOOKUP_BUDGET = "patient-lookup";
+
+    private final Map<String, AdmissionProperties.Budget> budgets;
+    private final AdmissionProperties.Budget lookupBudget;
+    private final int maxEntries;
+    private final long idleTimeoutNanos;
+    private final MeterRegistry meterRegistry;
+    private final LongSupplier nanoClock;
+
+    private final ConcurrentMap<GateKey, Gate> gates = new ConcurrentHashMap<>();
+
+    public AdmissionRegistry(AdmissionProperties properties, MeterRegistry meterRegistry, LongSupplier nanoClock) {
+        this.budgets = Map.copyOf(properties.getBudgets());
+        this.lookupBudget = properties.getLookup();
+        this.maxEntries = properties.getMaxEntries();
+        this.idleTimeoutNanos = properties.getIdleTimeout().toNanos();
+        this.meterRegistry = meterRegistry;
+        this.nanoClock = nanoClock;
+    }
+
+    /**
+     * 허용 시 반환된 Permit 은 요청 종료 후 반드시 release
+     *
+     * @throws AdmissionRejectedException 초당 허용량 또는 동시 처리 수 초과
+     */
+    public Permit acquire(String budgetName, Long hospitalId) {
+        AdmissionProperties.Budget budget = budgets.get(budgetName);
+        if (budget == null) {
+            throw new IllegalStateException("정의되지 않은 허용량입니다. budget=" + budgetName);
+        }
+
+        return admit(gate(hospitalId, budgetName, budget));
+    }
+
+    /**
+     * 병원 ID 를 DB 에서 조회하기 전 공용 허용량 확인 (조회가 끝나면 바로 release)
+     *
+     * @throws AdmissionRejectedException 초당 허용량 또는 동시 처리 수 초과
+     */
+    public Permit acquireLookup() {
+        return admit(gates.computeIfAbsent(new GateKey(LOOKUP_TENANT, LOOKUP_BUDGET), k -> new Gate(k, lookupBudget)));
+    }
+
+    private Permit admit(Gate gate) {
+        gate.touch(nanoClock.getAsLong());
+
+        long waitNanos = gate.bucket.tryAcquire();
+        if (waitNanos > 0) {
+            gate.rateLimited.increment();
+            throw new AdmissionRejectedException("요청 한도를 초과했습니다. 잠시 후 다시 시도해 주세요.",
+                    Math.max(1, TimeUnit.NANOSECONDS.toSeconds(waitNanos + 999_999_999L)));
+        }
+        if (!gate.concurrency.tryAcquire()) {
+            gate.bulkheadFull.increment();
+            throw new AdmissionRejectedException("동시 처리 가능한 요청 수를 초과했습니다. 잠시 후 다시 시도해 주세요.", 1);
+        }
+
+        gate.admitted.increment();
+        return new Permit(gate);
+    }
+
+    /**
+     * 오래 사용되지 않고 처리 중인 요청이 없는 상태 제거
+     */
+    @Scheduled(fixedDelayString = "${hospital.admission.idle-timeout:10m}")
+    public void evictIdle() {
+        long now = nanoClock.getAsLong();
+        gates.values().removeIf(gate -> {
+            boolean idle = now - gate.lastUsedAt > idleTimeoutNanos
+                    && gate.concurrency.availablePermits() == gate.maxConcurrent;
+            if (idle) {
+                gate.removeMeters();
+            }
+            return idle;
+        });
+    }
+
+    int size() {
+        return gates.size();
+    }
+
+    private Gate gate(Long hospitalId, String budgetName, AdmissionProperties.Budget budget) {
+        GateKey key = new GateKey(String.valueOf(hospitalId), budgetName);
+        Gate gate = gates.get(key);
+        if (gate != null) {
+            return gate;
+        }
+        if (gates.size() >= maxEntries) {
+            key = new GateKey(OVERFLOW_TENANT, budgetName);
+        }
+        return gates.computeIfAbsent(key, k -> new Gate(k, budget));
+    }
+
+    private record GateKey(String tenant, String budget) {
+    }
+
+    private final class Gate {
+        private final TokenBucket bucket;
+        private final Semaphore concurrency;
+        private final int maxConcurrent;
+        private final Counter admitted;
+        private final Counter rateLimited;
+        private final Counter bulkheadFull;
+        private volatile long lastUsedAt;
+
+        private Gate(GateKey key, AdmissionProperties.Budget budget) {
+            this.bucket = new TokenBucket(budget.getRatePerSecond(), budget.getBurst(), nanoClock);
+            this.maxConcurrent = budget.getMaxConcurrent();
+            this.concurrency = new Semaphore(maxConcurrent);
+            this.admitted = counter(key, "admitted");
+            this.rateLimited = counter(key, "rate_limited");
+            this.bulkheadFull = counter(key, "bulkhead_full");
+            this.lastUsedAt = nanoClock.getAsLong();
+        }
+
+        private void touch(long now) {
+            lastUsedAt = now;
+        }
+
+        private void removeMeters() {
+            meterRegistry.remove(admitted);
+            meterRegistry.remove(rateLimited);
+            meterRegistry.remove(bulkheadFull);
+        }
+
+        private Counter counter(GateKey key, String outcome) {
+            return meterRegistry.counter("hospital.admission",
+                    "hospital", key.tenant(), "budget", key.budget(), "outcome", outcome);
+        }
+    }
+
+    /**
+     * 동시 처리 슬롯 반환용 (중복 release 무시)
+     */
+    public static final class Permit {
+        private final Gate gate;
+        private boolean released;
+
+        private Permit(Gate gate) {
+            this.gate = gate;
+        }
+
+        public synchronized void release() {
+            if (!released) {
+                released = true;
+                gate.concurrency.release();
+            }
+        }
+    }
+}
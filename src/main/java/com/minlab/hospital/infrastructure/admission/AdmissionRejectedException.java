@@ -0,0 +1,17 @@
+package com.minlab.hospital.infrastructure.admission;
+
+import lombok.Getter;
+
+/**
+ * 병원별 허용량 초과 (429)
+ */
+@Getter
+public class AdmissionRejectedException extends RuntimeException {
+
+    private final long retryAfterSeconds;
+
+    public AdmissionRejectedException(String message, long retryAfterSeconds) {
+        super(message);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+}
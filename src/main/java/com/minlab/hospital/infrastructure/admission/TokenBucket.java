@@ -0,0 +1,44 @@
+package com.minlab.hospital.infrastructure.admission;
+
+import java.util.function.LongSupplier;
+
+/**
+ * 토큰 버킷: 초당 ratePerSecond 개씩 최대 capacity 개까지 충전
+ */
+class TokenBucket {
+
+    private final double capacity;
+    private final double tokensPerNano;
+    private final LongSupplier nanoClock;
+
+    private double tokens;
+    private long refilledAt;
+
+    TokenBucket(double ratePerSecond, int capacity, LongSupplier nanoClock) {
+        if (ratePerSecond <= 0 || capacity <= 0) {
+            throw new IllegalArgumentException("ratePerSecond, burst 는 0 보다 커야 합니다.");
+        }
+        this.capacity = capacity;
+        this.tokensPerNano = ratePerSecond / 1_000_000_000d;
+        this.nanoClock = nanoClock;
+        this.tokens = capacity;
+        this.refilledAt = nanoClock.getAsLong();
+    }
+
+    /**
+     * 토큰 1개 사용
+     *
+     * @return 0 이면 허용, 그 외에는 다음 토큰까지 남은 나노초
+     */
+    synchronized long tryAcquire() {
+        long now = nanoClock.getAsLong();
+        tokens = Math.min(capacity, tokens + (now - refilledAt) * tokensPerNano);
+        refilledAt = now;
+
+        if (tokens >= 1) {
+            tokens -= 1;
+            return 0;
+        }
+        return (long) Math.ceil((1 - tokens) / tokensPerNano);
+    }
+}
@@ -0,0 +1,48 @@
+package com.minlab.hospital.infrastructure.cache;
+
+import com.minlab.hospital.domain.service.PatientInvalidation;
+import com.minlab.hospital.domain.service.PatientInvalidationChannel;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+@Slf4j
+abstract class AbstractPatientInvalidationChannel implements PatientInvalidationChannel {
+
+    private final List<Consumer<PatientInvalidation>> listeners = new CopyOnWriteArrayList<>();
+
+    @Override
+    public void subscribe(Consumer<PatientInvalidation> listener) {
+        listeners.add(listener);
+    }
+
+    protected void deliver(PatientInvalidation invalidation) {
+        for (Consumer<PatientInvalidation> listener : listeners) {
+            try {
+                listener.accept(invalidation);
+            } catch (RuntimeException e) {
+                log.warn("[cache] 환자 캐시 무효화 처리 실패: {}", invalidation, e);
+            }
+        }
+    }
+
+    /**
+     * 커밋 전에 제거하면 다른 요청이 커밋 전 값을 다시 캐시할 수 있으므로 커밋 후 전달
+     */
+    protected void deliverAfterCommit(PatientInvalidation invalidation) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            deliver(invalidation);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                deliver(invalidation);
+            }
+        });
+    }
+}
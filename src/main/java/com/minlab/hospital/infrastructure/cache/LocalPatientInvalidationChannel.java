@@ -0,0 +1,14 @@
+package com.minlab.hospital.infrastructure.cache;
+
+import com.minlab.hospital.domain.service.PatientInvalidation;
+
+/**
+ * 단일 노드용: 같은 JVM 의 구독자에게만 전달
+ */
+public class LocalPatientInvalidationChannel extends AbstractPatientInvalidationChannel {
+
+    @Override
+    public void publish(PatientInvalidation invalidation) {
+        deliverAfterCommit(invalidation);
+    }
+}
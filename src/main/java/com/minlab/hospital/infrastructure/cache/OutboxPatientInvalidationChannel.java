@@ -0,0 +1,116 @@
+package com.minlab.hospital.infrastructure.cache;
+
+import com.minlab.hospital.domain.service.PatientInvalidation;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import java.sql.Timestamp;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 다중 노드용: 변경 트랜잭션 안에서 patient_invalidation 테이블에 기록하고, 각 노드가 주기적으로 조회해 전달
+ * - 별도 메시지 브로커 불필요, 커밋된 변경만 전달됨
+ * - 늦게 커밋된 행을 놓치지 않도록 직전 조회 시작 시각 - lookback 이후 행을 매번 다시 조회 (중복 제거는 무해)
+ * - 샤딩 사용 시 샤드별로 조회
+ */
+@Slf4j
+public class OutboxPatientInvalidationChannel extends AbstractPatientInvalidationChannel {
+
+    private final JdbcTemplate writer;
+    private final Map<String, JdbcTemplate> sources;
+    private final Duration lookback;
+    private final Duration retention;
+    private final Clock clock;
+    private final Timer latency;
+
+    private final Map<String, Long> maxSeenIds = new ConcurrentHashMap<>();
+    private volatile Instant lastPollStartedAt;
+
+    public OutboxPatientInvalidationChannel(JdbcTemplate writer, Map<String, JdbcTemplate> sources,
+                                            Duration lookback, Duration retention, Clock clock,
+                                            MeterRegistry meterRegistry) {
+        this.writer = writer;
+        this.sources = Map.copyOf(sources);
+        this.lookback = lookback;
+        this.retention = retention;
+        this.clock = clock;
+        this.latency = Timer.builder("hospital.patient.cache.invalidation.latency")
+                .description("환자 변경 커밋부터 다른 노드 캐시 제거까지 걸린 시간")
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry);
+    }
+
+    /**
+     * 변경 트랜잭션과 같은 커넥션으로 기록 (롤백 시 함께 취소)
+     */
+    @Override
+    public void publish(PatientInvalidation invalidation) {
+        writer.update("INSERT INTO patient_invalidation (hospital_id, patient_id, patient_number, created_at) VALUES (?, ?, ?, ?)",
+                invalidation.hospitalId(), invalidation.patientId(), invalidation.patientNumber(),
+                Timestamp.from(clock.instant()));
+        deliverAfterCommit(invalidation);
+    }
+
+    @Scheduled(fixedDelayString = "${hospital.cache.outbox.poll-ms:500}")
+    public void poll() {
+        Instant startedAt = clock.instant();
+        if (lastPollStartedAt == null) {
+            // 기동 직후에는 캐시가 비어 있으므로 기존 행은 건너뜀
+            sources.forEach((name, jdbc) -> maxSeenIds.put(name,
+                    jdbc.queryForObject("SELECT COALESCE(MAX(id), 0) FROM patient_invalidation", Long.class)));
+            lastPollStartedAt = startedAt;
+            return;
+        }
+
+        Timestamp since = Timestamp.from(lastPollStartedAt.minus(lookback));
+        sources.forEach((name, jdbc) -> {
+            try {
+                poll(name, jdbc, since, startedAt);
+            } catch (DataAccessException e) {
+                log.warn("[cache] 환자 캐시 무효화 조회 실패. source={}: {}", name, e.getMessage());
+            }
+        });
+        lastPollStartedAt = startedAt;
+    }
+
+    @Scheduled(fixedDelayString = "${hospital.cache.outbox.cleanup-ms:60000}")
+    public void purge() {
+        Timestamp threshold = Timestamp.from(clock.instant().minus(retention));
+        sources.forEach((name, jdbc) -> {
+            try {
+                jdbc.update("DELETE FROM patient_invalidation WHERE created_at < ?", threshold);
+            } catch (DataAccessException e) {
+                log.warn("[cache] 환자 캐시 무효화 이력 정리 실패. source={}: {}", name, e.getMessage());
+            }
+        });
+    }
+
+    private void poll(String name, JdbcTemplate jdbc, Timestamp since, Instant now) {
+        long maxSeen = maxSeenIds.getOrDefault(name, 0L);
+        long newMaxSeen = maxSeen;
+
+        for (Map<String, Object> row : jdbc.queryForList(
+                "SELECT id, hospital_id, patient_id, patient_number, created_at FROM patient_invalidation WHERE created_at >= ? ORDER BY id",
+                since)) {
+            long id = ((Number) row.get("id")).longValue();
+            deliver(new PatientInvalidation(((Number) row.get("hospital_id")).longValue(),
+                    ((Number) row.get("patient_id")).longValue(), (String) row.get("patient_number")));
+
+            if (id > maxSeen) {
+                Instant createdAt = ((Timestamp) row.get("created_at")).toInstant();
+                Duration elapsed = Duration.between(createdAt, now);
+                latency.record(elapsed.isNegative() ? Duration.ZERO : elapsed);
+                newMaxSeen = Math.max(newMaxSeen, id);
+            }
+        }
+        maxSeenIds.put(name, newMaxSeen);
+    }
+}
@@ -0,0 +1,39 @@
+package com.minlab.hospital.infrastructure.outbox;
+
+import org.springframework.http.MediaType;
+import org.springframework.http.client.SimpleClientHttpRequestFactory;
+import org.springframework.web.client.RestClient;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * 지정 URL 로 배치(JSON 배열) POST, 2xx 가 아니면 실패 → 다음 실행에서 재전달
+ */
+public class HttpOutboxSink implements OutboxSink {
+
+    private final RestClient restClient;
+    private final String url;
+
+    public HttpOutboxSink(RestClient.Builder builder, String url, Duration timeout) {
+        if (url == null || url.isBlank()) {
+            throw new IllegalStateException("hospital.outbox.http.url 이 설정되지 않았습니다.");
+        }
+        SimpleClientHttpRequestFactory requestFactory = new SimpleClientHttpRequestFactory();
+        requestFactory.setConnectTimeout(timeout);
+        requestFactory.setReadTimeout(timeout);
+
+        this.restClient = builder.requestFactory(requestFactory).build();
+        this.url = url;
+    }
+
+    @Override
+    public void publish(List<OutboxMessage> messages) {
+        restClient.post()
+                .uri(url)
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(messages)
+                .retrieve()
+                .toBodilessEntity();
+    }
+}
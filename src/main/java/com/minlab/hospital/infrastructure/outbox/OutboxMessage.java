@@ -0,0 +1,36 @@
+package com.minlab.hospital.infrastructure.outbox;
+
+import com.fasterxml.jackson.annotation.JsonRawValue;
+import com.minlab.hospital.domain.entity.OutboxEvent;
+
+import java.time.LocalDateTime;
+
+/**
+ * 외부로 전달하는 변경 이벤트 (같은 이벤트가 두 번 이상 전달될 수 있으므로 수신 측은 partition + id 로 중복 제거)
+ * - seq: 파티션 안의 커밋 순서 (변경 피드 순번과 같음)
+ */
+public record OutboxMessage(
+        int partition,
+        Long id,
+        Long seq,
+        String aggregateType,
+        Long aggregateId,
+        Long hospitalId,
+        String eventType,
+        @JsonRawValue String payload,
+        LocalDateTime occurredAt
+) {
+    public static OutboxMessage from(int partition, OutboxEvent event) {
+        return new OutboxMessage(
+                partition,
+                event.getId(),
+                event.getFeedSeq(),
+                event.getAggregateType().name(),
+                event.getAggregateId(),
+                event.getHospitalId(),
+                event.getEventType().name(),
+                event.getPayload(),
+                event.getCreatedAt()
+        );
+    }
+}
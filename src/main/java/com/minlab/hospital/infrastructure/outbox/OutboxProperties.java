@@ -0,0 +1,57 @@
+package com.minlab.hospital.infrastructure.outbox;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Getter @Setter
+@ConfigurationProperties(prefix = "hospital.outbox")
+public class OutboxProperties {
+
+    /**
+     * 전달 대상: memory | file | http
+     */
+    private String sink = "memory";
+
+    /**
+     * 한 번에 전달할 이벤트 수
+     */
+    private int batchSize = 100;
+
+    /**
+     * 릴레이 1회 실행 시 파티션별 최대 배치 수
+     */
+    private int maxBatchesPerRun = 10;
+
+    /**
+     * 전달 완료 이벤트 보관 기간 (변경 피드 조회 가능 기간)
+     */
+    private Duration retention = Duration.ofDays(7);
+
+    private Relay relay = new Relay();
+    private File file = new File();
+    private Http http = new Http();
+
+    @Getter @Setter
+    public static class Relay {
+        private boolean enabled = true;
+
+        /**
+         * 선점 후 전달 완료 표시가 없으면 다른 실행이 다시 선점하는 시간 (전달 제한 시간보다 길게)
+         */
+        private Duration claimTimeout = Duration.ofMinutes(1);
+    }
+
+    @Getter @Setter
+    public static class File {
+        private String path = "build/outbox/events.jsonl";
+    }
+
+    @Getter @Setter
+    public static class Http {
+        private String url;
+        private Duration timeout = Duration.ofSeconds(5);
+    }
+}
@@ -0,0 +1,102 @@
+package com.minlab.hospital.infrastructure.outbox;
+
+import com.minlab.hospital.domain.entity.OutboxEvent;
+import com.minlab.hospital.domain.repository.OutboxEventRepository;
+import com.minlab.hospital.domain.service.DataPartitions;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 피드 순번이 부여된 미전달 변경 이벤트를 순번 순 배치로 OutboxSink 에 전달 (at-least-once)
+ * - 잠금 조회 후 선점 만료 시각만 기록하고 커밋 → 잠금 없이 전달 → 전달 완료 표시 (외부 호출 동안 행 잠금/커넥션 미보유)
+ * - 전달 실패 시 선점을 풀어 다음 실행에서 다시 전달, 중단 시에는 선점 만료(relay.claim-timeout) 후 다시 전달
+ * - 여러 노드가 서로 다른 배치를 동시에 전달할 수 있으므로 수신 측은 seq 로 순서를 맞춤
+ */
+@Slf4j
+public class OutboxRelay {
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final OutboxSink sink;
+    private final DataPartitions dataPartitions;
+    private final TransactionTemplate transaction;
+    private final OutboxProperties properties;
+    private final Counter relayed;
+    private final Counter failures;
+
+    public OutboxRelay(OutboxEventRepository outboxEventRepository, OutboxSink sink, DataPartitions dataPartitions,
+                       PlatformTransactionManager transactionManager, OutboxProperties properties,
+                       MeterRegistry meterRegistry) {
+        this.outboxEventRepository = outboxEventRepository;
+        this.sink = sink;
+        this.dataPartitions = dataPartitions;
+        this.transaction = new TransactionTemplate(transactionManager);
+        this.properties = properties;
+        this.relayed = meterRegistry.counter("hospital.outbox.relayed");
+        this.failures = meterRegistry.counter("hospital.outbox.relay.failures");
+    }
+
+    @Scheduled(fixedDelayString = "${hospital.outbox.relay.interval-ms:1000}")
+    public void relay() {
+        for (Integer partition : dataPartitions.ids()) {
+            try {
+                dataPartitions.callOn(partition, () -> relayPartition(partition));
+            } catch (RuntimeException e) {
+                failures.increment();
+                log.warn("[outbox] 변경 이벤트 전달 실패. partition={}: {}", partition, e.getMessage());
+            }
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${hospital.outbox.cleanup-ms:3600000}")
+    public void purge() {
+        LocalDateTime threshold = LocalDateTime.now().minus(properties.getRetention());
+        for (Integer partition : dataPartitions.ids()) {
+            dataPartitions.callOn(partition, () -> transaction.execute(
+                    status -> outboxEventRepository.deletePublishedBefore(threshold)));
+        }
+    }
+
+    int relayPartition(int partition) {
+        int total = 0;
+        for (int batch = 0; batch < properties.getMaxBatchesPerRun(); batch++) {
+            List<OutboxEvent> events = transaction.execute(status -> claim());
+            if (events == null || events.isEmpty()) {
+                break;
+            }
+
+            List<Long> ids = events.stream().map(OutboxEvent::getId).toList();
+            try {
+                sink.publish(events.stream().map(event -> OutboxMessage.from(partition, event)).toList());
+            } catch (RuntimeException e) {
+                transaction.executeWithoutResult(status -> outboxEventRepository.releaseClaim(ids));
+                throw e;
+            }
+            transaction.executeWithoutResult(status -> outboxEventRepository.markPublished(ids, LocalDateTime.now()));
+
+            relayed.increment(events.size());
+            total += events.size();
+            if (events.size() < properties.getBatchSize()) {
+                break;
+            }
+        }
+        return total;
+    }
+
+    private List<OutboxEvent> claim() {
+        LocalDateTime now = LocalDateTime.now();
+        List<OutboxEvent> events = outboxEventRepository.findClaimable(now, PageRequest.of(0, properties.getBatchSize()));
+        if (!events.isEmpty()) {
+            outboxEventRepository.claim(events.stream().map(OutboxEvent::getId).toList(),
+                    now.plus(properties.getRelay().getClaimTimeout()));
+        }
+        return events;
+    }
+}
@@ -0,0 +1,73 @@
+package com.minlab.hospital.infrastructure.outbox;
+
+import com.minlab.hospital.domain.entity.OutboxEvent;
+import com.minlab.hospital.domain.entity.OutboxSequence;
+import com.minlab.hospital.domain.repository.OutboxEventRepository;
+import com.minlab.hospital.domain.repository.OutboxSequenceRepository;
+import com.minlab.hospital.domain.service.DataPartitions;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+/**
+ * 커밋된 변경 이벤트에 피드 순번(feed_seq) 부여
+ * - outbox_sequence 행을 잠근 트랜잭션에서 부여하므로 다음 부여는 이전 부여가 커밋된 뒤에 시작
+ *   → 피드를 순번 순으로 읽으면 늦게 커밋된 이벤트도 건너뛰지 않음 (ID 는 커밋 순서와 다를 수 있음)
+ * - 변경 피드와 릴레이 전달 순서의 기준, 전달(OutboxRelay) 실패와 무관하게 실행
+ */
+@Slf4j
+public class OutboxSequencer {
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final OutboxSequenceRepository outboxSequenceRepository;
+    private final DataPartitions dataPartitions;
+    private final TransactionTemplate transaction;
+    private final OutboxProperties properties;
+
+    public OutboxSequencer(OutboxEventRepository outboxEventRepository, OutboxSequenceRepository outboxSequenceRepository,
+                           DataPartitions dataPartitions, PlatformTransactionManager transactionManager,
+                           OutboxProperties properties) {
+        this.outboxEventRepository = outboxEventRepository;
+        this.outboxSequenceRepository = outboxSequenceRepository;
+        this.dataPartitions = dataPartitions;
+        this.transaction = new TransactionTemplate(transactionManager);
+        this.properties = properties;
+    }
+
+    @Scheduled(fixedDelayString = "${hospital.outbox.sequence-interval-ms:200}")
+    public void sequence() {
+        for (Integer partition : dataPartitions.ids()) {
+            try {
+                dataPartitions.callOn(partition, this::sequencePartition);
+            } catch (RuntimeException e) {
+                log.warn("[outbox] 변경 피드 순번 부여 실패. partition={}: {}", partition, e.getMessage());
+            }
+        }
+    }
+
+    int sequencePartition() {
+        int total = 0;
+        for (int batch = 0; batch < properties.getMaxBatchesPerRun(); batch++) {
+            Integer sequenced = transaction.execute(status -> {
+                OutboxSequence sequence = outboxSequenceRepository.findByIdForUpdate(OutboxSequence.ID)
+                        // Flyway 를 쓰지 않는 환경(ddl-auto) 최초 실행, 동시에 생성되면 이번 실행만 실패
+                        .orElseGet(() -> outboxSequenceRepository.save(new OutboxSequence(OutboxSequence.ID, 0L)));
+
+                List<OutboxEvent> events = outboxEventRepository.findUnsequenced(PageRequest.of(0, properties.getBatchSize()));
+                events.forEach(event -> event.setFeedSeq(sequence.next()));
+                return events.size();
+            });
+
+            int count = sequenced == null ? 0 : sequenced;
+            total += count;
+            if (count < properties.getBatchSize()) {
+                break;
+            }
+        }
+        return total;
+    }
+}
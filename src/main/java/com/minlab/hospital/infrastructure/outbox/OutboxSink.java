@@ -0,0 +1,12 @@
+package com.minlab.hospital.infrastructure.outbox;
+
+import java.util.List;
+
+/**
+ * 변경 이벤트 전달 대상
+ * - 전달 실패 시 예외를 던지면 해당 배치는 미전달로 남아 다음 실행에서 다시 전달
+ */
+public interface OutboxSink {
+
+    void publish(List<OutboxMessage> messages);
+}
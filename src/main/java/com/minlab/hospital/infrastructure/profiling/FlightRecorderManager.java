@@ -0,0 +1,158 @@
+package com.minlab.hospital.infrastructure.profiling;
+
+import jakarta.persistence.EntityNotFoundException;
+import jdk.jfr.Configuration;
+import jdk.jfr.Event;
+import jdk.jfr.Recording;
+import jdk.jfr.RecordingState;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.text.ParseException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 운영 중 JFR 기록 시작/종료 (재시작 없이 CPU/할당/애플리케이션 이벤트 수집)
+ * - JDK default 설정(오버헤드 약 1%) + CPU 샘플/할당 샘플 주기 조정 + 애플리케이션 이벤트
+ * - 동시에 1개만 기록, 종료된 기록은 retainedRecordings 개까지 파일로 보관
+ * - 환경 변수/시스템 프로퍼티/JVM 인자 이벤트는 끔 (DB 비밀번호 등이 .jfr 파일에 남지 않도록)
+ */
+@Slf4j
+public class FlightRecorderManager {
+
+    private static final int MAX_TOP = 100;
+
+    // default 설정에 포함되지만 비밀 값을 담을 수 있는 이벤트
+    static final List<String> SENSITIVE_EVENTS = List.of(
+            "jdk.InitialEnvironmentVariable", "jdk.InitialSystemProperty", "jdk.JVMInformation");
+
+    private final ProfilingProperties properties;
+    private final Map<Long, Recording> recordings = new LinkedHashMap<>();
+
+    public FlightRecorderManager(ProfilingProperties properties) {
+        this.properties = properties;
+    }
+
+    public synchronized RecordingInfo start(Duration duration) {
+        Duration maxDuration = duration == null ? properties.getMaxDuration() : duration;
+        if (maxDuration.isNegative() || maxDuration.isZero() || maxDuration.compareTo(properties.getMaxDuration()) > 0) {
+            throw new IllegalArgumentException("기록 시간은 0 초과 " + properties.getMaxDuration() + " 이하여야 합니다.");
+        }
+        recordings.values().stream()
+                .filter(recording -> recording.getState() == RecordingState.RUNNING)
+                .findFirst()
+                .ifPresent(running -> {
+                    throw new IllegalArgumentException("이미 진행 중인 기록이 있습니다. id=" + running.getId());
+                });
+        evictOldRecordings();
+
+        Recording recording = new Recording(defaultConfiguration());
+        recording.setName("hospital-" + recording.getId());
+        recording.enable("jdk.ExecutionSample").withPeriod(properties.getExecutionSamplePeriod());
+        recording.enable("jdk.ObjectAllocationSample").with("throttle", properties.getAllocationThrottle());
+        for (Class<? extends Event> type : HospitalEvents.TYPES) {
+            recording.enable(type).withoutStackTrace();
+        }
+        SENSITIVE_EVENTS.forEach(recording::disable);
+        recording.setToDisk(true);
+        recording.setDuration(maxDuration);
+        try {
+            Files.createDirectories(properties.getDirectory());
+            // 종료(직접 또는 maxDuration 경과) 시 이 파일에 기록
+            recording.setDestination(properties.getDirectory().resolve(recording.getName() + ".jfr"));
+        } catch (IOException e) {
+            recording.close();
+            throw new UncheckedIOException("JFR 기록 위치를 준비할 수 없습니다. directory=" + properties.getDirectory(), e);
+        }
+
+        recording.start();
+        recordings.put(recording.getId(), recording);
+        log.info("[jfr] 기록 시작 id={} maxDuration={}", recording.getId(), maxDuration);
+        return RecordingInfo.of(recording);
+    }
+
+    public synchronized RecordingInfo stop(long id) {
+        Recording recording = find(id);
+        if (recording.getState() == RecordingState.RUNNING) {
+            recording.stop();
+            log.info("[jfr] 기록 종료 id={} file={}", id, recording.getDestination());
+        }
+        return RecordingInfo.of(recording);
+    }
+
+    public synchronized List<RecordingInfo> list() {
+        return recordings.values().stream().map(RecordingInfo::of).toList();
+    }
+
+    /**
+     * 종료된 기록 파일 (진행 중이면 400)
+     */
+    public synchronized Path file(long id) {
+        Recording recording = find(id);
+        Path destination = recording.getDestination();
+        if (recording.getState() != RecordingState.STOPPED || destination == null || !Files.exists(destination)) {
+            throw new IllegalArgumentException("기록이 아직 종료되지 않았습니다. id=" + id);
+        }
+        return destination;
+    }
+
+    public RecordingSummary summarize(long id, int top) {
+        if (top < 1 || top > MAX_TOP) {
+            throw new IllegalArgumentException("top 은 1~" + MAX_TOP + " 사이여야 합니다.");
+        }
+        try {
+            return RecordingSummary.read(file(id), top);
+        } catch (IOException e) {
+            throw new UncheckedIOException("JFR 기록을 읽을 수 없습니다. id=" + id, e);
+        }
+    }
+
+    private Recording find(long id) {
+        Recording recording = recordings.get(id);
+        if (recording == null) {
+            throw new EntityNotFoundException("JFR 기록을 찾을 수 없습니다. id=" + id);
+        }
+        return recording;
+    }
+
+    private void evictOldRecordings() {
+        List<Long> ids = new ArrayList<>(recordings.keySet());
+        for (int i = 0; i <= ids.size() - properties.getRetainedRecordings(); i++) {
+            Recording recording = recordings.remove(ids.get(i));
+            Path destination = recording.getDestination();
+            recording.close();
+            try {
+                if (destination != null) {
+                    Files.deleteIfExists(destination);
+                }
+            } catch (IOException e) {
+                log.warn("[jfr] 기록 파일 삭제 실패 {}", destination, e);
+            }
+        }
+    }
+
+    private static Configuration defaultConfiguration() {
+        try {
+            return Configuration.getConfiguration("default");
+        } catch (IOException | ParseException e) {
+            throw new IllegalStateException("JFR default 설정을 읽을 수 없습니다.", e);
+        }
+    }
+
+    public record RecordingInfo(long id, String name, String state, Instant startTime,
+                                Instant stopTime, Duration maxDuration, long size) {
+
+        static RecordingInfo of(Recording recording) {
+            return new RecordingInfo(recording.getId(), recording.getName(), recording.getState().name(),
+                    recording.getStartTime(), recording.getStopTime(), recording.getDuration(), recording.getSize());
+        }
+    }
+}
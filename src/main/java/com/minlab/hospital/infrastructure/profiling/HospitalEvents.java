@@ -0,0 +1,19 @@
+package com.minlab.hospital.infrastructure.profiling;
+
+import jdk.jfr.Event;
+
+import java.util.List;
+
+/**
+ * 애플리케이션 JFR 이벤트 목록 (기록 설정/요약에서 사용)
+ */
+public final class HospitalEvents {
+
+    public static final String PREFIX = "com.minlab.hospital.";
+
+    public static final List<Class<? extends Event>> TYPES =
+            List.of(PatientSeqWaitEvent.class, PatientSearchEvent.class, VisitWriteEvent.class);
+
+    private HospitalEvents() {
+    }
+}
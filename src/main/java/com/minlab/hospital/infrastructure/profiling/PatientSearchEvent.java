@@ -0,0 +1,42 @@
+package com.minlab.hospital.infrastructure.profiling;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * 환자 조건 조회 (목록 + 전체 개수 쿼리), 사용한 조건과 조회 행 수
+ */
+@Name(HospitalEvents.PREFIX + "PatientSearch")
+@Label("Patient Search")
+@Category({"Hospital", "Patient"})
+@Description("환자 조건 조회 쿼리 (목록 + 개수)")
+@StackTrace(false)
+public class PatientSearchEvent extends Event {
+
+    @Label("Hospital ID")
+    long hospitalId;
+
+    @Label("Filters")
+    String filters;
+
+    @Label("Rows")
+    int rows;
+
+    @Label("Total")
+    long total;
+
+    public void record(long hospitalId, String filters, int rows, long total) {
+        end();
+        if (shouldCommit()) {
+            this.hospitalId = hospitalId;
+            this.filters = filters;
+            this.rows = rows;
+            this.total = total;
+            commit();
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package com.minlab.hospital.infrastructure.profiling;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * 환자 등록 시 병원 행 잠금 + 마지막 순번 조회까지 대기 시간 (같은 병원 등록이 몰리면 증가)
+ */
+@Name(HospitalEvents.PREFIX + "PatientSeqWait")
+@Label("Patient Seq Wait")
+@Category({"Hospital", "Patient"})
+@Description("병원 행 잠금 획득 ~ 다음 환자 순번 계산")
+@StackTrace(false)
+public class PatientSeqWaitEvent extends Event {
+
+    @Label("Hospital ID")
+    long hospitalId;
+
+    @Label("Next Seq")
+    long nextSeq;
+
+    public void record(long hospitalId, long nextSeq) {
+        end();
+        if (shouldCommit()) {
+            this.hospitalId = hospitalId;
+            this.nextSeq = nextSeq;
+            commit();
+        }
+    }
+}
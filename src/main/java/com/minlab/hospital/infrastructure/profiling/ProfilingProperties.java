@@ -0,0 +1,40 @@
+package com.minlab.hospital.infrastructure.profiling;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+@Getter @Setter
+@ConfigurationProperties(prefix = "hospital.profiling")
+public class ProfilingProperties {
+
+    private boolean enabled = false;
+
+    /**
+     * .jfr 파일 저장 위치
+     */
+    private Path directory = Path.of(System.getProperty("java.io.tmpdir"), "hospital-jfr");
+
+    /**
+     * 기록 최대 길이 (지나면 자동 종료)
+     */
+    private Duration maxDuration = Duration.ofMinutes(10);
+
+    /**
+     * 보관할 기록 수 (초과 시 오래된 기록부터 파일 삭제)
+     */
+    private int retainedRecordings = 5;
+
+    /**
+     * CPU 샘플링 주기 (JDK profile 설정 10ms 대비 절반 빈도)
+     */
+    private Duration executionSamplePeriod = Duration.ofMillis(20);
+
+    /**
+     * 할당 샘플 상한 (JDK default 설정과 동일)
+     */
+    private String allocationThrottle = "150/s";
+}
@@ -0,0 +1,94 @@
+package com.minlab.hospital.infrastructure.profiling;
+
+import jdk.jfr.consumer.RecordedClass;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedMethod;
+import jdk.jfr.consumer.RecordedStackTrace;
+import jdk.jfr.consumer.RecordingFile;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.List;
+import java.util.LongSummaryStatistics;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JFR 기록 요약
+ * - hotMethods: CPU 샘플의 최상위 프레임 메서드별 샘플 수
+ * - allocations: 할당 샘플의 클래스별 추정 할당 바이트 (weight 합)
+ * - events: 애플리케이션 이벤트별 건수 / 평균 / 최대 시간
+ */
+public record RecordingSummary(long executionSamples, List<HotMethod> hotMethods,
+                               List<Allocation> allocations, List<EventStats> events) {
+
+    public record HotMethod(String method, long samples, double percent) {
+    }
+
+    public record Allocation(String type, long bytes) {
+    }
+
+    public record EventStats(String name, long count, double avgMillis, double maxMillis) {
+    }
+
+    public static RecordingSummary read(Path file, int top) throws IOException {
+        Map<String, Long> methods = new HashMap<>();
+        Map<String, Long> allocations = new HashMap<>();
+        Map<String, LongSummaryStatistics> events = new TreeMap<>();
+        long samples = 0;
+
+        try (RecordingFile recording = new RecordingFile(file)) {
+            while (recording.hasMoreEvents()) {
+                RecordedEvent event = recording.readEvent();
+                String type = event.getEventType().getName();
+                if (type.equals("jdk.ExecutionSample")) {
+                    String method = topFrame(event.getStackTrace());
+                    if (method != null) {
+                        methods.merge(method, 1L, Long::sum);
+                        samples++;
+                    }
+                } else if (type.equals("jdk.ObjectAllocationSample")) {
+                    RecordedClass objectClass = event.getClass("objectClass");
+                    allocations.merge(objectClass == null ? "unknown" : objectClass.getName(), event.getLong("weight"), Long::sum);
+                } else if (type.startsWith(HospitalEvents.PREFIX)) {
+                    events.computeIfAbsent(type.substring(HospitalEvents.PREFIX.length()), name -> new LongSummaryStatistics())
+                            .accept(event.getDuration().toNanos());
+                }
+            }
+        }
+
+        long total = samples;
+        List<HotMethod> hotMethods = methods.entrySet().stream()
+                .sorted(Map.Entry.<String, Long>comparingByValue().reversed())
+                .limit(top)
+                .map(entry -> new HotMethod(entry.getKey(), entry.getValue(), Math.round(entry.getValue() * 1000.0 / total) / 10.0))
+                .toList();
+        List<Allocation> topAllocations = allocations.entrySet().stream()
+                .sorted(Map.Entry.<String, Long>comparingByValue().reversed())
+                .limit(top)
+                .map(entry -> new Allocation(entry.getKey(), entry.getValue()))
+                .toList();
+        List<EventStats> eventStats = events.entrySet().stream()
+                .map(entry -> new EventStats(entry.getKey(), entry.getValue().getCount(),
+                        millis(entry.getValue().getAverage()), millis(entry.getValue().getMax())))
+                .toList();
+
+        return new RecordingSummary(samples, hotMethods, topAllocations, eventStats);
+    }
+
+    private static String topFrame(RecordedStackTrace stackTrace) {
+        if (stackTrace == null || stackTrace.getFrames().isEmpty()) {
+            return null;
+        }
+        RecordedFrame frame = stackTrace.getFrames().get(0);
+        RecordedMethod method = frame.getMethod();
+        return method.getType().getName() + "." + method.getName();
+    }
+
+    private static double millis(double nanos) {
+        return Math.round(nanos / TimeUnit.MILLISECONDS.toNanos(1) * 1000) / 1000.0;
+    }
+}
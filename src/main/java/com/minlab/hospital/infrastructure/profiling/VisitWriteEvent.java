@@ -0,0 +1,38 @@
+package com.minlab.hospital.infrastructure.profiling;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * 방문 등록/수정/삭제 (변경 이벤트 기록 포함, 커밋 제외)
+ */
+@Name(HospitalEvents.PREFIX + "VisitWrite")
+@Label("Visit Write")
+@Category({"Hospital", "Visit"})
+@Description("방문 등록/수정/삭제")
+@StackTrace(false)
+public class VisitWriteEvent extends Event {
+
+    @Label("Operation")
+    String operation;
+
+    @Label("Hospital ID")
+    long hospitalId;
+
+    @Label("Visit ID")
+    long visitId;
+
+    public void record(String operation, long hospitalId, long visitId) {
+        end();
+        if (shouldCommit()) {
+            this.operation = operation;
+            this.hospitalId = hospitalId;
+            this.visitId = visitId;
+            commit();
+        }
+    }
+}
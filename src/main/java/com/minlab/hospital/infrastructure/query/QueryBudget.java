@@ -0,0 +1,22 @@
+package com.minlab.hospital.infrastructure.query;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 요청 1건당 허용하는 JDBC 문장 수 / 조회 엔티티 수 (지연 로딩으로 쿼리가 늘어나는 것 감지)
+ * - 지정하지 않은 핸들러는 hospital.query-budget.default-statements 적용
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface QueryBudget {
+
+    int statements();
+
+    /**
+     * 조회 엔티티 수 상한 (-1: 확인하지 않음)
+     */
+    int rows() default -1;
+}
@@ -0,0 +1,11 @@
+package com.minlab.hospital.infrastructure.query;
+
+/**
+ * 요청이 쿼리 예산을 초과 (hospital.query-budget.mode=fail 인 테스트에서 요청을 실패시킴)
+ */
+public class QueryBudgetExceededException extends IllegalStateException {
+
+    public QueryBudgetExceededException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,114 @@
+package com.minlab.hospital.infrastructure.query;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+import org.springframework.web.util.WebUtils;
+
+import java.io.IOException;
+
+/**
+ * 요청 1건의 JDBC 문장 수 / 조회 엔티티 수 집계 (응답 직렬화 중 지연 로딩 포함)
+ * - 메트릭: hospital.request.statements{endpoint}, hospital.request.rows{endpoint}
+ * - 예산 초과: hospital.request.query.budget.exceeded{endpoint} + 경고 로그 (fail 모드면 예외)
+ * - fail 모드는 응답 본문을 버퍼에 모았다가 예산 확인 후 내보냄 (초과 시 본문이 나가기 전에 실패)
+ * - 비동기 처리 요청은 최초 요청과 재진입(ASYNC dispatch)을 합쳐 재진입 종료 시 한 번 기록
+ */
+@Slf4j
+public class QueryBudgetFilter extends OncePerRequestFilter {
+
+    private static final String COUNTER_ATTRIBUTE = QueryBudgetFilter.class.getName() + ".counter";
+
+    private final QueryBudgetProperties properties;
+    private final MeterRegistry meterRegistry;
+
+    public QueryBudgetFilter(QueryBudgetProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    protected boolean shouldNotFilterAsyncDispatch() {
+        return false;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        QueryCounter counter = isAsyncDispatch(request) && request.getAttribute(COUNTER_ATTRIBUTE) instanceof QueryCounter started
+                ? QueryCounter.resume(started)
+                : QueryCounter.start();
+        // 비동기 재진입은 최초 요청에서 감싼 응답을 그대로 받음
+        HttpServletResponse responseToUse = failMode() && !isAsyncDispatch(request)
+                ? new ContentCachingResponseWrapper(response)
+                : response;
+        try {
+            chain.doFilter(request, responseToUse);
+        } finally {
+            QueryCounter.stop();
+        }
+
+        if (isAsyncStarted(request)) {
+            request.setAttribute(COUNTER_ATTRIBUTE, counter);
+            return;
+        }
+
+        record(request, counter);
+
+        ContentCachingResponseWrapper buffered = WebUtils.getNativeResponse(responseToUse, ContentCachingResponseWrapper.class);
+        if (buffered != null) {
+            buffered.copyBodyToResponse();
+        }
+    }
+
+    private boolean failMode() {
+        return properties.getMode() == QueryBudgetProperties.Mode.FAIL;
+    }
+
+    private void record(HttpServletRequest request, QueryCounter counter) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        if (pattern == null) {
+            return;
+        }
+        String endpoint = request.getMethod() + " " + pattern;
+        summary("hospital.request.statements", endpoint).record(counter.statements());
+        summary("hospital.request.rows", endpoint).record(counter.rows());
+
+        String violation = violation(request, counter);
+        if (violation != null) {
+            meterRegistry.counter("hospital.request.query.budget.exceeded", "endpoint", endpoint).increment();
+            String message = "[query-budget] " + endpoint + " " + violation;
+            if (failMode()) {
+                throw new QueryBudgetExceededException(message);
+            }
+            log.warn(message);
+        }
+    }
+
+    private String violation(HttpServletRequest request, QueryCounter counter) {
+        QueryBudget budget = (QueryBudget) request.getAttribute(QueryBudgetInterceptor.BUDGET_ATTRIBUTE);
+        int maxStatements = budget != null ? budget.statements() : properties.getDefaultStatements();
+        int maxRows = budget != null ? budget.rows() : -1;
+
+        if (maxStatements > 0 && counter.statements() > maxStatements) {
+            return "statements " + counter.statements() + " > " + maxStatements;
+        }
+        if (maxRows >= 0 && counter.rows() > maxRows) {
+            return "rows " + counter.rows() + " > " + maxRows;
+        }
+        return null;
+    }
+
+    private DistributionSummary summary(String name, String endpoint) {
+        return DistributionSummary.builder(name)
+                .tag("endpoint", endpoint)
+                .register(meterRegistry);
+    }
+}
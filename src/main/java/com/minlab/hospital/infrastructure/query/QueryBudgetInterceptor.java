@@ -0,0 +1,25 @@
+package com.minlab.hospital.infrastructure.query;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+/**
+ * 핸들러의 @QueryBudget 을 요청 속성에 기록 (집계/판정은 QueryBudgetFilter 에서 응답 완료 후)
+ */
+public class QueryBudgetInterceptor implements HandlerInterceptor {
+
+    static final String BUDGET_ATTRIBUTE = QueryBudgetInterceptor.class.getName() + ".budget";
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (handler instanceof HandlerMethod handlerMethod) {
+            QueryBudget budget = handlerMethod.getMethodAnnotation(QueryBudget.class);
+            if (budget != null) {
+                request.setAttribute(BUDGET_ATTRIBUTE, budget);
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,24 @@
+package com.minlab.hospital.infrastructure.query;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Getter @Setter
+@ConfigurationProperties(prefix = "hospital.query-budget")
+public class QueryBudgetProperties {
+
+    private boolean enabled = true;
+
+    /**
+     * 초과 시 처리: log (경고 로그) | fail (예외, 테스트용)
+     */
+    private Mode mode = Mode.LOG;
+
+    /**
+     * @QueryBudget 이 없는 핸들러의 JDBC 문장 수 상한 (0: 확인하지 않음)
+     */
+    private int defaultStatements = 0;
+
+    public enum Mode { LOG, FAIL }
+}
@@ -0,0 +1,72 @@
+package com.minlab.hospital.infrastructure.query;
+
+/**
+ * 현재 요청에서 실행한 JDBC 문장 수 / 조회한 엔티티 수 (요청 스레드 단위)
+ * - 요청 범위 밖(스케줄러 등)에서는 집계하지 않음
+ * - 비동기 처리 요청은 작업 스레드(propagate)와 재진입 요청 스레드(resume)에서 같은 집계를 이어서 사용
+ */
+public final class QueryCounter {
+
+    private static final ThreadLocal<QueryCounter> CURRENT = new ThreadLocal<>();
+
+    private int statements;
+    private int rows;
+
+    private QueryCounter() {
+    }
+
+    static QueryCounter start() {
+        QueryCounter counter = new QueryCounter();
+        CURRENT.set(counter);
+        return counter;
+    }
+
+    static QueryCounter resume(QueryCounter counter) {
+        CURRENT.set(counter);
+        return counter;
+    }
+
+    /**
+     * 현재 요청의 집계를 다른 스레드에서 이어서 기록하도록 작업을 감쌈 (집계 중이 아니면 그대로 반환)
+     */
+    public static Runnable propagate(Runnable task) {
+        QueryCounter counter = CURRENT.get();
+        if (counter == null) {
+            return task;
+        }
+        return () -> {
+            CURRENT.set(counter);
+            try {
+                task.run();
+            } finally {
+                CURRENT.remove();
+            }
+        };
+    }
+
+    static void stop() {
+        CURRENT.remove();
+    }
+
+    static void statementExecuted() {
+        QueryCounter counter = CURRENT.get();
+        if (counter != null) {
+            counter.statements++;
+        }
+    }
+
+    static void rowLoaded() {
+        QueryCounter counter = CURRENT.get();
+        if (counter != null) {
+            counter.rows++;
+        }
+    }
+
+    public int statements() {
+        return statements;
+    }
+
+    public int rows() {
+        return rows;
+    }
+}
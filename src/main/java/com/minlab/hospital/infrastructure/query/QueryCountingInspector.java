@@ -0,0 +1,15 @@
+package com.minlab.hospital.infrastructure.query;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * Hibernate 가 실행하는 모든 SQL 문장 수 집계 (SQL 은 변경하지 않음)
+ */
+public class QueryCountingInspector implements StatementInspector {
+
+    @Override
+    public String inspect(String sql) {
+        QueryCounter.statementExecuted();
+        return sql;
+    }
+}
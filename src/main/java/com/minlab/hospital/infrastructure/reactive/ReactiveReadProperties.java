@@ -0,0 +1,31 @@
+package com.minlab.hospital.infrastructure.reactive;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Getter @Setter
+@ConfigurationProperties(prefix = "hospital.reactive")
+public class ReactiveReadProperties {
+
+    private boolean enabled = false;
+
+    /**
+     * 조회 전용 WebFlux 서버 포트 (0 이면 임의 포트)
+     */
+    private int port = 0;
+
+    /**
+     * R2DBC 접속 URL (개발 환경은 JDBC 와 같은 H2 메모리 DB)
+     */
+    private String url = "r2dbc:h2:mem:///hospitaldb";
+
+    private String username = "sa";
+
+    private String password = "";
+
+    /**
+     * 커넥션 풀 크기 (비교 시 JDBC 풀과 같은 크기로 맞춤)
+     */
+    private int poolSize = 10;
+}
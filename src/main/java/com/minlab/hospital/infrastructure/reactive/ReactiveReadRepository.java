@@ -0,0 +1,245 @@
+package com.minlab.hospital.infrastructure.reactive;
+
+import com.minlab.hospital.domain.entity.Patient;
+import com.minlab.hospital.domain.repository.CappedPage;
+import com.minlab.hospital.presentation.dto.request.PatientSearchRequestDto;
+import com.minlab.hospital.presentation.dto.response.PatientResponseDto;
+import com.minlab.hospital.presentation.dto.response.PatientSearchResponseDto;
+import com.minlab.hospital.presentation.dto.response.VisitResponseDto;
+import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.spi.Readable;
+import jakarta.persistence.EntityNotFoundException;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.r2dbc.core.DatabaseClient;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.StringJoiner;
+
+/**
+ * R2DBC 조회 (환자 단건 / 환자 조건 검색 / 환자별 방문)
+ * - JPA 경로와 같은 응답이 나오도록 SQL 직접 작성: 삭제 환자 제외(status = 'A'), 코드 → label 은 code_value 조인
+ * - 검색은 JPA 경로와 같은 행 수 상한(hospital.search.max-rows) 적용, 쿼리별 제한 시간 초과 시 구독 취소
+ * - 정렬은 JPA 경로와 동일: 검색은 환자 id 순, 방문은 요청 sort + id 순
+ * - 단일 DB 전용 (샤딩/읽기 복제본 라우팅 없음)
+ */
+public class ReactiveReadRepository implements DisposableBean {
+
+    private static final String ACTIVE = "p.status = '" + Patient.ACTIVE + "'";
+
+    // 성별 label 은 GROUP BY 에도 쓰이므로 별칭 없이 g.label 로 조회
+    private static final String PATIENT_COLUMNS = "p.id, p.name, p.patient_number, g.label, p.birth_date, p.phone, p.address";
+
+    // 방문 정렬 가능 속성 (Visit 엔티티 필드명) → 컬럼
+    private static final Map<String, String> VISIT_SORT_COLUMNS = Map.of(
+            "id", "v.id",
+            "visitDate", "v.visit_date",
+            "visitStatus", "v.visit_status",
+            "visitType", "v.visit_type",
+            "visitCategory", "v.visit_category");
+
+    private static final String GENDER_JOIN = " JOIN code_value g ON g.code_type = 'GENDER' AND g.code = p.gender";
+
+    private final ConnectionPool pool;
+    private final DatabaseClient client;
+    private final int maxRows;
+    private final Duration queryTimeout;
+
+    public ReactiveReadRepository(ConnectionPool pool, int maxRows, Duration queryTimeout) {
+        this.pool = pool;
+        this.client = DatabaseClient.create(pool);
+        this.maxRows = maxRows;
+        this.queryTimeout = queryTimeout;
+    }
+
+    public Mono<PatientResponseDto> findPatient(Long hospitalId, Long patientId) {
+        return client.sql("SELECT " + PATIENT_COLUMNS + " FROM patient p" + GENDER_JOIN
+                        + " WHERE p.hospital_id = :hospitalId AND p.id = :patientId AND " + ACTIVE)
+                .bind("hospitalId", hospitalId)
+                .bind("patientId", patientId)
+                .map(ReactiveReadRepository::patient)
+                .one()
+                .switchIfEmpty(Mono.error(() -> new EntityNotFoundException("해당 병원에서 환자를 찾을 수 없습니다.")));
+    }
+
+    /**
+     * PatientRepositoryImpl.searchPatients 와 같은 조건/상한 (페이지 조회 후 maxRows + 1 건까지 개수 확인)
+     */
+    public Mono<CappedPage<PatientSearchResponseDto>> searchPatients(Long hospitalId, PatientSearchRequestDto condition, Pageable pageable) {
+        StringBuilder where = new StringBuilder(" WHERE p.hospital_id = :hospitalId AND " + ACTIVE);
+        Map<String, Object> params = new LinkedHashMap<>();
+        params.put("hospitalId", hospitalId);
+
+        if (condition.getName() != null && !condition.getName().isBlank()) {
+            where.append(" AND LOWER(p.name) LIKE :name ESCAPE '!'");
+            params.put("name", "%" + escapeLike(condition.getName().toLowerCase()) + "%");
+        }
+        if (condition.getPatientNumber() != null && !condition.getPatientNumber().isBlank()) {
+            where.append(" AND p.patient_number = :patientNumber");
+            params.put("patientNumber", condition.getPatientNumber());
+        }
+        if (condition.getBirthDate() != null && !condition.getBirthDate().isBlank()) {
+            where.append(" AND CAST(p.birth_date AS VARCHAR(10)) = :birthDate");
+            params.put("birthDate", condition.getBirthDate());
+        }
+
+        long remaining = maxRows - pageable.getOffset();
+        Mono<List<PatientSearchResponseDto>> content = remaining <= 0 ? Mono.just(List.of()) : bind(client.sql(
+                        "SELECT " + PATIENT_COLUMNS + ", MAX(v.visit_date) AS recent_visit_date"
+                                + " FROM patient p" + GENDER_JOIN + " LEFT JOIN visit v ON v.patient_id = p.id" + where
+                                + " GROUP BY " + PATIENT_COLUMNS
+                                + " ORDER BY p.id"
+                                + " LIMIT :limit OFFSET :offset"), params)
+                .bind("limit", Math.min(pageable.getPageSize(), remaining))
+                .bind("offset", pageable.getOffset())
+                .map(ReactiveReadRepository::searchResult)
+                .all()
+                .collectList()
+                .timeout(queryTimeout);
+
+        Mono<Long> matched = bind(client.sql(
+                        "SELECT COUNT(*) AS matched FROM (SELECT p.id FROM patient p" + where + " LIMIT :cap) t"), params)
+                .bind("cap", maxRows + 1L)
+                .map(row -> row.get("matched", Long.class))
+                .one()
+                .timeout(queryTimeout);
+
+        return requireHospital(hospitalId)
+                .then(content)
+                .flatMap(rows -> matched.map(count ->
+                        new CappedPage<>(rows, pageable, Math.min(count, maxRows), count > maxRows)));
+    }
+
+    /**
+     * VisitService.getVisitsByPatient 와 같은 페이지 (첫 페이지가 다 차지 않으면 개수 조회 생략)
+     */
+    public Mono<Page<VisitResponseDto>> findVisitsByPatient(Long patientId, Pageable pageable) {
+        Mono<List<VisitResponseDto>> content = client.sql(
+                        "SELECT v.id, v.hospital_id, v.patient_id, p.patient_number, v.visit_date,"
+                                + " s.label AS visit_status, t.label AS visit_type"
+                                + " FROM visit v JOIN patient p ON p.id = v.patient_id"
+                                + " JOIN code_value s ON s.code_type = 'VISIT_STATUS' AND s.code = v.visit_status"
+                                + " JOIN code_value t ON t.code_type = 'VISIT_TYPE' AND t.code = v.visit_type"
+                                + " WHERE v.patient_id = :patientId"
+                                + visitOrderBy(pageable.getSort())
+                                + " LIMIT :limit OFFSET :offset")
+                .bind("patientId", patientId)
+                .bind("limit", pageable.getPageSize())
+                .bind("offset", pageable.getOffset())
+                .map(ReactiveReadRepository::visit)
+                .all()
+                .collectList();
+
+        return requirePatient(patientId)
+                .then(content)
+                .<Page<VisitResponseDto>>flatMap(rows -> {
+                    if (pageable.getOffset() == 0 && rows.size() < pageable.getPageSize()) {
+                        return Mono.just(new PageImpl<>(rows, pageable, rows.size()));
+                    }
+                    return client.sql("SELECT COUNT(*) AS total FROM visit WHERE patient_id = :patientId")
+                            .bind("patientId", patientId)
+                            .map(row -> row.get("total", Long.class))
+                            .one()
+                            .map(total -> new PageImpl<>(rows, pageable, total));
+                });
+    }
+
+    @Override
+    public void destroy() {
+        pool.dispose();
+    }
+
+    private Mono<Void> requireHospital(Long hospitalId) {
+        return client.sql("SELECT id FROM hospital WHERE id = :hospitalId")
+                .bind("hospitalId", hospitalId)
+                .map(row -> row.get("id", Long.class))
+                .one()
+                .switchIfEmpty(Mono.error(() -> new EntityNotFoundException("해당 병원을 찾을 수 없습니다.")))
+                .then();
+    }
+
+    private Mono<Void> requirePatient(Long patientId) {
+        return client.sql("SELECT p.id FROM patient p WHERE p.id = :patientId AND " + ACTIVE)
+                .bind("patientId", patientId)
+                .map(row -> row.get("id", Long.class))
+                .one()
+                .switchIfEmpty(Mono.error(() -> new EntityNotFoundException("해당 환자를 찾을 수 없습니다.")))
+                .then();
+    }
+
+    private static DatabaseClient.GenericExecuteSpec bind(DatabaseClient.GenericExecuteSpec spec, Map<String, Object> params) {
+        for (Map.Entry<String, Object> param : params.entrySet()) {
+            spec = spec.bind(param.getKey(), param.getValue());
+        }
+        return spec;
+    }
+
+    /**
+     * VisitService 와 같은 정렬 (요청 sort 뒤에 id 오름차순, 정렬할 수 없는 속성은 400)
+     */
+    private static String visitOrderBy(Sort sort) {
+        StringJoiner orderBy = new StringJoiner(", ", " ORDER BY ", "");
+        for (Sort.Order order : sort) {
+            String column = VISIT_SORT_COLUMNS.get(order.getProperty());
+            if (column == null) {
+                throw new IllegalArgumentException("정렬할 수 없는 속성입니다: " + order.getProperty());
+            }
+            orderBy.add(column + (order.isAscending() ? " ASC" : " DESC"));
+        }
+        if (sort.getOrderFor("id") == null) {
+            orderBy.add("v.id ASC");
+        }
+        return orderBy.toString();
+    }
+
+    // Querydsl containsIgnoreCase 와 같은 이스케이프 문자('!')
+    private static String escapeLike(String value) {
+        return value.replace("!", "!!").replace("%", "!%").replace("_", "!_");
+    }
+
+    private static PatientResponseDto patient(Readable row) {
+        return new PatientResponseDto(
+                row.get("id", Long.class),
+                row.get("name", String.class),
+                row.get("patient_number", String.class),
+                row.get("label", String.class),
+                row.get("birth_date", LocalDate.class),
+                row.get("phone", String.class),
+                row.get("address", String.class)
+        );
+    }
+
+    private static PatientSearchResponseDto searchResult(Readable row) {
+        return new PatientSearchResponseDto(
+                row.get("id", Long.class),
+                row.get("name", String.class),
+                row.get("patient_number", String.class),
+                row.get("label", String.class),
+                row.get("birth_date", LocalDate.class),
+                row.get("phone", String.class),
+                row.get("address", String.class),
+                row.get("recent_visit_date", LocalDateTime.class)
+        );
+    }
+
+    private static VisitResponseDto visit(Readable row) {
+        return new VisitResponseDto(
+                row.get("id", Long.class),
+                row.get("hospital_id", Long.class),
+                row.get("patient_id", Long.class),
+                row.get("patient_number", String.class),
+                row.get("visit_date", LocalDateTime.class),
+                row.get("visit_status", String.class),
+                row.get("visit_type", String.class)
+        );
+    }
+}
@@ -0,0 +1,50 @@
+package com.minlab.hospital.infrastructure.reactive;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.web.embedded.netty.NettyReactiveWebServerFactory;
+import org.springframework.boot.web.server.Compression;
+import org.springframework.boot.web.server.WebServer;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.http.server.reactive.HttpHandler;
+
+/**
+ * 조회 전용 WebFlux 서버 (서블릿 서버와 별도 포트의 Netty)
+ * - 애플리케이션은 서블릿 웹 애플리케이션 그대로 두고, 함수형 라우트만 이 서버에 연결
+ */
+@Slf4j
+public class ReactiveReadServer implements SmartLifecycle {
+
+    private final WebServer webServer;
+    private volatile boolean running;
+
+    public ReactiveReadServer(HttpHandler httpHandler, int port, Compression compression) {
+        NettyReactiveWebServerFactory factory = new NettyReactiveWebServerFactory(port);
+        factory.setCompression(compression);
+        this.webServer = factory.getWebServer(httpHandler);
+    }
+
+    @Override
+    public void start() {
+        webServer.start();
+        running = true;
+        log.info("reactive read server started on port {}", webServer.getPort());
+    }
+
+    @Override
+    public void stop() {
+        webServer.stop();
+        running = false;
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    /**
+     * 실제 바인딩된 포트 (port=0 일 때 임의 포트)
+     */
+    public int getPort() {
+        return webServer.getPort();
+    }
+}
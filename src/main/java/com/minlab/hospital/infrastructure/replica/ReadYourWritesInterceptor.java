@@ -0,0 +1,57 @@
+package com.minlab.hospital.infrastructure.replica;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpMethod;
+import org.springframework.util.StringUtils;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+
+/**
+ * 최근에 쓰기를 한 클라이언트의 요청은 primary 에서 읽도록 고정
+ * - 클라이언트 식별: X-Client-Id 헤더, 없으면 접속 IP
+ * - 비동기 처리 요청은 요청 스레드 반환 시 해제 (작업 스레드에는 AsyncSearchExecutor 가 전달)
+ */
+@RequiredArgsConstructor
+public class ReadYourWritesInterceptor implements AsyncHandlerInterceptor {
+
+    public static final String CLIENT_ID_HEADER = "X-Client-Id";
+
+    private final ReadYourWritesTracker tracker;
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (tracker.wroteRecently(clientKey(request))) {
+            ReadYourWrites.pin();
+        }
+        return true;
+    }
+
+    @Override
+    public void afterConcurrentHandlingStarted(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        ReadYourWrites.clear();
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        try {
+            if (!isRead(request) && response.getStatus() < 400) {
+                tracker.recordWrite(clientKey(request));
+            }
+        } finally {
+            ReadYourWrites.clear();
+        }
+    }
+
+    // batch-get 은 POST 이지만 조회
+    private static boolean isRead(HttpServletRequest request) {
+        String method = request.getMethod();
+        return HttpMethod.GET.matches(method) || HttpMethod.HEAD.matches(method) || HttpMethod.OPTIONS.matches(method)
+                || request.getRequestURI().endsWith("/batch-get");
+    }
+
+    private static String clientKey(HttpServletRequest request) {
+        String clientId = request.getHeader(CLIENT_ID_HEADER);
+        return StringUtils.hasText(clientId) ? clientId : request.getRemoteAddr();
+    }
+}
@@ -0,0 +1,43 @@
+package com.minlab.hospital.infrastructure.replica;
+
+import org.springframework.scheduling.annotation.Scheduled;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * 클라이언트별 마지막 쓰기 시각
+ * - 만료된 항목은 주기적으로 제거 (클라이언트 수만큼만 유지)
+ */
+public class ReadYourWritesTracker {
+
+    private final ConcurrentMap<String, Long> lastWriteAt = new ConcurrentHashMap<>();
+    private final long windowMillis;
+    private final Clock clock;
+
+    public ReadYourWritesTracker(Duration window, Clock clock) {
+        this.windowMillis = window.toMillis();
+        this.clock = clock;
+    }
+
+    public void recordWrite(String clientKey) {
+        lastWriteAt.put(clientKey, clock.millis());
+    }
+
+    public boolean wroteRecently(String clientKey) {
+        Long writtenAt = lastWriteAt.get(clientKey);
+        return writtenAt != null && clock.millis() - writtenAt < windowMillis;
+    }
+
+    @Scheduled(fixedDelayString = "${hospital.replica.sticky-window:5s}")
+    public void evictExpired() {
+        long threshold = clock.millis() - windowMillis;
+        lastWriteAt.values().removeIf(writtenAt -> writtenAt <= threshold);
+    }
+
+    int size() {
+        return lastWriteAt.size();
+    }
+}
@@ -0,0 +1,75 @@
+package com.minlab.hospital.infrastructure.replica;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import java.sql.Timestamp;
+import java.time.Clock;
+import java.time.Duration;
+
+/**
+ * primary 에 주기적으로 heartbeat 시각을 기록하고, replica 에 반영된 시각과의 차이로 복제 지연 측정
+ * - replica 조회 실패/heartbeat 미반영 시 지연을 무한대로 보고 읽기를 primary 로 전환
+ */
+@Slf4j
+public class ReplicaLagMonitor {
+
+    private final JdbcTemplate primary;
+    private final JdbcTemplate replica;
+    private final Duration maxLag;
+    private final Clock clock;
+
+    private volatile double lagSeconds = Double.POSITIVE_INFINITY;
+
+    public ReplicaLagMonitor(JdbcTemplate primary, JdbcTemplate replica, Duration maxLag, Clock clock,
+                             MeterRegistry meterRegistry) {
+        this.primary = primary;
+        this.replica = replica;
+        this.maxLag = maxLag;
+        this.clock = clock;
+        Gauge.builder("hospital.datasource.replica.lag", this, ReplicaLagMonitor::lagSeconds)
+                .description("primary heartbeat 대비 replica 반영 지연")
+                .baseUnit("seconds")
+                .register(meterRegistry);
+    }
+
+    /**
+     * heartbeat 행 확인 (테이블은 V11 마이그레이션으로 생성, 행이 지워졌으면 다시 추가)
+     */
+    public void initialize() {
+        if (primary.update("UPDATE replication_heartbeat SET beat_at = ? WHERE id = 1", now()) == 0) {
+            primary.update("INSERT INTO replication_heartbeat (id, beat_at) VALUES (1, ?)", now());
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${hospital.replica.lag-check-ms:1000}")
+    public void check() {
+        try {
+            primary.update("UPDATE replication_heartbeat SET beat_at = ? WHERE id = 1", now());
+            Timestamp replicated = replica.queryForObject(
+                    "SELECT MAX(beat_at) FROM replication_heartbeat", Timestamp.class);
+            lagSeconds = replicated == null
+                    ? Double.POSITIVE_INFINITY
+                    : Math.max(0, clock.millis() - replicated.getTime()) / 1000.0;
+        } catch (DataAccessException e) {
+            log.warn("[replica] 복제 지연 측정 실패: {}", e.getMessage());
+            lagSeconds = Double.POSITIVE_INFINITY;
+        }
+    }
+
+    public double lagSeconds() {
+        return lagSeconds;
+    }
+
+    public boolean isHealthy() {
+        return lagSeconds * 1000 <= maxLag.toMillis();
+    }
+
+    private Timestamp now() {
+        return new Timestamp(clock.millis());
+    }
+}
@@ -0,0 +1,34 @@
+package com.minlab.hospital.infrastructure.replica;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Getter @Setter
+@ConfigurationProperties(prefix = "hospital.replica")
+public class ReplicaProperties {
+
+    private boolean enabled;
+
+    private String url;
+    private String username;
+    private String password;
+    private int maximumPoolSize = 10;
+
+    /**
+     * 같은 클라이언트가 쓰기 후 이 시간 동안은 읽기도 primary 사용 (read-your-writes)
+     */
+    private Duration stickyWindow = Duration.ofSeconds(5);
+
+    /**
+     * 복제 지연 측정 주기
+     */
+    private long lagCheckMs = 1000;
+
+    /**
+     * 복제 지연이 이 값을 넘으면 읽기 전용 트랜잭션도 primary 사용
+     */
+    private Duration maxLag = Duration.ofSeconds(10);
+}
@@ -0,0 +1,71 @@
+package com.minlab.hospital.infrastructure.replica;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.util.Map;
+import java.util.function.BooleanSupplier;
+
+/**
+ * readOnly 트랜잭션은 replica, 그 외는 primary 로 커넥션 선택
+ * - 트랜잭션 시작 후 첫 쿼리 시점에 결정되도록 LazyConnectionDataSourceProxy 로 감싸서 사용
+ * - read-your-writes 고정 중이거나 replica 지연이 크면 readOnly 여도 primary 사용
+ */
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource {
+
+    public enum Target { PRIMARY, REPLICA }
+
+    private final DataSource primary;
+    private final DataSource replica;
+    private final BooleanSupplier replicaHealthy;
+    private final Counter primaryRoutes;
+    private final Counter replicaRoutes;
+
+    public ReplicaRoutingDataSource(DataSource primary, DataSource replica, BooleanSupplier replicaHealthy,
+                                    MeterRegistry meterRegistry) {
+        this.primary = primary;
+        this.replica = replica;
+        this.replicaHealthy = replicaHealthy;
+        this.primaryRoutes = meterRegistry.counter("hospital.datasource.route", "target", "primary");
+        this.replicaRoutes = meterRegistry.counter("hospital.datasource.route", "target", "replica");
+
+        setTargetDataSources(Map.of(Target.PRIMARY, primary, Target.REPLICA, replica));
+        setDefaultTargetDataSource(primary);
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        boolean useReplica = TransactionSynchronizationManager.isCurrentTransactionReadOnly()
+                && !ReadYourWrites.isPinned()
+                && replicaHealthy.getAsBoolean();
+
+        if (useReplica) {
+            replicaRoutes.increment();
+            return Target.REPLICA;
+        }
+        primaryRoutes.increment();
+        return Target.PRIMARY;
+    }
+
+    public DataSource primary() {
+        return primary;
+    }
+
+    public DataSource replica() {
+        return replica;
+    }
+
+    /**
+     * 빈 종료 시 커넥션 풀 정리
+     */
+    public void close() throws Exception {
+        for (DataSource dataSource : new DataSource[]{primary, replica}) {
+            if (dataSource instanceof AutoCloseable closeable) {
+                closeable.close();
+            }
+        }
+    }
+}
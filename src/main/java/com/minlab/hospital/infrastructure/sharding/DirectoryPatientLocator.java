@@ -0,0 +1,42 @@
+package com.minlab.hospital.infrastructure.sharding;
+
+import com.minlab.hospital.domain.service.PatientLocator;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.Collection;
+import java.util.Optional;
+
+/**
+ * 샤딩 사용 시: 디렉터리 샤드의 patient_locator 테이블에서 환자 → 병원 조회
+ * (환자 ID 는 샤드별 IDENTITY 구간이 달라 전역에서 유일)
+ */
+@RequiredArgsConstructor
+public class DirectoryPatientLocator implements PatientLocator {
+
+    private final JdbcTemplate directory;
+
+    @Override
+    public Optional<Long> hospitalIdOf(Long patientId) {
+        return directory.queryForList("SELECT hospital_id FROM patient_locator WHERE patient_id = ?", Long.class, patientId)
+                .stream()
+                .findFirst();
+    }
+
+    /**
+     * 환자 샤드 트랜잭션 커밋 전에 기록 (커밋 실패 시 남는 위치 정보는 조회 시 404 로 처리되어 무해)
+     */
+    @Override
+    public void register(Long patientId, Long hospitalId) {
+        directory.update("INSERT INTO patient_locator (patient_id, hospital_id) VALUES (?, ?)", patientId, hospitalId);
+    }
+
+    /**
+     * 환자 샤드 트랜잭션 커밋 후 호출 (삭제 실패 시 남는 위치 정보는 조회 시 404 로 처리되어 무해)
+     */
+    @Override
+    public void remove(Collection<Long> patientIds) {
+        directory.batchUpdate("DELETE FROM patient_locator WHERE patient_id = ?",
+                patientIds.stream().map(patientId -> new Object[]{patientId}).toList());
+    }
+}
@@ -0,0 +1,36 @@
+package com.minlab.hospital.infrastructure.sharding;
+
+import com.minlab.hospital.domain.repository.PatientRepository;
+import com.minlab.hospital.domain.service.PatientLocator;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.Optional;
+
+/**
+ * 단일 데이터소스: patient 테이블에서 바로 조회
+ */
+@Component
+@ConditionalOnProperty(name = "hospital.sharding.enabled", havingValue = "false", matchIfMissing = true)
+@RequiredArgsConstructor
+public class RepositoryPatientLocator implements PatientLocator {
+
+    private final PatientRepository patientRepository;
+
+    @Override
+    public Optional<Long> hospitalIdOf(Long patientId) {
+        return patientRepository.findHospitalIdById(patientId);
+    }
+
+    @Override
+    public void register(Long patientId, Long hospitalId) {
+        // patient 테이블 자체가 위치 정보
+    }
+
+    @Override
+    public void remove(Collection<Long> patientIds) {
+        // patient 행 삭제로 함께 제거됨
+    }
+}
@@ -0,0 +1,83 @@
+package com.minlab.hospital.infrastructure.sharding;
+
+import com.minlab.hospital.domain.code.CodeTable;
+import com.minlab.hospital.domain.code.CodeType;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * 데이터 샤드의 코드 값을 디렉터리 샤드 code_value 기준으로 맞춤 (기동 시 1회)
+ * - V7 마이그레이션은 샤드마다 자기 데이터의 DISTINCT 값으로 코드를 매기므로 같은 label 이 샤드마다 다른 code 일 수 있음
+ * - 샤드 이동(ShardRebalancer)은 컬럼 값을 그대로 복사하므로 모든 샤드가 같은 code 를 써야 함
+ * - 이미 맞춰진 샤드는 변경 없음
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class ShardCodeAligner {
+
+    // 코드 종류별 저장 위치 (테이블, 컬럼)
+    private static final Map<CodeType, String[]> COLUMNS = Map.of(
+            CodeType.GENDER, new String[]{"patient", "gender"},
+            CodeType.VISIT_STATUS, new String[]{"visit", "visit_status"},
+            CodeType.VISIT_TYPE, new String[]{"visit", "visit_type"},
+            CodeType.VISIT_CATEGORY, new String[]{"visit", "visit_category"});
+
+    private final ShardRoutingDataSource routingDataSource;
+    private final CodeTable codeTable;
+
+    public void alignAll() {
+        for (Integer shard : routingDataSource.shardIds()) {
+            if (shard != ShardContext.DIRECTORY_SHARD) {
+                align(shard, routingDataSource.shard(shard));
+            }
+        }
+    }
+
+    private void align(int shard, DataSource dataSource) {
+        JdbcTemplate jdbc = new JdbcTemplate(dataSource);
+        new TransactionTemplate(new DataSourceTransactionManager(dataSource)).executeWithoutResult(status -> {
+            for (CodeType type : CodeType.values()) {
+                Map<Short, String> local = new LinkedHashMap<>();
+                jdbc.query("SELECT code, label FROM code_value WHERE code_type = ?",
+                        rs -> { local.put(rs.getShort("code"), rs.getString("label")); }, type.name());
+
+                Map<Short, Short> remap = new LinkedHashMap<>();
+                local.forEach((code, label) -> {
+                    short target = codeTable.resolve(type, label).code();
+                    if (target != code) {
+                        remap.put(code, target);
+                    }
+                });
+                if (remap.isEmpty()) {
+                    continue;
+                }
+
+                // CASE 한 번으로 변경 → 서로 코드가 뒤바뀐 경우도 안전
+                String[] column = COLUMNS.get(type);
+                String cases = remap.entrySet().stream()
+                        .map(entry -> "WHEN " + entry.getKey() + " THEN " + entry.getValue())
+                        .collect(Collectors.joining(" "));
+                String codes = remap.keySet().stream().map(String::valueOf).collect(Collectors.joining(", "));
+                int updated = jdbc.update("UPDATE " + column[0] + " SET " + column[1] + " = CASE " + column[1] + " " + cases
+                        + " END WHERE " + column[1] + " IN (" + codes + ")");
+
+                jdbc.update("DELETE FROM code_value WHERE code_type = ?", type.name());
+                List<Object[]> rows = local.entrySet().stream()
+                        .map(entry -> new Object[]{type.name(), remap.getOrDefault(entry.getKey(), entry.getKey()), entry.getValue()})
+                        .toList();
+                jdbc.batchUpdate("INSERT INTO code_value (code_type, code, label) VALUES (?, ?, ?)", rows);
+
+                log.info("샤드 {} {} 코드 {}개 재매핑 ({}행)", shard, type.description(), remap.size(), updated);
+            }
+        });
+    }
+}
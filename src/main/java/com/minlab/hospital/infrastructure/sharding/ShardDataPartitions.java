@@ -0,0 +1,26 @@
+package com.minlab.hospital.infrastructure.sharding;
+
+import com.minlab.hospital.domain.service.DataPartitions;
+import lombok.RequiredArgsConstructor;
+
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * 샤드별 실행 (ShardContext 설정 후 실행 → 트랜잭션/커넥션이 해당 샤드로 라우팅)
+ */
+@RequiredArgsConstructor
+public class ShardDataPartitions implements DataPartitions {
+
+    private final ShardRoutingDataSource routingDataSource;
+
+    @Override
+    public List<Integer> ids() {
+        return List.copyOf(routingDataSource.shardIds());
+    }
+
+    @Override
+    public <T> T callOn(int partition, Supplier<T> action) {
+        return ShardContext.callOn(partition, action);
+    }
+}
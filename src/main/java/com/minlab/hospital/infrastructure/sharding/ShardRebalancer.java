@@ -0,0 +1,117 @@
+package com.minlab.hospital.infrastructure.sharding;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 병원 단위 샤드 이동
+ * 1. 디렉터리에 MOVING 표시 → 모든 노드가 읽을 때까지 대기 (이후 해당 병원 쓰기 요청은 503)
+ * 2. 대상 샤드에 병원/환자/방문을 같은 ID 로 복사 (단일 트랜잭션, 병원별 순번 카운터 포함)
+ * 3. 디렉터리 배정을 대상 샤드로 변경 (ACTIVE)
+ * 4. 원본 샤드의 방문/환자 삭제
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class ShardRebalancer {
+
+    private static final int CHUNK_SIZE = 1000;
+
+    private final ShardRoutingDataSource routingDataSource;
+    private final ShardResolver shardResolver;
+    private final ShardedHospitalReplicator hospitalReplicator;
+    private final long drainMillis;
+
+    public MoveResult move(Long hospitalId, int targetShard) {
+        routingDataSource.shard(targetShard);
+        int sourceShard = shardResolver.shardOf(hospitalId);
+        if (sourceShard == targetShard) {
+            return new MoveResult(hospitalId, sourceShard, targetShard, 0, 0);
+        }
+
+        shardResolver.assign(hospitalId, sourceShard, ShardResolver.MOVING);
+        long[] copied;
+        try {
+            Thread.sleep(drainMillis);
+
+            hospitalReplicator.copyTo(hospitalId, targetShard);
+            JdbcTemplate source = jdbc(sourceShard);
+            JdbcTemplate target = jdbc(targetShard);
+            copied = transaction(targetShard).execute(status -> {
+                copySeqCounters(source, target, hospitalId);
+                return new long[]{
+                        copy(source, target, "patient", hospitalId),
+                        copy(source, target, "visit", hospitalId)
+                };
+            });
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            shardResolver.assign(hospitalId, sourceShard, ShardResolver.ACTIVE);
+            throw new IllegalStateException("샤드 이동이 중단되었습니다. hospitalId=" + hospitalId, e);
+        } catch (RuntimeException e) {
+            shardResolver.assign(hospitalId, sourceShard, ShardResolver.ACTIVE);
+            throw e;
+        }
+
+        shardResolver.assign(hospitalId, targetShard, ShardResolver.ACTIVE);
+
+        JdbcTemplate source = jdbc(sourceShard);
+        transaction(sourceShard).executeWithoutResult(status -> {
+            source.update("DELETE FROM visit WHERE hospital_id = ?", hospitalId);
+            source.update("DELETE FROM patient WHERE hospital_id = ?", hospitalId);
+        });
+
+        log.info("[sharding] hospitalId={} shard {} → {} (patients={}, visits={})",
+                hospitalId, sourceShard, targetShard, copied[0], copied[1]);
+        return new MoveResult(hospitalId, sourceShard, targetShard, copied[0], copied[1]);
+    }
+
+    // 병원 정보 복제는 순번 카운터를 다루지 않으므로 원본 샤드의 값을 그대로 옮김 (순번 재사용 방지)
+    private void copySeqCounters(JdbcTemplate source, JdbcTemplate target, Long hospitalId) {
+        Map<String, Object> counters = source.queryForMap(
+                "SELECT last_patient_seq, last_change_seq FROM hospital WHERE id = ?", hospitalId);
+        target.update("UPDATE hospital SET last_patient_seq = ?, last_change_seq = ? WHERE id = ?",
+                counters.get("last_patient_seq"), counters.get("last_change_seq"), hospitalId);
+    }
+
+    private long copy(JdbcTemplate source, JdbcTemplate target, String table, Long hospitalId) {
+        long copied = 0;
+        long lastId = 0;
+        while (true) {
+            List<Map<String, Object>> rows = source.queryForList(
+                    "SELECT * FROM " + table + " WHERE hospital_id = ? AND id > ? ORDER BY id LIMIT " + CHUNK_SIZE,
+                    hospitalId, lastId);
+            if (rows.isEmpty()) {
+                return copied;
+            }
+
+            List<String> columns = new ArrayList<>(rows.get(0).keySet());
+            String sql = "INSERT INTO " + table + " (" + String.join(", ", columns) + ") VALUES ("
+                    + String.join(", ", Collections.nCopies(columns.size(), "?")) + ")";
+            target.batchUpdate(sql, rows.stream()
+                    .map(row -> columns.stream().map(row::get).toArray())
+                    .toList());
+
+            copied += rows.size();
+            lastId = ((Number) rows.get(rows.size() - 1).get("id")).longValue();
+        }
+    }
+
+    private JdbcTemplate jdbc(int shard) {
+        return new JdbcTemplate(routingDataSource.shard(shard));
+    }
+
+    private TransactionTemplate transaction(int shard) {
+        return new TransactionTemplate(new DataSourceTransactionManager(routingDataSource.shard(shard)));
+    }
+
+    public record MoveResult(Long hospitalId, int sourceShard, int targetShard, long patients, long visits) {
+    }
+}
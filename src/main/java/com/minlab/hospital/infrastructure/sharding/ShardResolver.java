@@ -0,0 +1,76 @@
+package com.minlab.hospital.infrastructure.sharding;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 병원 ID → 샤드 번호
+ * - 기본: hospitalId % 샤드 수
+ * - 재배치된 병원: 디렉터리의 hospital_shard 배정 우선
+ * - 배정 정보는 메모리에 두고 주기적으로 재조회 (요청마다 디렉터리 조회 없음)
+ */
+public class ShardResolver {
+
+    public static final String ACTIVE = "ACTIVE";
+    public static final String MOVING = "MOVING";
+
+    private final JdbcTemplate directory;
+    private final int shardCount;
+
+    private volatile Map<Long, Integer> assignments = Map.of();
+    private volatile Set<Long> moving = Set.of();
+
+    public ShardResolver(JdbcTemplate directory, int shardCount) {
+        this.directory = directory;
+        this.shardCount = shardCount;
+    }
+
+    public int shardOf(Long hospitalId) {
+        Integer assigned = assignments.get(hospitalId);
+        return assigned != null ? assigned : (int) Math.floorMod(hospitalId, (long) shardCount);
+    }
+
+    /**
+     * 샤드 이동 중인 병원은 쓰기 요청을 받지 않음
+     */
+    public boolean isMoving(Long hospitalId) {
+        return moving.contains(hospitalId);
+    }
+
+    public int shardCount() {
+        return shardCount;
+    }
+
+    @Scheduled(fixedDelayString = "${hospital.sharding.directory-refresh-ms:5000}")
+    public void refresh() {
+        Map<Long, Integer> loadedAssignments = new HashMap<>();
+        Set<Long> loadedMoving = new HashSet<>();
+
+        directory.query("SELECT hospital_id, shard, state FROM hospital_shard", (RowCallbackHandler) rs -> {
+            long hospitalId = rs.getLong("hospital_id");
+            loadedAssignments.put(hospitalId, rs.getInt("shard"));
+            if (MOVING.equals(rs.getString("state"))) {
+                loadedMoving.add(hospitalId);
+            }
+        });
+
+        this.assignments = Map.copyOf(loadedAssignments);
+        this.moving = Set.copyOf(loadedMoving);
+    }
+
+    void assign(Long hospitalId, int shard, String state) {
+        int updated = directory.update("UPDATE hospital_shard SET shard = ?, state = ? WHERE hospital_id = ?",
+                shard, state, hospitalId);
+        if (updated == 0) {
+            directory.update("INSERT INTO hospital_shard (hospital_id, shard, state) VALUES (?, ?, ?)",
+                    hospitalId, shard, state);
+        }
+        refresh();
+    }
+}
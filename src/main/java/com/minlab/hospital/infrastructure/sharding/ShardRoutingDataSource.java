@@ -0,0 +1,58 @@
+package com.minlab.hospital.infrastructure.sharding;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+
+import javax.sql.DataSource;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * ShardContext 의 샤드 번호로 커넥션을 가져올 데이터소스 선택
+ */
+public class ShardRoutingDataSource extends AbstractRoutingDataSource {
+
+    private final Map<Integer, DataSource> shards;
+
+    public ShardRoutingDataSource(Map<Integer, DataSource> shards) {
+        if (!shards.containsKey(ShardContext.DIRECTORY_SHARD)) {
+            throw new IllegalArgumentException("디렉터리 샤드(0)가 설정되지 않았습니다.");
+        }
+        this.shards = new TreeMap<>(shards);
+
+        Map<Object, Object> targets = new HashMap<>(shards);
+        setTargetDataSources(targets);
+        setDefaultTargetDataSource(shards.get(ShardContext.DIRECTORY_SHARD));
+        // 알 수 없는 샤드 번호는 기본 샤드로 보내지 않고 실패
+        setLenientFallback(false);
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        return ShardContext.current();
+    }
+
+    public DataSource shard(int shard) {
+        DataSource dataSource = shards.get(shard);
+        if (dataSource == null) {
+            throw new IllegalArgumentException("존재하지 않는 샤드입니다. shard=" + shard);
+        }
+        return dataSource;
+    }
+
+    public Set<Integer> shardIds() {
+        return shards.keySet();
+    }
+
+    /**
+     * 빈 종료 시 샤드별 커넥션 풀 정리
+     */
+    public void close() throws Exception {
+        for (DataSource dataSource : shards.values()) {
+            if (dataSource instanceof AutoCloseable closeable) {
+                closeable.close();
+            }
+        }
+    }
+}
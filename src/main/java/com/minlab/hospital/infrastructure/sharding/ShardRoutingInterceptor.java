@@ -0,0 +1,80 @@
+package com.minlab.hospital.infrastructure.sharding;
+
+import com.minlab.hospital.domain.service.PatientLocator;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpMethod;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.util.Map;
+
+/**
+ * 경로 변수 {hospitalId} (없으면 {patientId} → 소속 병원) 로 샤드를 정해 ShardContext 에 설정
+ * - 트랜잭션 시작(커넥션 획득) 전에 실행되어야 하므로 컨트롤러 진입 전에 처리
+ * - 비동기 처리 요청은 요청 스레드 반환 시 해제 (작업 스레드에는 AsyncSearchExecutor 가 전달)
+ */
+@RequiredArgsConstructor
+public class ShardRoutingInterceptor implements AsyncHandlerInterceptor {
+
+    private final ShardResolver shardResolver;
+    private final PatientLocator patientLocator;
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        Long hospitalId = resolveHospitalId(request);
+        if (hospitalId == null) {
+            return true;
+        }
+
+        if (!isRead(request) && shardResolver.isMoving(hospitalId)) {
+            throw new ShardUnavailableException("병원 데이터 이전 중입니다. 잠시 후 다시 시도해 주세요.");
+        }
+
+        ShardContext.set(shardResolver.shardOf(hospitalId));
+        return true;
+    }
+
+    @Override
+    public void afterConcurrentHandlingStarted(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        ShardContext.clear();
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        ShardContext.clear();
+    }
+
+    // batch-get 은 POST 이지만 조회
+    private static boolean isRead(HttpServletRequest request) {
+        return HttpMethod.GET.matches(request.getMethod()) || request.getRequestURI().endsWith("/batch-get");
+    }
+
+    @SuppressWarnings("unchecked")
+    private Long resolveHospitalId(HttpServletRequest request) {
+        Map<String, String> variables = (Map<String, String>) request.getAttribute(HandlerMapping.URI_TEMPLATE_VARIABLES_ATTRIBUTE);
+        if (variables == null) {
+            return null;
+        }
+
+        Long hospitalId = parse(variables.get("hospitalId"));
+        if (hospitalId != null) {
+            return hospitalId;
+        }
+
+        Long patientId = parse(variables.get("patientId"));
+        return patientId == null ? null : patientLocator.hospitalIdOf(patientId).orElse(null);
+    }
+
+    private static Long parse(String value) {
+        if (value == null) {
+            return null;
+        }
+        try {
+            return Long.valueOf(value);
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,11 @@
+package com.minlab.hospital.infrastructure.sharding;
+
+/**
+ * 샤드 이동 중인 병원에 대한 쓰기 요청 (503)
+ */
+public class ShardUnavailableException extends RuntimeException {
+
+    public ShardUnavailableException(String message) {
+        super(message);
+    }
+}
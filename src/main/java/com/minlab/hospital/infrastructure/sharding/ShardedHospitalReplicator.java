@@ -0,0 +1,96 @@
+package com.minlab.hospital.infrastructure.sharding;
+
+import com.minlab.hospital.domain.entity.Hospital;
+import com.minlab.hospital.domain.service.HospitalReplicator;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * 병원 원본은 디렉터리 샤드(0)에 저장하고, 커밋 후 나머지 샤드에 같은 ID 로 복제
+ * (환자/방문의 hospital_id FK 를 각 샤드 안에서 유지하기 위함)
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class ShardedHospitalReplicator implements HospitalReplicator {
+
+    private final ShardRoutingDataSource routingDataSource;
+
+    @Override
+    public void replicate(Hospital hospital) {
+        HospitalRow row = new HospitalRow(hospital.getId(), hospital.getName(), hospital.getProviderNumber(), hospital.getDoctorName());
+        afterCommit(() -> forEachDataShard(jdbc -> upsert(jdbc, row)));
+    }
+
+    @Override
+    public void remove(Long hospitalId) {
+        afterCommit(() -> forEachDataShard(jdbc -> jdbc.update("DELETE FROM hospital WHERE id = ?", hospitalId)));
+    }
+
+    /**
+     * 디렉터리의 모든 병원을 각 샤드에 다시 복제 (복제 실패 복구용)
+     */
+    public int replicateAll() {
+        JdbcTemplate directory = new JdbcTemplate(routingDataSource.shard(ShardContext.DIRECTORY_SHARD));
+        List<HospitalRow> rows = directory.query("SELECT id, name, provider_number, doctor_name FROM hospital",
+                (rs, rowNum) -> new HospitalRow(rs.getLong("id"), rs.getString("name"),
+                        rs.getString("provider_number"), rs.getString("doctor_name")));
+
+        forEachDataShard(jdbc -> rows.forEach(row -> upsert(jdbc, row)));
+        return rows.size();
+    }
+
+    void copyTo(Long hospitalId, int shard) {
+        JdbcTemplate directory = new JdbcTemplate(routingDataSource.shard(ShardContext.DIRECTORY_SHARD));
+        Map<String, Object> hospital = directory.queryForMap(
+                "SELECT id, name, provider_number, doctor_name FROM hospital WHERE id = ?", hospitalId);
+        upsert(new JdbcTemplate(routingDataSource.shard(shard)), new HospitalRow(
+                ((Number) hospital.get("id")).longValue(), (String) hospital.get("name"),
+                (String) hospital.get("provider_number"), (String) hospital.get("doctor_name")));
+    }
+
+    private void forEachDataShard(Consumer<JdbcTemplate> action) {
+        for (Integer shard : routingDataSource.shardIds()) {
+            if (shard == ShardContext.DIRECTORY_SHARD) {
+                continue;
+            }
+            try {
+                action.accept(new JdbcTemplate(routingDataSource.shard(shard)));
+            } catch (RuntimeException e) {
+                // 다른 샤드 복제는 계속 진행, 누락분은 replicateAll 로 복구
+                log.error("[sharding] 병원 복제 실패 shard={}", shard, e);
+            }
+        }
+    }
+
+    private static void upsert(JdbcTemplate jdbc, HospitalRow row) {
+        int updated = jdbc.update("UPDATE hospital SET name = ?, provider_number = ?, doctor_name = ? WHERE id = ?",
+                row.name(), row.providerNumber(), row.doctorName(), row.id());
+        if (updated == 0) {
+            jdbc.update("INSERT INTO hospital (id, name, provider_number, doctor_name) VALUES (?, ?, ?, ?)",
+                    row.id(), row.name(), row.providerNumber(), row.doctorName());
+        }
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    private record HospitalRow(Long id, String name, String providerNumber, String doctorName) {
+    }
+}
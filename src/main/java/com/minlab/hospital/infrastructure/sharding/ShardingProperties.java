@@ -0,0 +1,40 @@
+package com.minlab.hospital.infrastructure.sharding;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Getter @Setter
+@ConfigurationProperties(prefix = "hospital.sharding")
+public class ShardingProperties {
+
+    private boolean enabled;
+
+    /**
+     * 0번 샤드는 디렉터리(병원 원본, 병원-샤드 배정, 환자 위치) 겸용
+     */
+    private List<Shard> shards = new ArrayList<>();
+
+    /**
+     * 병원-샤드 배정 정보 재조회 주기
+     */
+    private long directoryRefreshMs = 5000;
+
+    /**
+     * 샤드별 IDENTITY 시작값 간격 (샤드 n 은 n * idBlockSize + 1 부터 발급, 샤드 간 ID 충돌 방지)
+     */
+    private long idBlockSize = 1_000_000_000_000L;
+
+    private List<String> migrationLocations = new ArrayList<>(List.of("classpath:db/migration"));
+
+    @Getter @Setter
+    public static class Shard {
+        private String url;
+        private String username;
+        private String password;
+        private int maximumPoolSize = 10;
+    }
+}
@@ -0,0 +1,26 @@
+package com.minlab.hospital.infrastructure.sharding;
+
+import com.minlab.hospital.domain.service.DataPartitions;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * 단일 데이터소스: 파티션 0 하나
+ */
+@Component
+@ConditionalOnProperty(name = "hospital.sharding.enabled", havingValue = "false", matchIfMissing = true)
+public class SingleDataPartitions implements DataPartitions {
+
+    @Override
+    public List<Integer> ids() {
+        return List.of(0);
+    }
+
+    @Override
+    public <T> T callOn(int partition, Supplier<T> action) {
+        return action.get();
+    }
+}
@@ -0,0 +1,26 @@
+package com.minlab.hospital.infrastructure.tracing;
+
+import io.micrometer.common.KeyValue;
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationFilter;
+import org.springframework.http.server.observation.ServerRequestObservationContext;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.util.Map;
+
+/**
+ * HTTP 요청 스팬에 경로의 hospitalId 추가 (느린 요청을 병원 단위로 모아 보기 위함)
+ */
+public class HospitalIdObservationFilter implements ObservationFilter {
+
+    @Override
+    public Observation.Context map(Observation.Context context) {
+        if (context instanceof ServerRequestObservationContext serverContext) {
+            Object variables = serverContext.getCarrier().getAttribute(HandlerMapping.URI_TEMPLATE_VARIABLES_ATTRIBUTE);
+            if (variables instanceof Map<?, ?> map && map.get("hospitalId") != null) {
+                serverContext.addHighCardinalityKeyValue(KeyValue.of("hospital.id", map.get("hospitalId").toString()));
+            }
+        }
+        return context;
+    }
+}
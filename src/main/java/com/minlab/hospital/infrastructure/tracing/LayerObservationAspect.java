@@ -0,0 +1,127 @@
+package com.minlab.hospital.infrastructure.tracing;
+
+import io.micrometer.common.KeyValue;
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.core.annotation.Order;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.repository.Repository;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.ClassUtils;
+
+import java.util.Collection;
+import java.util.Optional;
+
+/**
+ * 계층별 스팬 (컨트롤러 → 트랜잭션 경계 → 리포지토리 → JDBC 커넥션/쿼리)
+ * - 트랜잭션 스팬이 커밋까지 포함하도록 트랜잭션 인터셉터보다 바깥에서 실행 (HIGHEST_PRECEDENCE)
+ * - 속성: hospital.id (hospitalId 파라미터가 있는 경우), rows (리포지토리 반환 건수)
+ * - 같은 이름의 타이머 메트릭(hospital.controller, hospital.transaction, hospital.repository)도 함께 기록
+ */
+@Aspect
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class LayerObservationAspect {
+
+    private final ObservationRegistry registry;
+
+    public LayerObservationAspect(ObservationRegistry registry) {
+        this.registry = registry;
+    }
+
+    @Around("@within(org.springframework.web.bind.annotation.RestController)")
+    public Object controller(ProceedingJoinPoint joinPoint) throws Throwable {
+        MethodSignature signature = (MethodSignature) joinPoint.getSignature();
+        return observe("hospital.controller", name(signature.getDeclaringType(), signature), joinPoint, null);
+    }
+
+    @Around("within(com.minlab.hospital.application..*) && "
+            + "(@within(org.springframework.transaction.annotation.Transactional) || @annotation(org.springframework.transaction.annotation.Transactional))")
+    public Object transaction(ProceedingJoinPoint joinPoint) throws Throwable {
+        MethodSignature signature = (MethodSignature) joinPoint.getSignature();
+        Transactional transactional = AnnotatedElementUtils.findMergedAnnotation(signature.getMethod(), Transactional.class);
+        if (transactional == null) {
+            transactional = AnnotatedElementUtils.findMergedAnnotation(signature.getDeclaringType(), Transactional.class);
+        }
+        KeyValue readOnly = KeyValue.of("read-only", String.valueOf(transactional != null && transactional.readOnly()));
+        return observe("hospital.transaction", name(signature.getDeclaringType(), signature), joinPoint, readOnly);
+    }
+
+    @Around("execution(* org.springframework.data.repository.Repository+.*(..))")
+    public Object repository(ProceedingJoinPoint joinPoint) throws Throwable {
+        MethodSignature signature = (MethodSignature) joinPoint.getSignature();
+        return observe("hospital.repository", name(repositoryInterface(joinPoint.getThis()), signature), joinPoint, null);
+    }
+
+    private Object observe(String name, String target, ProceedingJoinPoint joinPoint, KeyValue extra) throws Throwable {
+        Observation observation = Observation.createNotStarted(name, registry)
+                .contextualName(target)
+                .lowCardinalityKeyValue("method", target);
+        if (extra != null) {
+            observation.lowCardinalityKeyValue(extra);
+        }
+        Object hospitalId = hospitalId((MethodSignature) joinPoint.getSignature(), joinPoint.getArgs());
+        if (hospitalId != null) {
+            observation.highCardinalityKeyValue("hospital.id", hospitalId.toString());
+        }
+
+        observation.start();
+        try (Observation.Scope scope = observation.openScope()) {
+            Object result = joinPoint.proceed();
+            Integer rows = rows(result);
+            if (rows != null) {
+                observation.highCardinalityKeyValue("rows", rows.toString());
+            }
+            return result;
+        } catch (Throwable e) {
+            observation.error(e);
+            throw e;
+        } finally {
+            observation.stop();
+        }
+    }
+
+    private static String name(Class<?> type, MethodSignature signature) {
+        return type.getSimpleName() + "." + signature.getName();
+    }
+
+    private static Class<?> repositoryInterface(Object proxy) {
+        for (Class<?> type : ClassUtils.getAllInterfacesForClassAsSet(proxy.getClass())) {
+            if (Repository.class.isAssignableFrom(type) && type.getName().startsWith("com.minlab.hospital")) {
+                return type;
+            }
+        }
+        return proxy.getClass();
+    }
+
+    private static Object hospitalId(MethodSignature signature, Object[] args) {
+        String[] names = signature.getParameterNames();
+        if (names == null) {
+            return null;
+        }
+        for (int i = 0; i < names.length; i++) {
+            if ("hospitalId".equals(names[i])) {
+                return args[i];
+            }
+        }
+        return null;
+    }
+
+    private static Integer rows(Object result) {
+        if (result instanceof Collection<?> collection) {
+            return collection.size();
+        }
+        if (result instanceof Slice<?> slice) {
+            return slice.getNumberOfElements();
+        }
+        if (result instanceof Optional<?> optional) {
+            return optional.isPresent() ? 1 : 0;
+        }
+        return null;
+    }
+}
@@ -0,0 +1,29 @@
+package com.minlab.hospital.infrastructure.tracing;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Getter @Setter
+@ConfigurationProperties(prefix = "hospital.tracing")
+public class TracingProperties {
+
+    private boolean enabled = true;
+
+    /**
+     * 스팬 내보내기 대상 (log | file), 별도 수집기 없이 프로세스 안에서 기록
+     */
+    private Exporter exporter = Exporter.LOG;
+
+    private File file = new File();
+
+    public enum Exporter { LOG, FILE }
+
+    @Getter @Setter
+    public static class File {
+        /**
+         * 스팬 기록 파일 (JSON Lines, 스팬 1개당 1줄)
+         */
+        private String path = "traces/spans.jsonl";
+    }
+}
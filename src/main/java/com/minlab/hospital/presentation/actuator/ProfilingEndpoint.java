@@ -0,0 +1,84 @@
+package com.minlab.hospital.presentation.actuator;
+
+import com.minlab.hospital.infrastructure.profiling.FlightRecorderManager;
+import com.minlab.hospital.presentation.dto.response.JfrRecordingResponseDto;
+import jakarta.persistence.EntityNotFoundException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.OptionalParameter;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.boot.actuate.endpoint.web.WebEndpointResponse;
+import org.springframework.boot.actuate.endpoint.web.annotation.WebEndpoint;
+import org.springframework.http.HttpStatus;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * 운영 중 JFR 기록 (/actuator/jfr, management.server.port 로 서비스 포트와 분리)
+ * - 잘못된 요청(400)/없는 기록(404)은 GlobalExceptionHandler 와 같은 형태로 응답
+ *   (관리 포트는 별도 컨텍스트라 @ControllerAdvice 가 적용되지 않음)
+ */
+@WebEndpoint(id = "jfr")
+@RequiredArgsConstructor
+public class ProfilingEndpoint {
+
+    private static final int DEFAULT_TOP = 20;
+
+    private final FlightRecorderManager flightRecorderManager;
+
+    /**
+     * 보관 중인 기록 목록
+     */
+    @ReadOperation
+    public List<JfrRecordingResponseDto> recordings() {
+        return flightRecorderManager.list().stream().map(JfrRecordingResponseDto::from).toList();
+    }
+
+    /**
+     * JFR 기록 시작 (duration: ISO-8601 또는 5m 형식 / 생략 시 최대 기록 시간 후 자동 종료)
+     */
+    @WriteOperation
+    public WebEndpointResponse<Object> start(@OptionalParameter Duration duration) {
+        return respond(HttpStatus.CREATED, () -> JfrRecordingResponseDto.from(flightRecorderManager.start(duration)));
+    }
+
+    /**
+     * JFR 기록 종료 (파일 기록)
+     */
+    @WriteOperation
+    public WebEndpointResponse<Object> stop(@Selector long recordingId) {
+        return respond(HttpStatus.OK, () -> JfrRecordingResponseDto.from(flightRecorderManager.stop(recordingId)));
+    }
+
+    /**
+     * 기록 요약 (CPU 상위 메서드, 할당 상위 클래스, 애플리케이션 이벤트 통계)
+     */
+    @ReadOperation
+    public WebEndpointResponse<Object> summary(@Selector long recordingId, @OptionalParameter Integer top) {
+        return respond(HttpStatus.OK, () -> flightRecorderManager.summarize(recordingId, top == null ? DEFAULT_TOP : top));
+    }
+
+    private static WebEndpointResponse<Object> respond(HttpStatus status, Supplier<Object> action) {
+        try {
+            return new WebEndpointResponse<>(action.get(), status.value());
+        } catch (IllegalArgumentException ex) {
+            return error(HttpStatus.BAD_REQUEST, ex.getMessage());
+        } catch (EntityNotFoundException ex) {
+            return error(HttpStatus.NOT_FOUND, ex.getMessage());
+        }
+    }
+
+    private static WebEndpointResponse<Object> error(HttpStatus status, String message) {
+        Map<String, Object> body = Map.of(
+                "timestamp", LocalDateTime.now(),
+                "status", status.value(),
+                "error", status.getReasonPhrase(),
+                "message", message);
+        return new WebEndpointResponse<>(body, status.value());
+    }
+}
@@ -0,0 +1,37 @@
+package com.minlab.hospital.presentation.actuator;
+
+import com.minlab.hospital.infrastructure.profiling.FlightRecorderManager;
+import jakarta.persistence.EntityNotFoundException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.boot.actuate.endpoint.web.WebEndpointResponse;
+import org.springframework.boot.actuate.endpoint.web.annotation.WebEndpoint;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.http.HttpStatus;
+
+/**
+ * .jfr 파일 다운로드 (/actuator/jfrfile/{recordingId}, JDK Mission Control / jfr print 로 분석)
+ * - 응답 형식이 달라 기록 관리(/actuator/jfr)와 별도 엔드포인트 (heapdump 와 같은 방식)
+ */
+@WebEndpoint(id = "jfrfile")
+@RequiredArgsConstructor
+public class ProfilingFileEndpoint {
+
+    private final FlightRecorderManager flightRecorderManager;
+
+    /**
+     * 종료된 기록만 다운로드 (진행 중 400, 없는 기록 404 / 본문 없음)
+     */
+    @ReadOperation(produces = "application/octet-stream")
+    public WebEndpointResponse<Resource> file(@Selector long recordingId) {
+        try {
+            return new WebEndpointResponse<>(new FileSystemResource(flightRecorderManager.file(recordingId)));
+        } catch (IllegalArgumentException ex) {
+            return new WebEndpointResponse<>(HttpStatus.BAD_REQUEST.value());
+        } catch (EntityNotFoundException ex) {
+            return new WebEndpointResponse<>(HttpStatus.NOT_FOUND.value());
+        }
+    }
+}
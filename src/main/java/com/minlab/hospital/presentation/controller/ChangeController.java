@@ -0,0 +1,24 @@
+package com.minlab.hospital.presentation.controller;
+
+import com.minlab.hospital.application.service.ChangeFeedService;
+import com.minlab.hospital.presentation.dto.response.ChangeFeedResponseDto;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/changes")
+public class ChangeController {
+
+    private final ChangeFeedService changeFeedService;
+
+    /**
+     * 변경 이벤트 조회 (응답의 next 를 다음 요청의 since 로 사용)
+     */
+    @GetMapping
+    public ResponseEntity<ChangeFeedResponseDto> getChanges(@RequestParam(defaultValue = "0") String since,
+                                                            @RequestParam(defaultValue = "100") int limit) {
+        return ResponseEntity.ok(changeFeedService.getChanges(since, limit));
+    }
+}
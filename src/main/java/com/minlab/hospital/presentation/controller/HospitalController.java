@@ -1,6 +1,7 @@
 package com.minlab.hospital.presentation.controller;
 
 import com.minlab.hospital.application.service.HospitalService;
+import com.minlab.hospital.infrastructure.query.QueryBudget;
 import com.minlab.hospital.presentation.dto.request.HospitalRequestDto;
 import com.minlab.hospital.presentation.dto.response.HospitalResponseDto;
 import jakarta.validation.Valid;
@@ -49,6 +50,7 @@ public class HospitalController {
      * 단건 조회
      */
     @GetMapping("/{hospitalId}")
+    @QueryBudget(statements = 1)
     public ResponseEntity<HospitalResponseDto> getHospital(@PathVariable Long hospitalId) {
         HospitalResponseDto response = hospitalService.getHospital(hospitalId);
         return ResponseEntity.ok(response);
@@ -58,6 +60,7 @@ public class HospitalController {
      * 전체 조회
      */
     @GetMapping
+    @QueryBudget(statements = 1)
     public ResponseEntity<List<HospitalResponseDto>> getAllHospitals() {
         List<HospitalResponseDto> hospitals = hospitalService.getAllHospitals();
         return ResponseEntity.ok(hospitals);
@@ -0,0 +1,31 @@
+package com.minlab.hospital.presentation.controller;
+
+import com.minlab.hospital.application.service.VisitService;
+import com.minlab.hospital.infrastructure.query.QueryBudget;
+import com.minlab.hospital.presentation.dto.request.BatchGetRequestDto;
+import com.minlab.hospital.presentation.dto.response.BatchGetResponseDto;
+import com.minlab.hospital.presentation.dto.response.VisitResponseDto;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api/hospitals/{hospitalId}/visits")
+@RequiredArgsConstructor
+public class HospitalVisitController {
+
+    private final VisitService visitService;
+
+    /**
+     * 병원 방문 여러 건 조회 (여러 환자의 방문을 한 번에)
+     */
+    @PostMapping("/batch-get")
+    @QueryBudget(statements = 2)
+    public ResponseEntity<BatchGetResponseDto<VisitResponseDto>> getVisits(
+            @PathVariable Long hospitalId,
+            @Valid @RequestBody BatchGetRequestDto requestDto
+    ) {
+        return ResponseEntity.ok(visitService.getVisits(hospitalId, requestDto.getIds()));
+    }
+}
@@ -1,19 +1,31 @@
 package com.minlab.hospital.presentation.controller;
 
 import com.minlab.hospital.application.service.PatientService;
+import com.minlab.hospital.application.support.IdempotencyStore;
+import com.minlab.hospital.domain.repository.CappedPage;
+import com.minlab.hospital.infrastructure.admission.Admission;
+import com.minlab.hospital.infrastructure.query.QueryBudget;
+import com.minlab.hospital.presentation.dto.request.BatchGetRequestDto;
 import com.minlab.hospital.presentation.dto.request.PatientRequestDto;
 import com.minlab.hospital.presentation.dto.request.PatientSearchRequestDto;
+import com.minlab.hospital.presentation.dto.response.BatchGetResponseDto;
+import com.minlab.hospital.presentation.dto.response.PageResponseDto;
+import com.minlab.hospital.presentation.dto.response.PatientChangesResponseDto;
+import com.minlab.hospital.presentation.dto.response.PatientDetailResponseDto;
 import com.minlab.hospital.presentation.dto.response.PatientResponseDto;
 import com.minlab.hospital.presentation.dto.response.PatientSearchResponseDto;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.domain.Page;
+import org.springframework.dao.QueryTimeoutException;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.async.DeferredResult;
 
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 
 @RestController
 @RequestMapping("/api/hospitals/{hospitalId}/patients")
@@ -21,16 +33,20 @@ import java.util.List;
 public class PatientController {
 
     private final PatientService patientService;
+    private final IdempotencyStore idempotencyStore;
 
     /**
-     * 환자 등록
+     * 환자 등록 (Idempotency-Key 재전송 시 최초 응답 반환)
      */
     @PostMapping
+    @Admission("patient-register")
     public ResponseEntity<PatientResponseDto> registerPatient(
             @PathVariable Long hospitalId,
+            @RequestHeader(value = IdempotencyStore.HEADER, required = false) String idempotencyKey,
             @Valid @RequestBody PatientRequestDto requestDto
             ) {
-        return ResponseEntity.ok(patientService.registerPatient(hospitalId, requestDto));
+        return ResponseEntity.ok(idempotencyStore.execute("patient:" + hospitalId, idempotencyKey, requestDto,
+                () -> patientService.registerPatient(hospitalId, requestDto)));
     }
 
     /**
@@ -57,10 +73,22 @@ public class PatientController {
         return ResponseEntity.noContent().build();
     }
 
+    /**
+     * 삭제된 환자 복원
+     */
+    @PostMapping("/{patientId}/restore")
+    public ResponseEntity<PatientResponseDto> restorePatient(
+            @PathVariable Long hospitalId,
+            @PathVariable Long patientId
+    ) {
+        return ResponseEntity.ok(patientService.restorePatient(hospitalId, patientId));
+    }
+
     /**
      * 환자 단건 조회
      */
     @GetMapping("/{patientId}")
+    @QueryBudget(statements = 2)
     public ResponseEntity<PatientResponseDto> getPatient(
             @PathVariable Long hospitalId,
             @PathVariable Long patientId
@@ -68,27 +96,95 @@ public class PatientController {
         return ResponseEntity.ok(patientService.getPatient(hospitalId, patientId));
     }
 
+    /**
+     * 환자등록번호로 단건 조회 (바코드/팔찌 스캔)
+     */
+    @GetMapping("/by-number/{patientNumber}")
+    @QueryBudget(statements = 2)
+    public ResponseEntity<PatientResponseDto> getPatientByNumber(
+            @PathVariable Long hospitalId,
+            @PathVariable String patientNumber
+    ) {
+        return ResponseEntity.ok(patientService.getPatientByNumber(hospitalId, patientNumber));
+    }
+
+    /**
+     * 환자 상세 (최근 방문, 진료 과목별 방문 수 포함)
+     */
+    @GetMapping("/{patientId}/detail")
+    @QueryBudget(statements = 4)
+    public ResponseEntity<PatientDetailResponseDto> getPatientDetail(
+            @PathVariable Long hospitalId,
+            @PathVariable Long patientId,
+            @RequestParam(defaultValue = "5") int recentVisits
+    ) {
+        return ResponseEntity.ok(patientService.getPatientDetail(hospitalId, patientId, recentVisits));
+    }
+
     /**
      * 병원별 환자 전체 조회
      */
     @GetMapping
+    @QueryBudget(statements = 2)
     public ResponseEntity<List<PatientResponseDto>> getAllPatientsByHospital(
             @PathVariable Long hospitalId
     ) {
         return ResponseEntity.ok(patientService.getAllPatients(hospitalId));
     }
 
+    /**
+     * 환자 여러 명 조회
+     */
+    @PostMapping("/batch-get")
+    @QueryBudget(statements = 2)
+    public ResponseEntity<BatchGetResponseDto<PatientResponseDto>> getPatients(
+            @PathVariable Long hospitalId,
+            @Valid @RequestBody BatchGetRequestDto requestDto
+    ) {
+        return ResponseEntity.ok(patientService.getPatients(hospitalId, requestDto.getIds()));
+    }
+
+    /**
+     * 증분 동기화 (응답의 next 를 다음 요청의 since 로 사용)
+     */
+    @GetMapping("/changes")
+    @QueryBudget(statements = 2)
+    public ResponseEntity<PatientChangesResponseDto> getPatientChanges(
+            @PathVariable Long hospitalId,
+            @RequestParam(defaultValue = "0") long since,
+            @RequestParam(defaultValue = "100") int limit
+    ) {
+        return ResponseEntity.ok(patientService.getPatientChanges(hospitalId, since, limit));
+    }
+
     /**
      * 환자 목록 조회 (조건)
+     * - 비동기 처리: 검색 중에는 요청 스레드 반환, 응답 시간 초과(spring.mvc.async.request-timeout) 또는
+     *   클라이언트 연결 종료 시 실행 중인 검색 쿼리 취소
      */
     @GetMapping("/search")
-    public ResponseEntity<Page<PatientSearchResponseDto>> searchPatients(
+    @Admission("patient-search")
+    @QueryBudget(statements = 3)
+    public DeferredResult<ResponseEntity<PageResponseDto<PatientSearchResponseDto>>> searchPatients(
             @PathVariable Long hospitalId,
             @Valid PatientSearchRequestDto condition) {
 
         Pageable pageable = PageRequest.of(condition.getPageNo() - 1, condition.getPageSize());
-        Page<PatientSearchResponseDto> page = patientService.searchPatients(hospitalId, condition, pageable);
+        CompletableFuture<CappedPage<PatientSearchResponseDto>> search = patientService.searchPatientsAsync(hospitalId, condition, pageable);
 
-        return ResponseEntity.ok(page);
+        DeferredResult<ResponseEntity<PageResponseDto<PatientSearchResponseDto>>> result = new DeferredResult<>();
+        result.onTimeout(() -> {
+            search.cancel(true);
+            result.setErrorResult(new QueryTimeoutException("검색 시간이 초과되었습니다. 검색 조건을 좁혀 다시 시도해 주세요."));
+        });
+        result.onError(error -> search.cancel(true));
+        search.whenComplete((page, error) -> {
+            if (error != null) {
+                result.setErrorResult(error instanceof CompletionException ? error.getCause() : error);
+            } else {
+                result.setResult(ResponseEntity.ok(PageResponseDto.from(page)));
+            }
+        });
+        return result;
     }
 }
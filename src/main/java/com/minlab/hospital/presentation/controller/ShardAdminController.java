@@ -0,0 +1,39 @@
+package com.minlab.hospital.presentation.controller;
+
+import com.minlab.hospital.infrastructure.sharding.ShardRebalancer;
+import com.minlab.hospital.infrastructure.sharding.ShardedHospitalReplicator;
+import com.minlab.hospital.presentation.dto.response.ShardMoveResponseDto;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api/admin/shards")
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "hospital.sharding.enabled", havingValue = "true")
+public class ShardAdminController {
+
+    private final ShardRebalancer shardRebalancer;
+    private final ShardedHospitalReplicator hospitalReplicator;
+
+    /**
+     * 병원 샤드 이동
+     */
+    @PostMapping("/hospitals/{hospitalId}/move")
+    public ResponseEntity<ShardMoveResponseDto> moveHospital(
+            @PathVariable Long hospitalId,
+            @RequestParam int targetShard
+    ) {
+        return ResponseEntity.ok(ShardMoveResponseDto.from(shardRebalancer.move(hospitalId, targetShard)));
+    }
+
+    /**
+     * 병원 정보 전체 샤드 재복제
+     */
+    @PostMapping("/hospitals/sync")
+    public ResponseEntity<Void> syncHospitals() {
+        hospitalReplicator.replicateAll();
+        return ResponseEntity.noContent().build();
+    }
+}
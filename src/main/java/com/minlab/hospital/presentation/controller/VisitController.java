@@ -1,11 +1,14 @@
 package com.minlab.hospital.presentation.controller;
 
 import com.minlab.hospital.application.service.VisitService;
+import com.minlab.hospital.application.support.IdempotencyStore;
+import com.minlab.hospital.infrastructure.admission.Admission;
+import com.minlab.hospital.infrastructure.query.QueryBudget;
 import com.minlab.hospital.presentation.dto.request.VisitRequestDto;
+import com.minlab.hospital.presentation.dto.response.PageResponseDto;
 import com.minlab.hospital.presentation.dto.response.VisitResponseDto;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.web.PageableDefault;
 import org.springframework.http.ResponseEntity;
@@ -19,22 +22,27 @@ import java.util.List;
 public class VisitController {
 
     private final VisitService visitService;
+    private final IdempotencyStore idempotencyStore;
 
     /**
-     * 방문 등록
+     * 방문 등록 (Idempotency-Key 재전송 시 최초 응답 반환)
      */
     @PostMapping
+    @Admission("visit-write")
     public ResponseEntity<VisitResponseDto> registerVisit(
             @PathVariable Long patientId,
+            @RequestHeader(value = IdempotencyStore.HEADER, required = false) String idempotencyKey,
             @Valid @RequestBody VisitRequestDto requestDto
     ) {
-        return ResponseEntity.ok(visitService.registerVisit(patientId, requestDto));
+        return ResponseEntity.ok(idempotencyStore.execute("visit:" + patientId, idempotencyKey, requestDto,
+                () -> visitService.registerVisit(patientId, requestDto)));
     }
 
     /**
      * 방문 수정
      */
     @PutMapping("/{visitId}")
+    @Admission("visit-write")
     public ResponseEntity<VisitResponseDto> updateVisit(
             @PathVariable Long patientId,
             @PathVariable Long visitId,
@@ -47,6 +55,7 @@ public class VisitController {
      * 방문 삭제
      */
     @DeleteMapping("/{visitId}")
+    @Admission("visit-write")
     public ResponseEntity<Void> deleteVisit(
             @PathVariable Long patientId,
             @PathVariable Long visitId
@@ -59,6 +68,7 @@ public class VisitController {
      * 방문 단건 조회
      */
     @GetMapping("/{visitId}")
+    @QueryBudget(statements = 2)
     public ResponseEntity<VisitResponseDto> getVisit(
             @PathVariable Long patientId,
             @PathVariable Long visitId
@@ -70,10 +80,11 @@ public class VisitController {
      * 환자별 방문 전체 조회
      */
     @GetMapping
-    public ResponseEntity<Page<VisitResponseDto>> getAllVisitsByPatient(
+    @QueryBudget(statements = 4)
+    public ResponseEntity<PageResponseDto<VisitResponseDto>> getAllVisitsByPatient(
             @PathVariable Long patientId,
             @PageableDefault(page = 0, size = 10) Pageable pageable
     ) {
-        return ResponseEntity.ok(visitService.getVisitsByPatient(patientId, pageable));
+        return ResponseEntity.ok(PageResponseDto.from(visitService.getVisitsByPatient(patientId, pageable)));
     }
 }
@@ -0,0 +1,22 @@
+package com.minlab.hospital.presentation.dto.request;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class BatchGetRequestDto {
+
+    public static final int MAX_IDS = 100;
+
+    @NotEmpty(message = "ids 는 필수입니다.")
+    @Size(max = MAX_IDS, message = "ids 는 최대 " + MAX_IDS + "개까지 요청할 수 있습니다.")
+    private List<@NotNull(message = "ids 에 null 을 포함할 수 없습니다.") Long> ids;
+}
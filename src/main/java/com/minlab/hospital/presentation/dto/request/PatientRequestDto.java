@@ -2,6 +2,7 @@ package com.minlab.hospital.presentation.dto.request;
 
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Past;
+import jakarta.validation.constraints.Size;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -18,6 +19,7 @@ public class  PatientRequestDto {
     private String name;
 
     @NotBlank(message = "성별은 필수입니다.")
+    @Size(max = 20, message = "성별은 20자 이하여야 합니다.")
     private String gender;
 
     @Past(message = "생년월일은 과거 날짜여야 합니다.")
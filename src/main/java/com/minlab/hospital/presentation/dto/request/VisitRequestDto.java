@@ -2,6 +2,7 @@ package com.minlab.hospital.presentation.dto.request;
 
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
@@ -17,11 +18,14 @@ public class VisitRequestDto {
     private LocalDateTime visitDate;
 
     @NotBlank(message = "방문 상태는 필수입니다.")
+    @Size(max = 20, message = "방문 상태는 20자 이하여야 합니다.")
     private String visitStatus;
 
     @NotBlank(message = "진료 유형은 필수입니다.")
+    @Size(max = 20, message = "진료 유형은 20자 이하여야 합니다.")
     private String visitType;
 
     @NotBlank(message = "진료 과목은 필수입니다.")
+    @Size(max = 20, message = "진료 과목은 20자 이하여야 합니다.")
     private String visitCategory;
 }
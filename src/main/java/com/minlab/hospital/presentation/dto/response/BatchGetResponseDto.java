@@ -0,0 +1,33 @@
+package com.minlab.hospital.presentation.dto.response;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * @param items   요청 순서대로 조회된 항목 (중복 ID 는 한 번만)
+ * @param missing 찾을 수 없는 ID (요청 순서)
+ */
+public record BatchGetResponseDto<T>(
+        List<T> items,
+        List<Long> missing
+) {
+    public static <T> BatchGetResponseDto<T> of(List<Long> requestedIds, List<T> found, Function<T, Long> idOf) {
+        Map<Long, T> byId = new LinkedHashMap<>();
+        found.forEach(item -> byId.put(idOf.apply(item), item));
+
+        List<T> items = new ArrayList<>();
+        List<Long> missing = new ArrayList<>();
+        for (Long id : requestedIds.stream().distinct().toList()) {
+            T item = byId.get(id);
+            if (item != null) {
+                items.add(item);
+            } else {
+                missing.add(id);
+            }
+        }
+        return new BatchGetResponseDto<>(items, missing);
+    }
+}
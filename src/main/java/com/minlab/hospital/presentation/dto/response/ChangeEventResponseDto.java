@@ -0,0 +1,30 @@
+package com.minlab.hospital.presentation.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonRawValue;
+import com.minlab.hospital.domain.entity.OutboxEvent;
+
+import java.time.LocalDateTime;
+
+public record ChangeEventResponseDto(
+        Long id,
+        Long seq,
+        String aggregateType,
+        Long aggregateId,
+        Long hospitalId,
+        String eventType,
+        @JsonRawValue String payload,
+        LocalDateTime occurredAt
+) {
+    public static ChangeEventResponseDto fromEntity(OutboxEvent event) {
+        return new ChangeEventResponseDto(
+                event.getId(),
+                event.getFeedSeq(),
+                event.getAggregateType().name(),
+                event.getAggregateId(),
+                event.getHospitalId(),
+                event.getEventType().name(),
+                event.getPayload(),
+                event.getCreatedAt()
+        );
+    }
+}
@@ -0,0 +1,14 @@
+package com.minlab.hospital.presentation.dto.response;
+
+import java.util.List;
+
+/**
+ * @param next    다음 요청의 since 값
+ * @param hasMore true 면 바로 이어서 다시 요청
+ */
+public record ChangeFeedResponseDto(
+        List<ChangeEventResponseDto> events,
+        String next,
+        boolean hasMore
+) {
+}
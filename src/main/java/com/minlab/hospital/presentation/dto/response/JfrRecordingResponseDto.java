@@ -0,0 +1,24 @@
+package com.minlab.hospital.presentation.dto.response;
+
+import com.minlab.hospital.infrastructure.profiling.FlightRecorderManager;
+
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * @param state NEW | RUNNING | STOPPED | CLOSED (STOPPED 부터 파일/요약 조회 가능)
+ */
+public record JfrRecordingResponseDto(
+        long id,
+        String name,
+        String state,
+        Instant startTime,
+        Instant stopTime,
+        Duration maxDuration,
+        long size
+) {
+    public static JfrRecordingResponseDto from(FlightRecorderManager.RecordingInfo info) {
+        return new JfrRecordingResponseDto(info.id(), info.name(), info.state(), info.startTime(), info.stopTime(),
+                info.maxDuration(), info.size());
+    }
+}
@@ -0,0 +1,45 @@
+package com.minlab.hospital.presentation.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.minlab.hospital.domain.repository.CappedPage;
+import org.springframework.data.domain.Page;
+
+import java.util.List;
+
+/**
+ * 페이지 응답 (Page 직렬화 시 pageable/sort 등 중복 정보 제외)
+ * - truncated: 조회 행 수 상한이 있는 조회(환자 검색)에서만 포함, true 면 totalElements 이후 결과는 생략됨
+ */
+public record PageResponseDto<T>(
+        List<T> content,
+        int number,
+        int size,
+        long totalElements,
+        int totalPages,
+        boolean last,
+        @JsonInclude(JsonInclude.Include.NON_NULL) Boolean truncated
+) {
+    public static <T> PageResponseDto<T> from(Page<T> page) {
+        return new PageResponseDto<>(
+                page.getContent(),
+                page.getNumber(),
+                page.getSize(),
+                page.getTotalElements(),
+                page.getTotalPages(),
+                page.isLast(),
+                null
+        );
+    }
+
+    public static <T> PageResponseDto<T> from(CappedPage<T> page) {
+        return new PageResponseDto<>(
+                page.getContent(),
+                page.getNumber(),
+                page.getSize(),
+                page.getTotalElements(),
+                page.getTotalPages(),
+                page.isLast(),
+                page.isTruncated()
+        );
+    }
+}
@@ -0,0 +1,35 @@
+package com.minlab.hospital.presentation.dto.response;
+
+import com.minlab.hospital.domain.entity.Patient;
+
+import java.time.LocalDate;
+
+/**
+ * @param deleted   true 면 클라이언트에서 삭제 (나머지 필드는 삭제 직전 값)
+ * @param changeSeq 변경 순번
+ */
+public record PatientChangeResponseDto(
+        Long id,
+        String name,
+        String patientNumber,
+        String gender,
+        LocalDate birthDate,
+        String phone,
+        String address,
+        boolean deleted,
+        Long changeSeq
+) {
+    public static PatientChangeResponseDto fromEntity(Patient patient) {
+        return new PatientChangeResponseDto(
+                patient.getId(),
+                patient.getName(),
+                patient.getPatientNumber(),
+                patient.getGender().label(),
+                patient.getBirthDate(),
+                patient.getPhone(),
+                patient.getAddress(),
+                !patient.isActive(),
+                patient.getChangeSeq()
+        );
+    }
+}
@@ -0,0 +1,17 @@
+package com.minlab.hospital.presentation.dto.response;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * @param recentVisits          최근 방문 (방문 일시 역순)
+ * @param visitCountsByCategory 진료 과목별 전체 방문 수
+ * @param totalVisits           전체 방문 수
+ */
+public record PatientDetailResponseDto(
+        PatientResponseDto patient,
+        List<VisitResponseDto> recentVisits,
+        Map<String, Long> visitCountsByCategory,
+        long totalVisits
+) {
+}
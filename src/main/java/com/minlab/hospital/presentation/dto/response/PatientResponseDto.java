@@ -18,7 +18,7 @@ public record PatientResponseDto(
                 patient.getId(),
                 patient.getName(),
                 patient.getPatientNumber(),
-                patient.getGender(),
+                patient.getGender().label(),
                 patient.getBirthDate(),
                 patient.getPhone(),
                 patient.getAddress()
@@ -20,7 +20,7 @@ public record PatientSearchResponseDto(
                 patient.getId(),
                 patient.getName(),
                 patient.getPatientNumber(),
-                patient.getGender(),
+                patient.getGender().label(),
                 patient.getBirthDate(),
                 patient.getPhone(),
                 patient.getAddress(),
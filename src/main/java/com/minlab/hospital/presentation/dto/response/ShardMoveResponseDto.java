@@ -0,0 +1,16 @@
+package com.minlab.hospital.presentation.dto.response;
+
+import com.minlab.hospital.infrastructure.sharding.ShardRebalancer;
+
+public record ShardMoveResponseDto(
+        Long hospitalId,
+        int sourceShard,
+        int targetShard,
+        long movedPatients,
+        long movedVisits
+) {
+    public static ShardMoveResponseDto from(ShardRebalancer.MoveResult result) {
+        return new ShardMoveResponseDto(result.hospitalId(), result.sourceShard(), result.targetShard(),
+                result.patients(), result.visits());
+    }
+}
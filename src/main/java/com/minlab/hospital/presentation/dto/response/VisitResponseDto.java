@@ -20,8 +20,8 @@ public record VisitResponseDto(
                 visit.getPatient().getId(),
                 visit.getPatient().getPatientNumber(),
                 visit.getVisitDate(),
-                visit.getVisitStatus(),
-                visit.getVisitType()
+                visit.getVisitStatus().label(),
+                visit.getVisitType().label()
         );
     }
 }
@@ -0,0 +1,84 @@
+package com.minlab.hospital.presentation.json;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+
+import java.io.IOException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * LocalDate / LocalDateTime 을 ISO-8601 문자열로 기록 (DateTimeFormatter 와 동일한 출력, 스레드별 버퍼 재사용)
+ */
+final class IsoDateWriter {
+
+    // yyyy-MM-ddTHH:mm:ss.nnnnnnnnn
+    private static final ThreadLocal<char[]> BUFFER = ThreadLocal.withInitial(() -> new char[29]);
+
+    private IsoDateWriter() {
+    }
+
+    static void writeDate(JsonGenerator gen, LocalDate date) throws IOException {
+        int year = date.getYear();
+        if (year < 0 || year > 9999) {
+            gen.writeString(DateTimeFormatter.ISO_LOCAL_DATE.format(date));
+            return;
+        }
+
+        char[] buf = BUFFER.get();
+        int pos = appendDate(buf, year, date.getMonthValue(), date.getDayOfMonth());
+        gen.writeString(buf, 0, pos);
+    }
+
+    static void writeDateTime(JsonGenerator gen, LocalDateTime dateTime) throws IOException {
+        int year = dateTime.getYear();
+        if (year < 0 || year > 9999) {
+            gen.writeString(DateTimeFormatter.ISO_LOCAL_DATE_TIME.format(dateTime));
+            return;
+        }
+
+        char[] buf = BUFFER.get();
+        int pos = appendDate(buf, year, dateTime.getMonthValue(), dateTime.getDayOfMonth());
+        buf[pos++] = 'T';
+        pos = append2(buf, pos, dateTime.getHour());
+        buf[pos++] = ':';
+        pos = append2(buf, pos, dateTime.getMinute());
+        buf[pos++] = ':';
+        pos = append2(buf, pos, dateTime.getSecond());
+
+        int nano = dateTime.getNano();
+        if (nano > 0) {
+            // ISO_LOCAL_DATE_TIME 과 동일하게 소수부 뒤쪽 0 은 생략
+            buf[pos++] = '.';
+            int digits = 9;
+            while (nano % 10 == 0) {
+                nano /= 10;
+                digits--;
+            }
+            for (int i = pos + digits - 1; i >= pos; i--) {
+                buf[i] = (char) ('0' + nano % 10);
+                nano /= 10;
+            }
+            pos += digits;
+        }
+        gen.writeString(buf, 0, pos);
+    }
+
+    private static int appendDate(char[] buf, int year, int month, int day) {
+        buf[0] = (char) ('0' + year / 1000);
+        buf[1] = (char) ('0' + year / 100 % 10);
+        buf[2] = (char) ('0' + year / 10 % 10);
+        buf[3] = (char) ('0' + year % 10);
+        buf[4] = '-';
+        append2(buf, 5, month);
+        buf[7] = '-';
+        append2(buf, 8, day);
+        return 10;
+    }
+
+    private static int append2(char[] buf, int pos, int value) {
+        buf[pos] = (char) ('0' + value / 10);
+        buf[pos + 1] = (char) ('0' + value % 10);
+        return pos + 2;
+    }
+}
@@ -0,0 +1,136 @@
+package com.minlab.hospital.presentation.json;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.minlab.hospital.presentation.dto.response.HospitalResponseDto;
+import com.minlab.hospital.presentation.dto.response.PatientResponseDto;
+import com.minlab.hospital.presentation.dto.response.PatientSearchResponseDto;
+import com.minlab.hospital.presentation.dto.response.VisitResponseDto;
+import org.springframework.boot.jackson.JsonComponent;
+
+import java.io.IOException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * 응답 DTO 전용 직렬화기
+ * - 리플렉션 없이 record 필드를 선언 순서대로 기록 (기본 직렬화 결과와 동일한 JSON)
+ * - 필드명은 미리 인코딩된 SerializedString 재사용
+ * - DTO 에 필드를 추가하면 여기에도 함께 추가해야 함
+ */
+@JsonComponent
+public class ResponseDtoSerializers {
+
+    private static final SerializableString ID = new SerializedString("id");
+    private static final SerializableString NAME = new SerializedString("name");
+    private static final SerializableString PATIENT_NUMBER = new SerializedString("patientNumber");
+    private static final SerializableString GENDER = new SerializedString("gender");
+    private static final SerializableString BIRTH_DATE = new SerializedString("birthDate");
+    private static final SerializableString PHONE = new SerializedString("phone");
+    private static final SerializableString ADDRESS = new SerializedString("address");
+    private static final SerializableString RECENT_VISIT_DATE = new SerializedString("recentVisitDate");
+    private static final SerializableString HOSPITAL_ID = new SerializedString("hospitalId");
+    private static final SerializableString PATIENT_ID = new SerializedString("patientId");
+    private static final SerializableString VISIT_DATE = new SerializedString("visitDate");
+    private static final SerializableString VISIT_STATUS = new SerializedString("visitStatus");
+    private static final SerializableString VISIT_TYPE = new SerializedString("visitType");
+    private static final SerializableString PROVIDER_NUMBER = new SerializedString("providerNumber");
+    private static final SerializableString DOCTOR_NAME = new SerializedString("doctorName");
+
+    public static class PatientResponseSerializer extends JsonSerializer<PatientResponseDto> {
+        @Override
+        public void serialize(PatientResponseDto value, JsonGenerator gen, SerializerProvider serializers) throws IOException {
+            gen.writeStartObject(value);
+            writeNumber(gen, ID, value.id());
+            writeString(gen, NAME, value.name());
+            writeString(gen, PATIENT_NUMBER, value.patientNumber());
+            writeString(gen, GENDER, value.gender());
+            writeDate(gen, BIRTH_DATE, value.birthDate());
+            writeString(gen, PHONE, value.phone());
+            writeString(gen, ADDRESS, value.address());
+            gen.writeEndObject();
+        }
+    }
+
+    public static class PatientSearchResponseSerializer extends JsonSerializer<PatientSearchResponseDto> {
+        @Override
+        public void serialize(PatientSearchResponseDto value, JsonGenerator gen, SerializerProvider serializers) throws IOException {
+            gen.writeStartObject(value);
+            writeNumber(gen, ID, value.id());
+            writeString(gen, NAME, value.name());
+            writeString(gen, PATIENT_NUMBER, value.patientNumber());
+            writeString(gen, GENDER, value.gender());
+            writeDate(gen, BIRTH_DATE, value.birthDate());
+            writeString(gen, PHONE, value.phone());
+            writeString(gen, ADDRESS, value.address());
+            writeDateTime(gen, RECENT_VISIT_DATE, value.recentVisitDate());
+            gen.writeEndObject();
+        }
+    }
+
+    public static class VisitResponseSerializer extends JsonSerializer<VisitResponseDto> {
+        @Override
+        public void serialize(VisitResponseDto value, JsonGenerator gen, SerializerProvider serializers) throws IOException {
+            gen.writeStartObject(value);
+            writeNumber(gen, ID, value.id());
+            writeNumber(gen, HOSPITAL_ID, value.hospitalId());
+            writeNumber(gen, PATIENT_ID, value.patientId());
+            writeString(gen, PATIENT_NUMBER, value.patientNumber());
+            writeDateTime(gen, VISIT_DATE, value.visitDate());
+            writeString(gen, VISIT_STATUS, value.visitStatus());
+            writeString(gen, VISIT_TYPE, value.visitType());
+            gen.writeEndObject();
+        }
+    }
+
+    public static class HospitalResponseSerializer extends JsonSerializer<HospitalResponseDto> {
+        @Override
+        public void serialize(HospitalResponseDto value, JsonGenerator gen, SerializerProvider serializers) throws IOException {
+            gen.writeStartObject(value);
+            writeNumber(gen, ID, value.id());
+            writeString(gen, NAME, value.name());
+            writeString(gen, PROVIDER_NUMBER, value.providerNumber());
+            writeString(gen, DOCTOR_NAME, value.doctorName());
+            gen.writeEndObject();
+        }
+    }
+
+    private static void writeNumber(JsonGenerator gen, SerializableString field, Long value) throws IOException {
+        gen.writeFieldName(field);
+        if (value == null) {
+            gen.writeNull();
+        } else {
+            gen.writeNumber(value);
+        }
+    }
+
+    private static void writeString(JsonGenerator gen, SerializableString field, String value) throws IOException {
+        gen.writeFieldName(field);
+        if (value == null) {
+            gen.writeNull();
+        } else {
+            gen.writeString(value);
+        }
+    }
+
+    private static void writeDate(JsonGenerator gen, SerializableString field, LocalDate value) throws IOException {
+        gen.writeFieldName(field);
+        if (value == null) {
+            gen.writeNull();
+        } else {
+            IsoDateWriter.writeDate(gen, value);
+        }
+    }
+
+    private static void writeDateTime(JsonGenerator gen, SerializableString field, LocalDateTime value) throws IOException {
+        gen.writeFieldName(field);
+        if (value == null) {
+            gen.writeNull();
+        } else {
+            IsoDateWriter.writeDateTime(gen, value);
+        }
+    }
+}
@@ -0,0 +1,128 @@
+package com.minlab.hospital.presentation.reactive;
+
+import com.minlab.hospital.infrastructure.reactive.ReactiveReadRepository;
+import com.minlab.hospital.presentation.dto.request.PatientSearchRequestDto;
+import com.minlab.hospital.presentation.dto.response.PageResponseDto;
+import jakarta.persistence.EntityNotFoundException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.reactive.function.server.HandlerFunction;
+import org.springframework.web.reactive.function.server.RouterFunction;
+import org.springframework.web.reactive.function.server.RouterFunctions;
+import org.springframework.web.reactive.function.server.ServerRequest;
+import org.springframework.web.reactive.function.server.ServerResponse;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * 조회 전용 WebFlux 엔드포인트 (서블릿 API 와 같은 경로/파라미터/응답)
+ * - GET /api/hospitals/{hospitalId}/patients/{patientId}      ↔ PatientController.getPatient
+ * - GET /api/hospitals/{hospitalId}/patients/search           ↔ PatientController.searchPatients
+ * - GET /api/patients/{patientId}/visits?page=&size=&sort=   ↔ VisitController.getAllVisitsByPatient
+ * - 에러 응답 형식은 GlobalExceptionHandler 와 동일
+ * - 요청 허용량 제한/쿼리 예산/추적은 적용되지 않음 (ReactiveReadConfig 참고)
+ */
+@RequiredArgsConstructor
+public class ReactiveReadHandler {
+
+    // Spring Data 웹 페이지 크기 기본 상한과 동일
+    private static final int MAX_PAGE_SIZE = 2000;
+
+    private final ReactiveReadRepository repository;
+
+    public RouterFunction<ServerResponse> routes() {
+        return RouterFunctions.route()
+                // {patientId} 보다 먼저 매칭
+                .GET("/api/hospitals/{hospitalId}/patients/search", deferred(this::searchPatients))
+                .GET("/api/hospitals/{hospitalId}/patients/{patientId}", deferred(this::getPatient))
+                .GET("/api/patients/{patientId}/visits", deferred(this::getAllVisitsByPatient))
+                .onError(EntityNotFoundException.class, (ex, request) -> error(HttpStatus.NOT_FOUND, "Not Found", ex.getMessage()))
+                .onError(IllegalArgumentException.class, (ex, request) -> error(HttpStatus.BAD_REQUEST, "Bad Request", ex.getMessage()))
+                .onError(TimeoutException.class, (ex, request) -> error(HttpStatus.SERVICE_UNAVAILABLE, "Service Unavailable",
+                        "검색 시간이 초과되었습니다. 검색 조건을 좁혀 다시 시도해 주세요."))
+                .build();
+    }
+
+    Mono<ServerResponse> getPatient(ServerRequest request) {
+        Long hospitalId = longVariable(request, "hospitalId");
+        Long patientId = longVariable(request, "patientId");
+
+        return repository.findPatient(hospitalId, patientId)
+                .flatMap(patient -> ServerResponse.ok().bodyValue(patient));
+    }
+
+    Mono<ServerResponse> searchPatients(ServerRequest request) {
+        Long hospitalId = longVariable(request, "hospitalId");
+        PatientSearchRequestDto condition = new PatientSearchRequestDto();
+        condition.setName(request.queryParam("name").orElse(null));
+        condition.setPatientNumber(request.queryParam("patientNumber").orElse(null));
+        condition.setBirthDate(request.queryParam("birthDate").orElse(null));
+        condition.setPageNo(intParam(request, "pageNo", 1));
+        condition.setPageSize(intParam(request, "pageSize", 10));
+
+        PageRequest pageable = PageRequest.of(condition.getPageNo() - 1, condition.getPageSize());
+        return repository.searchPatients(hospitalId, condition, pageable)
+                .flatMap(page -> ServerResponse.ok().bodyValue(PageResponseDto.from(page)));
+    }
+
+    Mono<ServerResponse> getAllVisitsByPatient(ServerRequest request) {
+        Long patientId = longVariable(request, "patientId");
+        PageRequest pageable = PageRequest.of(
+                Math.max(intParam(request, "page", 0), 0),
+                Math.min(Math.max(intParam(request, "size", 10), 1), MAX_PAGE_SIZE),
+                sortParam(request));
+
+        return repository.findVisitsByPatient(patientId, pageable)
+                .flatMap(page -> ServerResponse.ok().bodyValue(PageResponseDto.from(page)));
+    }
+
+    // 파라미터 변환 예외도 onError 로 처리되도록 구독 시점에 실행
+    private static HandlerFunction<ServerResponse> deferred(HandlerFunction<ServerResponse> handler) {
+        return request -> Mono.defer(() -> handler.handle(request));
+    }
+
+    private static Long longVariable(ServerRequest request, String name) {
+        return Long.valueOf(request.pathVariable(name));
+    }
+
+    private static int intParam(ServerRequest request, String name, int defaultValue) {
+        return request.queryParam(name).map(Integer::valueOf).orElse(defaultValue);
+    }
+
+    /**
+     * Spring Data 웹과 같은 형식: sort=속성(,속성...)(,asc|desc), 여러 번 지정 가능
+     */
+    private static Sort sortParam(ServerRequest request) {
+        List<Sort.Order> orders = new ArrayList<>();
+        for (String value : request.queryParams().getOrDefault("sort", List.of())) {
+            String[] parts = value.split(",");
+            Optional<Sort.Direction> direction = Sort.Direction.fromOptionalString(parts[parts.length - 1]);
+            int properties = direction.isPresent() ? parts.length - 1 : parts.length;
+            for (int i = 0; i < properties; i++) {
+                if (!parts[i].isBlank()) {
+                    orders.add(new Sort.Order(direction.orElse(Sort.DEFAULT_DIRECTION), parts[i].trim()));
+                }
+            }
+        }
+        return Sort.by(orders);
+    }
+
+    private static Mono<ServerResponse> error(HttpStatus status, String error, String message) {
+        Map<String, Object> body = new HashMap<>();
+        body.put("timestamp", LocalDateTime.now());
+        body.put("status", status.value());
+        body.put("error", error);
+        body.put("message", message);
+
+        return ServerResponse.status(status).bodyValue(body);
+    }
+}
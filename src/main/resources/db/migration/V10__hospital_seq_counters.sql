@@ -0,0 +1,7 @@
+-- 병원별 환자 순번/변경 순번 카운터 (환자 영구 삭제 후에도 순번 재사용 없음). 기존 값은 환자 테이블의 최댓값으로 채움
+ALTER TABLE hospital ADD COLUMN last_patient_seq BIGINT DEFAULT 0 NOT NULL;
+ALTER TABLE hospital ADD COLUMN last_change_seq BIGINT DEFAULT 0 NOT NULL;
+
+UPDATE hospital
+SET last_patient_seq = COALESCE((SELECT MAX(p.seq) FROM patient p WHERE p.hospital_id = hospital.id), 0),
+    last_change_seq  = COALESCE((SELECT MAX(p.change_seq) FROM patient p WHERE p.hospital_id = hospital.id), 0);
@@ -0,0 +1,8 @@
+-- 읽기 복제본 지연 측정 (ReplicaLagMonitor 가 primary 의 1행을 주기적으로 갱신하고 replica 에서 읽음)
+CREATE TABLE replication_heartbeat
+(
+    id      INT PRIMARY KEY,
+    beat_at TIMESTAMP NOT NULL
+);
+
+INSERT INTO replication_heartbeat (id, beat_at) VALUES (1, CURRENT_TIMESTAMP);
@@ -0,0 +1,21 @@
+-- 변경 피드 순번 (커밋 순서): OutboxSequencer 가 outbox_sequence 행을 잠근 뒤 커밋된 이벤트에 차례로 부여
+-- 릴레이 선점 만료 시각: 선점(커밋) 후 잠금 없이 전달, 만료 전 전달 완료 표시가 없으면 다시 선점
+ALTER TABLE outbox_event ADD COLUMN feed_seq BIGINT;
+ALTER TABLE outbox_event ADD COLUMN claimed_until TIMESTAMP(6);
+
+-- 기존 이벤트는 모두 커밋된 상태이므로 ID 순서로 채움
+UPDATE outbox_event SET feed_seq = id;
+
+CREATE UNIQUE INDEX uk_outbox_event_feed_seq ON outbox_event (feed_seq);
+
+DROP INDEX idx_outbox_event_published;
+CREATE INDEX idx_outbox_event_published ON outbox_event (published_at, feed_seq);
+
+CREATE TABLE outbox_sequence
+(
+    id       INT    NOT NULL PRIMARY KEY,
+    last_seq BIGINT NOT NULL
+);
+
+INSERT INTO outbox_sequence (id, last_seq)
+SELECT 1, COALESCE(MAX(feed_seq), 0) FROM outbox_event;
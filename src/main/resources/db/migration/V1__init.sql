@@ -0,0 +1,36 @@
+CREATE TABLE hospital
+(
+    id              BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    name            VARCHAR(45) NOT NULL,
+    provider_number VARCHAR(20) NOT NULL,
+    doctor_name     VARCHAR(10) NOT NULL
+);
+
+CREATE TABLE patient
+(
+    id             BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    hospital_id    BIGINT       NOT NULL REFERENCES hospital (id),
+    name           VARCHAR(20)  NOT NULL,
+    patient_number VARCHAR(20)  NOT NULL,
+    gender         VARCHAR(10)  NOT NULL,
+    birth_date     DATE         NOT NULL,
+    phone          VARCHAR(15),
+    address        VARCHAR(100),
+    seq            BIGINT       NOT NULL,
+    status         CHAR(1)      NOT NULL,
+    CONSTRAINT uk_patient_hospital_seq UNIQUE (hospital_id, seq)
+);
+
+CREATE TABLE visit
+(
+    id             BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    hospital_id    BIGINT       NOT NULL REFERENCES hospital (id),
+    patient_id     BIGINT       NOT NULL REFERENCES patient (id),
+    visit_date     TIMESTAMP(6) NOT NULL,
+    visit_status   VARCHAR(20)  NOT NULL,
+    visit_type     VARCHAR(20)  NOT NULL,
+    visit_category VARCHAR(20)  NOT NULL
+);
+
+CREATE INDEX idx_visit_patient ON visit (patient_id);
+CREATE INDEX idx_visit_hospital ON visit (hospital_id);
@@ -0,0 +1,13 @@
+-- 샤딩 디렉터리 (0번 샤드에서만 사용, 모든 샤드의 스키마를 동일하게 유지하기 위해 공통 마이그레이션에 포함)
+CREATE TABLE hospital_shard
+(
+    hospital_id BIGINT PRIMARY KEY,
+    shard       INT         NOT NULL,
+    state       VARCHAR(10) NOT NULL
+);
+
+CREATE TABLE patient_locator
+(
+    patient_id  BIGINT PRIMARY KEY,
+    hospital_id BIGINT NOT NULL
+);
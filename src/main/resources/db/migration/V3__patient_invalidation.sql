@@ -0,0 +1,11 @@
+-- 환자 캐시 무효화 이력 (hospital.cache.invalidation=outbox, 노드별 주기 조회 후 보관 기간 지나면 삭제)
+CREATE TABLE patient_invalidation
+(
+    id             BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    hospital_id    BIGINT       NOT NULL,
+    patient_id     BIGINT       NOT NULL,
+    patient_number VARCHAR(20),
+    created_at     TIMESTAMP(6) NOT NULL
+);
+
+CREATE INDEX idx_patient_invalidation_created_at ON patient_invalidation (created_at);
@@ -0,0 +1,14 @@
+-- 환자/방문 변경 이벤트 (변경과 같은 트랜잭션에 기록, OutboxRelay 가 전달 후 published_at 표시)
+CREATE TABLE outbox_event
+(
+    id             BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    aggregate_type VARCHAR(20)   NOT NULL,
+    aggregate_id   BIGINT        NOT NULL,
+    hospital_id    BIGINT        NOT NULL,
+    event_type     VARCHAR(20)   NOT NULL,
+    payload        VARCHAR(4000) NOT NULL,
+    created_at     TIMESTAMP(6)  NOT NULL,
+    published_at   TIMESTAMP(6)
+);
+
+CREATE INDEX idx_outbox_event_published ON outbox_event (published_at, id);
@@ -0,0 +1,6 @@
+-- 환자 변경 순번 (병원별 증가, 증분 동기화 기준). 기존 환자는 병원별 순번(seq)으로 채움
+ALTER TABLE patient ADD COLUMN change_seq BIGINT;
+UPDATE patient SET change_seq = seq;
+ALTER TABLE patient ALTER COLUMN change_seq SET NOT NULL;
+
+CREATE INDEX idx_patient_hospital_change_seq ON patient (hospital_id, change_seq);
@@ -0,0 +1,2 @@
+-- 환자별 최근 방문 조회 (patient_id 조건 + visit_date 역순 정렬을 인덱스로 처리)
+CREATE INDEX idx_visit_patient_date ON visit (patient_id, visit_date);
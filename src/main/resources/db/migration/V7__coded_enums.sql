@@ -0,0 +1,57 @@
+-- 성별/방문 상태/진료 유형/진료 과목을 문자열 → SMALLINT 코드로 변경
+-- 코드 정의는 고정 목록이 아니라 code_value 테이블: 기존 컬럼의 DISTINCT 값으로 채우고, 이후 처음 보는 값은 애플리케이션이 등록
+-- 기존 값은 모두 코드가 생기므로 NOT NULL 설정이 실패하지 않음
+-- 샤딩 사용 시 디렉터리(0번) 샤드의 code_value 가 기준, 나머지 샤드는 기동 시 ShardCodeAligner 가 같은 코드로 맞춤
+
+CREATE TABLE code_value
+(
+    code_type VARCHAR(20) NOT NULL,
+    code      SMALLINT    NOT NULL,
+    label     VARCHAR(20) NOT NULL,
+    CONSTRAINT pk_code_value PRIMARY KEY (code_type, code),
+    CONSTRAINT uk_code_value_label UNIQUE (code_type, label)
+);
+
+INSERT INTO code_value (code_type, code, label)
+SELECT 'GENDER', ROW_NUMBER() OVER (ORDER BY v.label), v.label
+FROM (SELECT DISTINCT gender AS label FROM patient) v;
+
+INSERT INTO code_value (code_type, code, label)
+SELECT 'VISIT_STATUS', ROW_NUMBER() OVER (ORDER BY v.label), v.label
+FROM (SELECT DISTINCT visit_status AS label FROM visit) v;
+
+INSERT INTO code_value (code_type, code, label)
+SELECT 'VISIT_TYPE', ROW_NUMBER() OVER (ORDER BY v.label), v.label
+FROM (SELECT DISTINCT visit_type AS label FROM visit) v;
+
+INSERT INTO code_value (code_type, code, label)
+SELECT 'VISIT_CATEGORY', ROW_NUMBER() OVER (ORDER BY v.label), v.label
+FROM (SELECT DISTINCT visit_category AS label FROM visit) v;
+
+ALTER TABLE patient ADD COLUMN gender_code SMALLINT;
+UPDATE patient
+SET gender_code = (SELECT c.code FROM code_value c WHERE c.code_type = 'GENDER' AND c.label = patient.gender);
+ALTER TABLE patient ALTER COLUMN gender_code SET NOT NULL;
+ALTER TABLE patient DROP COLUMN gender;
+ALTER TABLE patient RENAME COLUMN gender_code TO gender;
+
+ALTER TABLE visit ADD COLUMN visit_status_code SMALLINT;
+ALTER TABLE visit ADD COLUMN visit_type_code SMALLINT;
+ALTER TABLE visit ADD COLUMN visit_category_code SMALLINT;
+
+UPDATE visit
+SET visit_status_code   = (SELECT c.code FROM code_value c WHERE c.code_type = 'VISIT_STATUS' AND c.label = visit.visit_status),
+    visit_type_code     = (SELECT c.code FROM code_value c WHERE c.code_type = 'VISIT_TYPE' AND c.label = visit.visit_type),
+    visit_category_code = (SELECT c.code FROM code_value c WHERE c.code_type = 'VISIT_CATEGORY' AND c.label = visit.visit_category);
+
+ALTER TABLE visit ALTER COLUMN visit_status_code SET NOT NULL;
+ALTER TABLE visit ALTER COLUMN visit_type_code SET NOT NULL;
+ALTER TABLE visit ALTER COLUMN visit_category_code SET NOT NULL;
+
+ALTER TABLE visit DROP COLUMN visit_status;
+ALTER TABLE visit DROP COLUMN visit_type;
+ALTER TABLE visit DROP COLUMN visit_category;
+
+ALTER TABLE visit RENAME COLUMN visit_status_code TO visit_status;
+ALTER TABLE visit RENAME COLUMN visit_type_code TO visit_type;
+ALTER TABLE visit RENAME COLUMN visit_category_code TO visit_category;
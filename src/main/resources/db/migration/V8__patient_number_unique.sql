@@ -0,0 +1,2 @@
+-- 환자등록번호 자연 키 (병원, 환자등록번호) 유일 인덱스
+ALTER TABLE patient ADD CONSTRAINT uk_patient_hospital_number UNIQUE (hospital_id, patient_number);
@@ -0,0 +1,7 @@
+-- 환자 삭제 시각 (보관 기간이 지나면 영구 삭제). 기존 삭제 환자는 마이그레이션 시각부터 보관
+ALTER TABLE patient ADD COLUMN deleted_at TIMESTAMP;
+UPDATE patient SET deleted_at = CURRENT_TIMESTAMP WHERE status = 'D';
+
+-- 활성 환자 조회(목록/검색/IN)와 영구 삭제 대상 조회. PostgreSQL 은 db/vendor/postgresql 에서 부분 인덱스로 교체
+CREATE INDEX idx_patient_hospital_status ON patient (hospital_id, status, id);
+CREATE INDEX idx_patient_status_deleted_at ON patient (status, deleted_at);
@@ -0,0 +1,145 @@
+package com.minlab.hospital.application.service;
+
+import com.minlab.hospital.application.support.DeletedPatientAccess;
+import com.minlab.hospital.application.support.OutboxRecorder;
+import com.minlab.hospital.config.CodeTableConfig;
+import com.minlab.hospital.config.QuerydslConfig;
+import com.minlab.hospital.domain.code.CodeTable;
+import com.minlab.hospital.domain.code.CodeType;
+import com.minlab.hospital.domain.entity.Hospital;
+import com.minlab.hospital.domain.entity.OutboxEvent;
+import com.minlab.hospital.domain.entity.Patient;
+import com.minlab.hospital.domain.entity.Visit;
+import com.minlab.hospital.domain.repository.HospitalRepository;
+import com.minlab.hospital.domain.repository.OutboxEventRepository;
+import com.minlab.hospital.domain.service.PatientLocator;
+import com.minlab.hospital.infrastructure.sharding.SingleDataPartitions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+
+@DataJpaTest
+@ImportAutoConfiguration(JacksonAutoConfiguration.class)
+@Import({QuerydslConfig.class, CodeTableConfig.class, PatientPurgeService.class, DeletedPatientAccess.class, OutboxRecorder.class, SingleDataPartitions.class})
+class PatientPurgeServiceTest {
+
+    @Autowired
+    private TestEntityManager em;
+
+    @Autowired
+    private CodeTable codeTable;
+
+    @Autowired
+    private PatientPurgeService purgeService;
+
+    @Autowired
+    private HospitalRepository hospitalRepository;
+
+    @Autowired
+    private OutboxEventRepository outboxEventRepository;
+
+    @MockitoBean
+    private PatientLocator patientLocator;
+
+    private Long hospitalId;
+    private Long activeId;
+    private Long deletedId;
+    private Long visitId;
+
+    @BeforeEach
+    void setUp() {
+        Hospital hospital = em.persist(Hospital.builder().name("테스트병원").providerNumber("12345678").doctorName("김의사").build());
+        Patient active = em.persist(patient(hospital, "홍길동"));
+        // 병원의 마지막 순번/변경 순번을 가진 환자를 삭제
+        Patient deleted = patient(hospital, "홍길순");
+        deleted.softDelete();
+        em.persist(deleted);
+        Visit visit = em.persist(Visit.builder()
+                .hospital(hospital)
+                .patient(deleted)
+                .visitDate(LocalDateTime.of(2025, 8, 1, 9, 0))
+                .visitStatus(codeTable.fromLabel(CodeType.VISIT_STATUS, "종료"))
+                .visitType(codeTable.fromLabel(CodeType.VISIT_TYPE, "외래"))
+                .visitCategory(codeTable.fromLabel(CodeType.VISIT_CATEGORY, "내과"))
+                .build());
+        em.flush();
+        em.clear();
+
+        hospitalId = hospital.getId();
+        activeId = active.getId();
+        deletedId = deleted.getId();
+        visitId = visit.getId();
+    }
+
+    @Test
+    @DisplayName("영구 삭제 후에도 병원의 순번/변경 순번은 재사용되지 않음")
+    void seqNotReusedAfterPurge() {
+        assertThat(purgeService.purgeDeletedBefore(LocalDateTime.now().plusMinutes(1))).isEqualTo(1);
+        em.clear();
+
+        assertThat(em.find(Patient.class, deletedId)).isNull();
+        assertThat(em.find(Patient.class, activeId)).isNotNull();
+
+        Hospital hospital = hospitalRepository.findByIdForUpdate(hospitalId).orElseThrow();
+        assertThat(hospital.nextPatientSeq()).isEqualTo(3L);
+        assertThat(hospital.nextChangeSeq()).isEqualTo(3L);
+    }
+
+    @Test
+    @DisplayName("함께 삭제되는 방문은 DELETED 이벤트 기록, 환자 위치 정보 제거")
+    void purgeRecordsVisitEventsAndRemovesLocator() {
+        purgeService.purgeDeletedBefore(LocalDateTime.now().plusMinutes(1));
+        em.clear();
+
+        assertThat(em.find(Visit.class, visitId)).isNull();
+        List<OutboxEvent> events = outboxEventRepository.findAll();
+        assertThat(events).singleElement().satisfies(event -> {
+            assertThat(event.getAggregateType()).isEqualTo(OutboxEvent.AggregateType.VISIT);
+            assertThat(event.getAggregateId()).isEqualTo(visitId);
+            assertThat(event.getHospitalId()).isEqualTo(hospitalId);
+            assertThat(event.getEventType()).isEqualTo(OutboxEvent.EventType.DELETED);
+        });
+        Mockito.verify(patientLocator).remove(List.of(deletedId));
+    }
+
+    @Test
+    @DisplayName("보관 기간이 지나지 않은 삭제 환자는 그대로 유지")
+    void keepWithinRetention() {
+        assertThat(purgeService.purgeDeletedBefore(LocalDateTime.now().minusDays(1))).isZero();
+        em.clear();
+
+        assertThat(em.find(Patient.class, deletedId)).isNotNull();
+        assertThat(em.find(Visit.class, visitId)).isNotNull();
+        assertThat(outboxEventRepository.count()).isZero();
+        Mockito.verify(patientLocator, Mockito.never()).remove(any());
+    }
+
+    // PatientService.registerPatient 와 같이 병원 카운터에서 순번 부여
+    private Patient patient(Hospital hospital, String name) {
+        long seq = hospital.nextPatientSeq();
+        return Patient.builder()
+                .hospital(hospital)
+                .seq(seq)
+                .changeSeq(hospital.nextChangeSeq())
+                .patientNumber(String.format("%03d-%d", hospital.getId(), seq))
+                .name(name)
+                .gender(codeTable.fromLabel(CodeType.GENDER, "M"))
+                .birthDate(LocalDate.of(1990, 1, 1))
+                .build();
+    }
+}
@@ -0,0 +1,86 @@
+package com.minlab.hospital.application.support;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityNotFoundException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class IdempotencyStoreTest {
+
+    // 최초 요청에 합류하면 신호 (합류 후 최초 요청을 끝내야 처리 중 합류를 확인할 수 있음)
+    private final CountDownLatch duplicateJoined = new CountDownLatch(1);
+    private final IdempotencyStore store = new IdempotencyStore(new ObjectMapper(), Duration.ofMinutes(1), 100) {
+        @Override
+        void joined(String scope, String idempotencyKey) {
+            duplicateJoined.countDown();
+        }
+    };
+    private final ExecutorService executor = Executors.newFixedThreadPool(2);
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("동시에 들어온 같은 키 요청은 한 번만 처리")
+    void concurrentDuplicates() throws Exception {
+        AtomicInteger writes = new AtomicInteger();
+        CountDownLatch firstStarted = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        Map<String, String> body = Map.of("name", "홍길동");
+
+        Future<Integer> first = executor.submit(() -> store.execute("patient:1", "key-1", body, () -> {
+            firstStarted.countDown();
+            await(release);
+            return writes.incrementAndGet();
+        }));
+        assertThat(firstStarted.await(1, TimeUnit.SECONDS)).isTrue();
+        Future<Integer> duplicate = executor.submit(() -> store.execute("patient:1", "key-1", body, writes::incrementAndGet));
+
+        assertThat(duplicateJoined.await(1, TimeUnit.SECONDS)).isTrue();
+        assertThat(duplicate).isNotDone();
+        release.countDown();
+
+        assertThat(first.get(1, TimeUnit.SECONDS)).isEqualTo(1);
+        assertThat(duplicate.get(1, TimeUnit.SECONDS)).isEqualTo(1);
+        assertThat(store.execute("patient:2", "key-1", body, writes::incrementAndGet)).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("실패한 요청은 보관하지 않음, 같은 키에 다른 본문은 거절")
+    void failureAndReuse() {
+        Map<String, String> body = Map.of("name", "홍길동");
+
+        assertThatThrownBy(() -> store.execute("patient:1", "key-2", body, () -> {
+            throw new EntityNotFoundException("해당 병원을 찾을 수 없습니다.");
+        })).isInstanceOf(EntityNotFoundException.class);
+        assertThat(store.execute("patient:1", "key-2", body, () -> "재시도 성공")).isEqualTo("재시도 성공");
+
+        assertThatThrownBy(() -> store.execute("patient:1", "key-2", Map.of("name", "김영희"), () -> "중복"))
+                .isInstanceOf(IdempotencyKeyReuseException.class);
+        assertThatThrownBy(() -> store.execute("patient:1", " ", body, () -> "빈 키"))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(1, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
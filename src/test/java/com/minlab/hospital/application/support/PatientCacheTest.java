@@ -0,0 +1,52 @@
+package com.minlab.hospital.application.support;
+
+import com.minlab.hospital.infrastructure.cache.LocalPatientInvalidationChannel;
+import com.minlab.hospital.presentation.dto.response.PatientResponseDto;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PatientCacheTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final PatientCache cache = new PatientCache(new LocalPatientInvalidationChannel(), meterRegistry,
+            Duration.ofMinutes(5), 100);
+
+    private final AtomicInteger loads = new AtomicInteger();
+
+    private PatientResponseDto load() {
+        loads.incrementAndGet();
+        return new PatientResponseDto(7L, "홍길동", "001-7", "M", LocalDate.of(1990, 1, 1), "010-1234-5678", "서울시 강남구");
+    }
+
+    @Test
+    @DisplayName("같은 키 재조회는 캐시 사용, 적중률 기록")
+    void cachesById() {
+        cache.get(1L, 7L, this::load);
+        cache.get(1L, 7L, this::load);
+        cache.get(2L, 7L, this::load);
+
+        assertThat(loads).hasValue(2);
+        assertThat(meterRegistry.get("cache.gets").tags("cache", "patient.by-id", "result", "hit")
+                .functionCounter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("무효화 시 ID/환자등록번호 키 모두 제거")
+    void invalidatesBothKeys() {
+        cache.get(1L, 7L, this::load);
+        cache.getByNumber(1L, "001-7", this::load);
+
+        cache.invalidate(1L, 7L, "001-7");
+        cache.get(1L, 7L, this::load);
+        cache.getByNumber(1L, "001-7", this::load);
+
+        assertThat(loads).hasValue(4);
+    }
+}
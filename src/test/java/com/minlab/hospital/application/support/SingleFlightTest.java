@@ -0,0 +1,122 @@
+package com.minlab.hospital.application.support;
+
+import jakarta.persistence.EntityNotFoundException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SingleFlightTest {
+
+    private final ExecutorService executor = Executors.newFixedThreadPool(4);
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("동시에 들어온 같은 키 호출은 한 번만 실행하고 결과 공유")
+    void coalescesConcurrentCalls() throws Exception {
+        CountDownLatch followerJoined = new CountDownLatch(1);
+        SingleFlight<String, List<String>> flight = joinSignaling(10, followerJoined);
+        AtomicInteger calls = new AtomicInteger();
+        CountDownLatch leaderStarted = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        Future<List<String>> leader = executor.submit(() -> flight.execute("hospital-1", () -> {
+            calls.incrementAndGet();
+            leaderStarted.countDown();
+            await(release);
+            return List.of("홍길동");
+        }));
+        assertThat(leaderStarted.await(1, TimeUnit.SECONDS)).isTrue();
+        Future<List<String>> follower = executor.submit(() -> flight.execute("hospital-1", () -> {
+            calls.incrementAndGet();
+            return List.of("다른 결과");
+        }));
+
+        assertThat(followerJoined.await(1, TimeUnit.SECONDS)).isTrue();
+        assertThat(follower).isNotDone();
+        release.countDown();
+
+        assertThat(leader.get(1, TimeUnit.SECONDS)).containsExactly("홍길동");
+        assertThat(follower.get(1, TimeUnit.SECONDS)).isSameAs(leader.get());
+        assertThat(calls).hasValue(1);
+        assertThat(flight.inFlightCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("leader 실패 시 대기 중인 호출도 같은 예외, 이후 호출은 다시 실행")
+    void propagatesFailure() throws Exception {
+        CountDownLatch followerJoined = new CountDownLatch(1);
+        SingleFlight<String, String> flight = joinSignaling(10, followerJoined);
+        CountDownLatch leaderStarted = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        Future<String> leader = executor.submit(() -> flight.execute("patient-1", () -> {
+            leaderStarted.countDown();
+            await(release);
+            throw new EntityNotFoundException("해당 병원에서 환자를 찾을 수 없습니다.");
+        }));
+        assertThat(leaderStarted.await(1, TimeUnit.SECONDS)).isTrue();
+        Future<String> follower = executor.submit(() -> flight.execute("patient-1", () -> "실행되면 안 됨"));
+
+        assertThat(followerJoined.await(1, TimeUnit.SECONDS)).isTrue();
+        assertThat(follower).isNotDone();
+        release.countDown();
+
+        assertThatThrownBy(leader::get).hasCauseInstanceOf(EntityNotFoundException.class);
+        assertThatThrownBy(follower::get).hasCauseInstanceOf(EntityNotFoundException.class);
+        assertThat(flight.execute("patient-1", () -> "재조회")).isEqualTo("재조회");
+    }
+
+    @Test
+    @DisplayName("진행 중인 키가 최대 개수 이상이면 합치지 않고 바로 실행")
+    void boundedKeySpace() throws Exception {
+        SingleFlight<String, String> flight = new SingleFlight<>(1);
+        CountDownLatch leaderStarted = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        Future<String> leader = executor.submit(() -> flight.execute("a", () -> {
+            leaderStarted.countDown();
+            await(release);
+            return "a";
+        }));
+        assertThat(leaderStarted.await(1, TimeUnit.SECONDS)).isTrue();
+
+        assertThat(flight.execute("b", () -> "b")).isEqualTo("b");
+        assertThat(flight.inFlightCount()).isEqualTo(1);
+
+        release.countDown();
+        assertThat(leader.get(1, TimeUnit.SECONDS)).isEqualTo("a");
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(1, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    // follower 가 leader 호출에 합류하면 신호 (합류 후 leader 를 끝내야 결과 공유를 확인할 수 있음)
+    private static <V> SingleFlight<String, V> joinSignaling(int maxInFlight, CountDownLatch joined) {
+        return new SingleFlight<>(maxInFlight) {
+            @Override
+            void joined(String key) {
+                joined.countDown();
+            }
+        };
+    }
+}
@@ -0,0 +1,77 @@
+package com.minlab.hospital.domain.code;
+
+import com.minlab.hospital.config.CodeTableConfig;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+
+import javax.sql.DataSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DataJpaTest
+@Import(CodeTableConfig.class)
+class CodeTableTest {
+
+    @Autowired
+    private CodeTable codeTable;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Test
+    @DisplayName("처음 보는 label 은 다음 code 로 등록, 같은 label 은 같은 값")
+    void registersNewLabel() {
+        Code first = codeTable.fromLabel(CodeType.VISIT_CATEGORY, "등록테스트과1");
+        Code second = codeTable.fromLabel(CodeType.VISIT_CATEGORY, "등록테스트과2");
+
+        assertThat(first.type()).isEqualTo(CodeType.VISIT_CATEGORY);
+        assertThat(second.code()).isEqualTo((short) (first.code() + 1));
+        assertThat(codeTable.fromLabel(CodeType.VISIT_CATEGORY, "등록테스트과1")).isEqualTo(first);
+        assertThat(codeTable.fromLabel(CodeType.VISIT_TYPE, "등록테스트과1").type()).isEqualTo(CodeType.VISIT_TYPE);
+    }
+
+    @Test
+    @DisplayName("다른 노드가 등록한 코드는 사전에 없으면 테이블을 다시 읽어 찾음")
+    void reloadsCodesRegisteredElsewhere() {
+        CodeTable otherNode = new CodeTable(dataSource);
+        otherNode.fromLabel(CodeType.GENDER, "U"); // 다른 노드의 사전을 먼저 채움
+
+        Code registered = codeTable.fromLabel(CodeType.GENDER, "다른노드성별");
+
+        assertThat(otherNode.fromCode(CodeType.GENDER, registered.code())).isEqualTo(registered);
+        assertThat(otherNode.fromLabel(CodeType.GENDER, "다른노드성별")).isEqualTo(registered);
+    }
+
+    @Test
+    @DisplayName("컨버터: 값 ↔ SMALLINT 왕복, 다른 종류의 값 저장은 IllegalArgumentException")
+    void converterRoundTrip() {
+        CodeConverter converter = new CodeConverter.VisitStatusConverter(codeTable);
+        Code status = codeTable.fromLabel(CodeType.VISIT_STATUS, "방문중");
+
+        Short column = converter.convertToDatabaseColumn(status);
+
+        assertThat(column).isEqualTo(status.code());
+        assertThat(converter.convertToEntityAttribute(column)).isEqualTo(status);
+        assertThat(converter.convertToDatabaseColumn(null)).isNull();
+        assertThat(converter.convertToEntityAttribute(null)).isNull();
+
+        Code gender = codeTable.fromLabel(CodeType.GENDER, "F");
+        assertThatThrownBy(() -> converter.convertToDatabaseColumn(gender))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("비어 있거나 20자를 넘는 label 은 IllegalArgumentException(400), 없는 코드는 IllegalStateException")
+    void rejectsInvalid() {
+        assertThatThrownBy(() -> codeTable.fromLabel(CodeType.VISIT_TYPE, " "))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> codeTable.fromLabel(CodeType.VISIT_TYPE, "가".repeat(CodeTable.MAX_LABEL_LENGTH + 1)))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new CodeConverter.GenderConverter(codeTable).convertToEntityAttribute(Short.MAX_VALUE))
+                .isInstanceOf(IllegalStateException.class);
+    }
+}
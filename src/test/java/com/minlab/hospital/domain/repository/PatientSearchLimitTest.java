@@ -0,0 +1,111 @@
+package com.minlab.hospital.domain.repository;
+
+import com.minlab.hospital.config.CodeTableConfig;
+import com.minlab.hospital.config.QuerydslConfig;
+import com.minlab.hospital.domain.code.CodeTable;
+import com.minlab.hospital.domain.code.CodeType;
+import com.minlab.hospital.domain.entity.Hospital;
+import com.minlab.hospital.domain.entity.Patient;
+import com.minlab.hospital.presentation.dto.request.PatientSearchRequestDto;
+import com.querydsl.core.Tuple;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+
+import java.time.Duration;
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@Import({QuerydslConfig.class, CodeTableConfig.class, CodeTableConfig.class})
+class PatientSearchLimitTest {
+
+    private static final Duration TIMEOUT = Duration.ofSeconds(3);
+
+    @Autowired
+    private TestEntityManager em;
+
+    @Autowired
+    private CodeTable codeTable;
+
+    @Autowired
+    private PatientRepository patientRepository;
+
+    private Long hospitalId;
+    private PatientSearchRequestDto condition;
+
+    @BeforeEach
+    void setUp() {
+        Hospital hospital = em.persist(Hospital.builder().name("테스트병원").providerNumber("12345678").doctorName("김의사").build());
+        for (long seq = 1; seq <= 5; seq++) {
+            em.persist(Patient.builder()
+                    .hospital(hospital)
+                    .seq(seq)
+                    .changeSeq(seq)
+                    .patientNumber(String.format("%03d-%d", hospital.getId(), seq))
+                    .name("홍길동" + seq)
+                    .gender(codeTable.fromLabel(CodeType.GENDER, "M"))
+                    .birthDate(LocalDate.of(1990, 1, 1))
+                    .build());
+        }
+        em.flush();
+        em.clear();
+
+        hospitalId = hospital.getId();
+        condition = new PatientSearchRequestDto();
+        condition.setName("홍");
+    }
+
+    @Test
+    @DisplayName("상한 이하: 전체 개수 그대로, truncated=false")
+    void withinLimit() {
+        CappedPage<Tuple> page = patientRepository.searchPatients(hospitalId, condition, PageRequest.of(0, 2), 10, TIMEOUT);
+
+        assertThat(page.getContent()).hasSize(2);
+        assertThat(page.getTotalElements()).isEqualTo(5);
+        assertThat(page.isTruncated()).isFalse();
+    }
+
+    @Test
+    @DisplayName("상한 초과: 전체 개수/페이지가 상한까지만 반영, truncated=true")
+    void overLimit() {
+        CappedPage<Tuple> first = patientRepository.searchPatients(hospitalId, condition, PageRequest.of(0, 2), 3, TIMEOUT);
+        CappedPage<Tuple> boundary = patientRepository.searchPatients(hospitalId, condition, PageRequest.of(1, 2), 3, TIMEOUT);
+        CappedPage<Tuple> beyond = patientRepository.searchPatients(hospitalId, condition, PageRequest.of(2, 2), 3, TIMEOUT);
+
+        assertThat(first.getContent()).hasSize(2);
+        assertThat(first.getTotalElements()).isEqualTo(3);
+        assertThat(first.isTruncated()).isTrue();
+
+        assertThat(boundary.getContent()).hasSize(1);
+        assertThat(boundary.isLast()).isTrue();
+
+        assertThat(beyond.getContent()).isEmpty();
+        assertThat(beyond.isTruncated()).isTrue();
+    }
+
+    @Test
+    @DisplayName("개수 집계도 페이지와 같은 조건: 삭제된 환자 제외, 이름의 LIKE 와일드카드는 문자 그대로 비교")
+    void countMatchesPageCondition() {
+        Patient deleted = patientRepository.findAll().get(0);
+        deleted.softDelete();
+        em.flush();
+        em.clear();
+
+        CappedPage<Tuple> page = patientRepository.searchPatients(hospitalId, condition, PageRequest.of(0, 10), 10, TIMEOUT);
+        assertThat(page.getContent()).hasSize(4);
+        assertThat(page.getTotalElements()).isEqualTo(4);
+
+        PatientSearchRequestDto wildcard = new PatientSearchRequestDto();
+        wildcard.setName("%");
+        CappedPage<Tuple> none = patientRepository.searchPatients(hospitalId, wildcard, PageRequest.of(0, 10), 10, TIMEOUT);
+        assertThat(none.getContent()).isEmpty();
+        assertThat(none.getTotalElements()).isZero();
+    }
+}
@@ -0,0 +1,179 @@
+package com.minlab.hospital.domain.repository;
+
+import com.minlab.hospital.application.service.VisitService;
+import com.minlab.hospital.application.support.DeletedPatientAccess;
+import com.minlab.hospital.application.support.OutboxRecorder;
+import com.minlab.hospital.application.support.ReadCoalescer;
+import com.minlab.hospital.config.CodeTableConfig;
+import com.minlab.hospital.config.QuerydslConfig;
+import com.minlab.hospital.domain.code.CodeTable;
+import com.minlab.hospital.domain.code.CodeType;
+import com.minlab.hospital.domain.entity.Hospital;
+import com.minlab.hospital.domain.entity.Patient;
+import com.minlab.hospital.domain.entity.Visit;
+import com.minlab.hospital.presentation.dto.request.PatientSearchRequestDto;
+import com.minlab.hospital.presentation.dto.request.VisitRequestDto;
+import com.minlab.hospital.presentation.dto.response.BatchGetResponseDto;
+import com.minlab.hospital.presentation.dto.response.VisitResponseDto;
+import jakarta.persistence.EntityNotFoundException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DataJpaTest
+@ImportAutoConfiguration(JacksonAutoConfiguration.class)
+@Import({QuerydslConfig.class, CodeTableConfig.class, DeletedPatientAccess.class,
+        VisitService.class, ReadCoalescer.class, OutboxRecorder.class})
+class PatientSoftDeleteFilterTest {
+
+    @Autowired
+    private TestEntityManager em;
+
+    @Autowired
+    private CodeTable codeTable;
+
+    @Autowired
+    private PatientRepository patientRepository;
+
+    @Autowired
+    private VisitRepository visitRepository;
+
+    @Autowired
+    private DeletedPatientAccess deletedPatientAccess;
+
+    @Autowired
+    private VisitService visitService;
+
+    @Autowired
+    private OutboxEventRepository outboxEventRepository;
+
+    private Long hospitalId;
+    private Long activeId;
+    private Long deletedId;
+    private Long activeVisitId;
+    private Long deletedVisitId;
+
+    @BeforeEach
+    void setUp() {
+        Hospital hospital = em.persist(Hospital.builder().name("테스트병원").providerNumber("12345678").doctorName("김의사").build());
+        Patient active = em.persist(patient(hospital, 1L, "홍길동"));
+        Patient deleted = patient(hospital, 2L, "홍길순");
+        deleted.softDelete();
+        em.persist(deleted);
+        Visit activeVisit = em.persist(visit(hospital, active));
+        Visit deletedVisit = em.persist(visit(hospital, deleted));
+        em.flush();
+        em.clear();
+
+        hospitalId = hospital.getId();
+        activeId = active.getId();
+        deletedId = deleted.getId();
+        activeVisitId = activeVisit.getId();
+        deletedVisitId = deletedVisit.getId();
+    }
+
+    @Test
+    @DisplayName("파생/JPQL/Querydsl 조회 모두 삭제 환자 제외")
+    void queriesExcludeDeleted() {
+        assertThat(patientRepository.findOneById(deletedId)).isEmpty();
+        assertThat(patientRepository.findByHospital_IdAndId(hospitalId, deletedId)).isEmpty();
+        assertThat(patientRepository.existsById(deletedId)).isFalse();
+        assertThat(patientRepository.findHospitalIdById(deletedId)).isEmpty();
+        assertThat(patientRepository.count()).isEqualTo(1);
+
+        assertThat(ids(patientRepository.findByHospital_Id(hospitalId))).containsExactly(activeId);
+        assertThat(ids(patientRepository.findByHospital_IdAndIdIn(hospitalId, List.of(activeId, deletedId)))).containsExactly(activeId);
+        assertThat(ids(patientRepository.findByHospital_IdAndChangeSeqGreaterThanOrderByChangeSeq(hospitalId, 0L, PageRequest.of(0, 10))))
+                .containsExactly(activeId);
+
+        PatientSearchRequestDto condition = new PatientSearchRequestDto();
+        condition.setName("홍길");
+        assertThat(patientRepository.searchPatients(hospitalId, condition, PageRequest.of(0, 10), 100, Duration.ofSeconds(3))
+                .getTotalElements()).isEqualTo(1);
+        assertThat(patientRepository.findPatientWithVisitCounts(hospitalId, deletedId)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("삭제 환자의 방문은 단건/환자별/여러 건 조회, 수정, 삭제 모두 없음으로 처리 (변경 이벤트도 기록하지 않음)")
+    void visitPathsExcludeDeletedPatient() {
+        assertThatThrownBy(() -> visitService.getVisit(deletedVisitId)).isInstanceOf(EntityNotFoundException.class);
+        assertThatThrownBy(() -> visitService.updateVisit(deletedVisitId, visitRequest()))
+                .isInstanceOf(EntityNotFoundException.class);
+        assertThatThrownBy(() -> visitService.deleteVisit(deletedVisitId)).isInstanceOf(EntityNotFoundException.class);
+        assertThatThrownBy(() -> visitService.getVisitsByPatient(deletedId, PageRequest.of(0, 10)))
+                .isInstanceOf(EntityNotFoundException.class);
+
+        BatchGetResponseDto<VisitResponseDto> batch = visitService.getVisits(hospitalId, List.of(activeVisitId, deletedVisitId));
+        assertThat(batch.items()).extracting(VisitResponseDto::id).containsExactly(activeVisitId);
+        assertThat(batch.missing()).containsExactly(deletedVisitId);
+
+        // 리포지토리를 직접 호출해도 삭제 환자의 방문은 반환하지 않음
+        assertThat(visitRepository.findActiveById(deletedVisitId)).isEmpty();
+        assertThat(visitRepository.findByPatient_Id(deletedId, PageRequest.of(0, 10))).isEmpty();
+        assertThat(visitService.getVisit(activeVisitId).id()).isEqualTo(activeVisitId);
+
+        em.flush();
+        assertThat(em.find(Visit.class, deletedVisitId)).isNotNull();
+        assertThat(outboxEventRepository.findAll()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("필터 해제 구간에서만 삭제 환자 조회, 이후 다시 제외")
+    void includingDeleted() {
+        List<Patient> all = deletedPatientAccess.includingDeleted(() -> patientRepository.findByHospital_Id(hospitalId));
+
+        assertThat(ids(all)).containsExactlyInAnyOrder(activeId, deletedId);
+        assertThat(ids(patientRepository.findByHospital_Id(hospitalId))).containsExactly(activeId);
+    }
+
+    private Patient patient(Hospital hospital, long seq, String name) {
+        return Patient.builder()
+                .hospital(hospital)
+                .seq(seq)
+                .changeSeq(seq)
+                .patientNumber(String.format("%03d-%d", hospital.getId(), seq))
+                .name(name)
+                .gender(codeTable.fromLabel(CodeType.GENDER, "M"))
+                .birthDate(LocalDate.of(1990, 1, 1))
+                .build();
+    }
+
+    private Visit visit(Hospital hospital, Patient patient) {
+        return Visit.builder()
+                .hospital(hospital)
+                .patient(patient)
+                .visitDate(LocalDateTime.of(2025, 8, 1, 9, 0))
+                .visitStatus(codeTable.fromLabel(CodeType.VISIT_STATUS, "종료"))
+                .visitType(codeTable.fromLabel(CodeType.VISIT_TYPE, "외래"))
+                .visitCategory(codeTable.fromLabel(CodeType.VISIT_CATEGORY, "내과"))
+                .build();
+    }
+
+    private static VisitRequestDto visitRequest() {
+        VisitRequestDto request = new VisitRequestDto();
+        request.setVisitDate(LocalDateTime.of(2025, 8, 2, 9, 0));
+        request.setVisitStatus("종료");
+        request.setVisitType("외래");
+        request.setVisitCategory("안과");
+        return request;
+    }
+
+    private static List<Long> ids(List<Patient> patients) {
+        return patients.stream().map(Patient::getId).toList();
+    }
+}
@@ -0,0 +1,116 @@
+package com.minlab.hospital.infrastructure.admission;
+
+import com.minlab.hospital.domain.service.PatientLocator;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class AdmissionInterceptorTest {
+
+    private final AtomicLong nanos = new AtomicLong();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final PatientLocator patientLocator = mock(PatientLocator.class);
+    private AdmissionInterceptor interceptor;
+    private HandlerMethod handler;
+
+    @BeforeEach
+    void setUp() throws NoSuchMethodException {
+        AdmissionProperties.Budget write = new AdmissionProperties.Budget();
+        write.setRatePerSecond(1);
+        write.setBurst(1);
+        write.setMaxConcurrent(1);
+
+        AdmissionProperties.Budget lookup = new AdmissionProperties.Budget();
+        lookup.setRatePerSecond(1);
+        lookup.setBurst(2);
+        lookup.setMaxConcurrent(1);
+
+        AdmissionProperties properties = new AdmissionProperties();
+        properties.setBudgets(Map.of("visit-write", write));
+        properties.setLookup(lookup);
+        properties.setIdleTimeout(Duration.ofMinutes(1));
+
+        interceptor = new AdmissionInterceptor(new AdmissionRegistry(properties, meterRegistry, nanos::get), patientLocator);
+        handler = new HandlerMethod(new Handlers(), Handlers.class.getMethod("write"));
+        when(patientLocator.hospitalIdOf(7L)).thenReturn(Optional.of(1L));
+    }
+
+    @Test
+    @DisplayName("경로에 병원 ID 가 있으면 소속 병원을 조회하지 않음")
+    void hospitalPath() {
+        interceptor.preHandle(request(Map.of("hospitalId", "1", "patientId", "7")), new MockHttpServletResponse(), handler);
+
+        verify(patientLocator, never()).hospitalIdOf(7L);
+        assertThat(meterRegistry.get("hospital.admission")
+                .tags("hospital", "1", "budget", "visit-write", "outcome", "admitted")
+                .counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("조회 허용량을 초과하면 소속 병원을 조회하지 않고 거절")
+    void lookupRejectedBeforeQuery() {
+        MockHttpServletRequest first = request(Map.of("patientId", "7"));
+        interceptor.preHandle(first, new MockHttpServletResponse(), handler);
+        interceptor.afterCompletion(first, new MockHttpServletResponse(), handler, null);
+
+        // 병원별 버킷(1개) 소진, 조회 버킷(2개)은 남아 있음 → 조회 후 병원 허용량에서 거절
+        assertThatThrownBy(() -> interceptor.preHandle(request(Map.of("patientId", "7")), new MockHttpServletResponse(), handler))
+                .isInstanceOf(AdmissionRejectedException.class);
+        verify(patientLocator, times(2)).hospitalIdOf(7L);
+
+        // 조회 버킷 소진 → DB 조회 없이 거절
+        assertThatThrownBy(() -> interceptor.preHandle(request(Map.of("patientId", "7")), new MockHttpServletResponse(), handler))
+                .isInstanceOf(AdmissionRejectedException.class);
+        verify(patientLocator, times(2)).hospitalIdOf(7L);
+        assertThat(meterRegistry.get("hospital.admission")
+                .tags("hospital", AdmissionRegistry.LOOKUP_TENANT, "budget", AdmissionRegistry.LOOKUP_BUDGET,
+                        "outcome", "rate_limited")
+                .counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("조회 슬롯은 조회 직후 반환, 병원별 슬롯은 요청 종료 시 반환")
+    void lookupPermitReleased() {
+        MockHttpServletRequest first = request(Map.of("patientId", "7"));
+        interceptor.preHandle(first, new MockHttpServletResponse(), handler);
+
+        // 조회 동시 처리 수 1 이지만 첫 요청 처리 중에도 조회 가능, 병원별 동시 처리 수에서 거절
+        nanos.addAndGet(Duration.ofSeconds(1).toNanos());
+        assertThatThrownBy(() -> interceptor.preHandle(request(Map.of("patientId", "7")), new MockHttpServletResponse(), handler))
+                .hasMessageContaining("동시 처리");
+
+        interceptor.afterCompletion(first, new MockHttpServletResponse(), handler, null);
+        nanos.addAndGet(Duration.ofSeconds(1).toNanos());
+        interceptor.preHandle(request(Map.of("patientId", "7")), new MockHttpServletResponse(), handler);
+    }
+
+    private static MockHttpServletRequest request(Map<String, String> variables) {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setAttribute(HandlerMapping.URI_TEMPLATE_VARIABLES_ATTRIBUTE, variables);
+        return request;
+    }
+
+    static class Handlers {
+        @Admission("visit-write")
+        public void write() {
+        }
+    }
+}
@@ -0,0 +1,88 @@
+package com.minlab.hospital.infrastructure.admission;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class AdmissionRegistryTest {
+
+    private final AtomicLong nanos = new AtomicLong();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private AdmissionRegistry registry;
+
+    @BeforeEach
+    void setUp() {
+        AdmissionProperties.Budget search = new AdmissionProperties.Budget();
+        search.setRatePerSecond(1);
+        search.setBurst(2);
+        search.setMaxConcurrent(1);
+
+        AdmissionProperties.Budget register = new AdmissionProperties.Budget();
+        register.setRatePerSecond(10);
+        register.setBurst(10);
+        register.setMaxConcurrent(10);
+
+        AdmissionProperties properties = new AdmissionProperties();
+        properties.setBudgets(Map.of("patient-search", search, "patient-register", register));
+        properties.setIdleTimeout(Duration.ofMinutes(1));
+        properties.setMaxEntries(3);
+
+        registry = new AdmissionRegistry(properties, meterRegistry, nanos::get);
+    }
+
+    @Test
+    @DisplayName("버킷 소진 시 429 + 다음 토큰까지 Retry-After, 시간이 지나면 다시 허용")
+    void rateLimit() {
+        registry.acquire("patient-search", 1L).release();
+        registry.acquire("patient-search", 1L).release();
+
+        assertThatThrownBy(() -> registry.acquire("patient-search", 1L))
+                .isInstanceOfSatisfying(AdmissionRejectedException.class,
+                        ex -> assertThat(ex.getRetryAfterSeconds()).isEqualTo(1));
+
+        nanos.addAndGet(TimeUnit.MILLISECONDS.toNanos(1500));
+        registry.acquire("patient-search", 1L).release();
+        assertThat(meterRegistry.get("hospital.admission")
+                .tags("hospital", "1", "budget", "patient-search", "outcome", "rate_limited")
+                .counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("동시 처리 수 초과 시 거절, 병원/허용량별로 분리")
+    void bulkhead() {
+        AdmissionRegistry.Permit permit = registry.acquire("patient-search", 1L);
+
+        assertThatThrownBy(() -> registry.acquire("patient-search", 1L))
+                .isInstanceOf(AdmissionRejectedException.class);
+        registry.acquire("patient-search", 2L).release();
+        registry.acquire("patient-register", 1L).release();
+
+        permit.release();
+        permit.release();
+        nanos.addAndGet(TimeUnit.SECONDS.toNanos(2));
+        registry.acquire("patient-search", 1L).release();
+    }
+
+    @Test
+    @DisplayName("유휴 상태 제거, 최대 개수 초과 시 공용 상태 사용")
+    void boundedEntries() {
+        for (long hospitalId = 1; hospitalId <= 5; hospitalId++) {
+            registry.acquire("patient-register", hospitalId).release();
+        }
+        assertThat(registry.size()).isEqualTo(4);
+
+        nanos.addAndGet(TimeUnit.MINUTES.toNanos(2));
+        registry.evictIdle();
+        assertThat(registry.size()).isZero();
+        assertThat(meterRegistry.find("hospital.admission").counters()).isEmpty();
+    }
+}
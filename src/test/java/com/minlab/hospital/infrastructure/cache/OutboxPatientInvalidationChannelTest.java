@@ -0,0 +1,81 @@
+package com.minlab.hospital.infrastructure.cache;
+
+import com.minlab.hospital.domain.service.PatientInvalidation;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class OutboxPatientInvalidationChannelTest {
+
+    private final JdbcTemplate jdbc = new JdbcTemplate(
+            new DriverManagerDataSource("jdbc:h2:mem:invalidation;DB_CLOSE_DELAY=-1", "sa", ""));
+    private final SimpleMeterRegistry nodeBMetrics = new SimpleMeterRegistry();
+
+    private OutboxPatientInvalidationChannel nodeA;
+    private OutboxPatientInvalidationChannel nodeB;
+
+    @BeforeEach
+    void setUp() {
+        jdbc.execute("DROP TABLE IF EXISTS patient_invalidation");
+        jdbc.execute("""
+                CREATE TABLE patient_invalidation (
+                    id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+                    hospital_id BIGINT NOT NULL,
+                    patient_id BIGINT NOT NULL,
+                    patient_number VARCHAR(20),
+                    created_at TIMESTAMP(6) NOT NULL
+                )""");
+
+        nodeA = channel(new SimpleMeterRegistry());
+        nodeB = channel(nodeBMetrics);
+    }
+
+    @Test
+    @DisplayName("다른 노드의 변경을 조회해 구독자에게 전달, 지연 시간 기록")
+    void deliversToOtherNodes() {
+        List<PatientInvalidation> received = new CopyOnWriteArrayList<>();
+        nodeB.subscribe(received::add);
+        nodeB.poll();
+
+        PatientInvalidation invalidation = new PatientInvalidation(1L, 7L, "001-7");
+        nodeA.publish(invalidation);
+        nodeB.poll();
+
+        assertThat(received).containsExactly(invalidation);
+        assertThat(nodeBMetrics.get("hospital.patient.cache.invalidation.latency").timer().count()).isEqualTo(1);
+
+        // lookback 구간 재조회로 다시 전달되어도 지연 시간은 한 번만 기록
+        nodeB.poll();
+        assertThat(nodeBMetrics.get("hospital.patient.cache.invalidation.latency").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("보관 기간이 지난 이력 삭제")
+    void purgesOldRows() {
+        // 1시간 뒤 시점의 노드에서 정리 (보관 기간 10분)
+        OutboxPatientInvalidationChannel later = new OutboxPatientInvalidationChannel(jdbc, Map.of("primary", jdbc),
+                Duration.ofSeconds(5), Duration.ofMinutes(10), Clock.offset(Clock.systemUTC(), Duration.ofHours(1)),
+                new SimpleMeterRegistry());
+        nodeA.publish(new PatientInvalidation(1L, 7L, "001-7"));
+
+        later.purge();
+
+        assertThat(jdbc.queryForObject("SELECT COUNT(*) FROM patient_invalidation", Long.class)).isZero();
+    }
+
+    private OutboxPatientInvalidationChannel channel(SimpleMeterRegistry meterRegistry) {
+        return new OutboxPatientInvalidationChannel(jdbc, Map.of("primary", jdbc),
+                Duration.ofSeconds(5), Duration.ofMinutes(10), Clock.systemUTC(), meterRegistry);
+    }
+}
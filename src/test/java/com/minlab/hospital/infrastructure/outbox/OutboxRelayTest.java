@@ -0,0 +1,151 @@
+package com.minlab.hospital.infrastructure.outbox;
+
+import com.minlab.hospital.domain.entity.OutboxEvent;
+import com.minlab.hospital.domain.repository.OutboxEventRepository;
+import com.minlab.hospital.infrastructure.sharding.SingleDataPartitions;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.data.domain.Pageable;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+
+class OutboxRelayTest {
+
+    private final List<OutboxEvent> table = new ArrayList<>();
+    private final OutboxEventRepository repository = Mockito.mock(OutboxEventRepository.class);
+    private final PlatformTransactionManager transactionManager = Mockito.mock(PlatformTransactionManager.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private final InMemoryOutboxSink memory = new InMemoryOutboxSink(100);
+    private final AtomicBoolean failing = new AtomicBoolean();
+    private final AtomicBoolean inTransaction = new AtomicBoolean();
+    private final List<Boolean> publishedInTransaction = new ArrayList<>();
+
+    private OutboxRelay relay;
+
+    @BeforeEach
+    void setUp() {
+        Mockito.when(transactionManager.getTransaction(any())).thenAnswer(invocation -> {
+            inTransaction.set(true);
+            return new SimpleTransactionStatus();
+        });
+        Mockito.doAnswer(invocation -> {
+            inTransaction.set(false);
+            return null;
+        }).when(transactionManager).commit(any());
+        Mockito.doAnswer(invocation -> {
+            inTransaction.set(false);
+            return null;
+        }).when(transactionManager).rollback(any());
+
+        // 선점 가능한 미전달 이벤트를 순번 순으로 batchSize 만큼 반환, claim/releaseClaim/markPublished 로 상태 변경
+        Mockito.when(repository.findClaimable(any(), any())).thenAnswer(invocation -> table.stream()
+                .filter(event -> event.getPublishedAt() == null)
+                .filter(event -> event.getClaimedUntil() == null
+                        || event.getClaimedUntil().isBefore(invocation.<LocalDateTime>getArgument(0)))
+                .limit(invocation.<Pageable>getArgument(1).getPageSize())
+                .toList());
+        Mockito.when(repository.claim(any(), any())).thenAnswer(invocation -> {
+            Collection<Long> ids = invocation.getArgument(0);
+            LocalDateTime claimedUntil = invocation.getArgument(1);
+            table.stream().filter(event -> ids.contains(event.getId())).forEach(event -> event.setClaimedUntil(claimedUntil));
+            return ids.size();
+        });
+        Mockito.when(repository.releaseClaim(any())).thenAnswer(invocation -> {
+            Collection<Long> ids = invocation.getArgument(0);
+            table.stream().filter(event -> ids.contains(event.getId())).forEach(event -> event.setClaimedUntil(null));
+            return ids.size();
+        });
+        Mockito.when(repository.markPublished(any(), any())).thenAnswer(invocation -> {
+            Collection<Long> ids = invocation.getArgument(0);
+            LocalDateTime publishedAt = invocation.getArgument(1);
+            table.stream().filter(event -> ids.contains(event.getId())).forEach(event -> event.setPublishedAt(publishedAt));
+            return ids.size();
+        });
+
+        OutboxProperties properties = new OutboxProperties();
+        properties.setBatchSize(2);
+        properties.setMaxBatchesPerRun(10);
+
+        OutboxSink sink = messages -> {
+            publishedInTransaction.add(inTransaction.get());
+            if (failing.get()) {
+                throw new IllegalStateException("sink unavailable");
+            }
+            memory.publish(messages);
+        };
+        relay = new OutboxRelay(repository, sink, new SingleDataPartitions(), transactionManager, properties, meterRegistry);
+    }
+
+    @Test
+    @DisplayName("미전달 이벤트를 배치 단위로 모두 전달하고 전달 완료 표시")
+    void relaysInBatches() {
+        for (long id = 1; id <= 5; id++) {
+            table.add(event(id));
+        }
+
+        relay.relay();
+
+        assertThat(memory.messages()).extracting(OutboxMessage::id).containsExactly(1L, 2L, 3L, 4L, 5L);
+        assertThat(table).allMatch(event -> event.getPublishedAt() != null);
+        assertThat(meterRegistry.get("hospital.outbox.relayed").counter().count()).isEqualTo(5);
+    }
+
+    @Test
+    @DisplayName("선점 트랜잭션을 커밋한 뒤 트랜잭션 밖에서 전달")
+    void publishesOutsideTransaction() {
+        for (long id = 1; id <= 3; id++) {
+            table.add(event(id));
+        }
+
+        relay.relay();
+
+        assertThat(publishedInTransaction).containsExactly(false, false);
+        assertThat(table).allMatch(event -> event.getClaimedUntil() != null && event.getPublishedAt() != null);
+    }
+
+    @Test
+    @DisplayName("전달 실패한 배치는 표시하지 않고 다음 실행에서 다시 전달")
+    void retriesFailedBatch() {
+        table.add(event(1L));
+        table.add(event(2L));
+        failing.set(true);
+
+        relay.relay();
+
+        assertThat(memory.messages()).isEmpty();
+        assertThat(table).allMatch(event -> event.getPublishedAt() == null && event.getClaimedUntil() == null);
+        assertThat(meterRegistry.get("hospital.outbox.relay.failures").counter().count()).isEqualTo(1);
+
+        failing.set(false);
+        relay.relay();
+
+        assertThat(memory.messages()).extracting(OutboxMessage::id).containsExactly(1L, 2L);
+        assertThat(table).allMatch(event -> event.getPublishedAt() != null);
+    }
+
+    private static OutboxEvent event(Long id) {
+        return OutboxEvent.builder()
+                .id(id)
+                .feedSeq(id)
+                .aggregateType(OutboxEvent.AggregateType.PATIENT)
+                .aggregateId(id)
+                .hospitalId(1L)
+                .eventType(OutboxEvent.EventType.CREATED)
+                .payload("{\"id\":" + id + "}")
+                .createdAt(LocalDateTime.now())
+                .build();
+    }
+}
@@ -0,0 +1,93 @@
+package com.minlab.hospital.infrastructure.outbox;
+
+import com.minlab.hospital.domain.entity.OutboxEvent;
+import com.minlab.hospital.domain.entity.OutboxSequence;
+import com.minlab.hospital.domain.repository.OutboxEventRepository;
+import com.minlab.hospital.domain.repository.OutboxSequenceRepository;
+import com.minlab.hospital.infrastructure.sharding.SingleDataPartitions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.data.domain.Pageable;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.any;
+
+class OutboxSequencerTest {
+
+    private final List<OutboxEvent> table = new ArrayList<>();
+    private final OutboxEventRepository eventRepository = Mockito.mock(OutboxEventRepository.class);
+    private final OutboxSequenceRepository sequenceRepository = Mockito.mock(OutboxSequenceRepository.class);
+    private final PlatformTransactionManager transactionManager = Mockito.mock(PlatformTransactionManager.class);
+    private final OutboxSequence counter = new OutboxSequence(OutboxSequence.ID, 40L);
+
+    private OutboxSequencer sequencer;
+
+    @BeforeEach
+    void setUp() {
+        Mockito.when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+        Mockito.when(sequenceRepository.findByIdForUpdate(OutboxSequence.ID)).thenReturn(Optional.of(counter));
+
+        // 순번이 없는 이벤트를 ID 순으로 batchSize 만큼 반환
+        Mockito.when(eventRepository.findUnsequenced(any())).thenAnswer(invocation -> table.stream()
+                .filter(event -> event.getFeedSeq() == null)
+                .limit(invocation.<Pageable>getArgument(0).getPageSize())
+                .toList());
+
+        OutboxProperties properties = new OutboxProperties();
+        properties.setBatchSize(2);
+        properties.setMaxBatchesPerRun(10);
+
+        sequencer = new OutboxSequencer(eventRepository, sequenceRepository, new SingleDataPartitions(),
+                transactionManager, properties);
+    }
+
+    @Test
+    @DisplayName("커밋된 이벤트에 카운터 다음 값부터 순번 부여, 이미 부여된 순번은 유지")
+    void assignsAfterCounter() {
+        table.add(event(5L, 40L));
+        table.add(event(7L, null));
+        table.add(event(8L, null));
+        table.add(event(9L, null));
+
+        sequencer.sequence();
+
+        assertThat(table).extracting(OutboxEvent::getFeedSeq).containsExactly(40L, 41L, 42L, 43L);
+        assertThat(counter.getLastSeq()).isEqualTo(43L);
+    }
+
+    @Test
+    @DisplayName("늦게 커밋된(ID 가 작은) 이벤트는 다음 실행에서 더 큰 순번을 받음")
+    void lateCommitGetsLaterSeq() {
+        table.add(event(12L, null));
+        sequencer.sequence();
+
+        table.add(0, event(11L, null));
+        sequencer.sequence();
+
+        assertThat(table).extracting(OutboxEvent::getId, OutboxEvent::getFeedSeq)
+                .containsExactly(tuple(11L, 42L), tuple(12L, 41L));
+    }
+
+    private static OutboxEvent event(Long id, Long feedSeq) {
+        return OutboxEvent.builder()
+                .id(id)
+                .feedSeq(feedSeq)
+                .aggregateType(OutboxEvent.AggregateType.PATIENT)
+                .aggregateId(id)
+                .hospitalId(1L)
+                .eventType(OutboxEvent.EventType.CREATED)
+                .payload("{\"id\":" + id + "}")
+                .createdAt(LocalDateTime.now())
+                .build();
+    }
+}
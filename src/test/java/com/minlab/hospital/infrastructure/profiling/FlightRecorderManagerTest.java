@@ -0,0 +1,40 @@
+package com.minlab.hospital.infrastructure.profiling;
+
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class FlightRecorderManagerTest {
+
+    @TempDir
+    private Path directory;
+
+    @Test
+    @DisplayName("기록 파일에 환경 변수/시스템 프로퍼티/JVM 인자 이벤트가 없음")
+    void excludesSensitiveEvents() throws Exception {
+        ProfilingProperties properties = new ProfilingProperties();
+        properties.setDirectory(directory);
+        FlightRecorderManager manager = new FlightRecorderManager(properties);
+
+        long id = manager.start(Duration.ofMinutes(1)).id();
+        assertThatThrownBy(() -> manager.file(id)).isInstanceOf(IllegalArgumentException.class);
+        manager.stop(id);
+
+        List<String> types = RecordingFile.readAllEvents(manager.file(id)).stream()
+                .map(RecordedEvent::getEventType)
+                .map(type -> type.getName())
+                .distinct()
+                .toList();
+
+        assertThat(types).isNotEmpty().doesNotContainAnyElementsOf(FlightRecorderManager.SENSITIVE_EVENTS);
+    }
+}
@@ -0,0 +1,108 @@
+package com.minlab.hospital.infrastructure.query;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.servlet.HandlerMapping;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class QueryBudgetFilterTest {
+
+    private static final String PATTERN = "/api/hospitals/{hospitalId}/patients/{patientId}";
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final QueryCountingInspector inspector = new QueryCountingInspector();
+
+    @Test
+    @DisplayName("요청별 문장 수를 엔드포인트 패턴 태그로 기록, 예산 이내면 통과")
+    void withinBudget() throws Exception {
+        QueryBudgetFilter filter = new QueryBudgetFilter(properties(QueryBudgetProperties.Mode.FAIL), meterRegistry);
+
+        filter.doFilter(request(), new MockHttpServletResponse(), executing(2));
+
+        assertThat(meterRegistry.get("hospital.request.statements")
+                .tag("endpoint", "GET " + PATTERN)
+                .summary().totalAmount()).isEqualTo(2);
+        assertThat(meterRegistry.find("hospital.request.query.budget.exceeded").counter()).isNull();
+    }
+
+    @Test
+    @DisplayName("fail 모드에서 예산 초과 시 예외 + 초과 카운터 증가")
+    void exceededFails() {
+        QueryBudgetFilter filter = new QueryBudgetFilter(properties(QueryBudgetProperties.Mode.FAIL), meterRegistry);
+
+        assertThatThrownBy(() -> filter.doFilter(request(), new MockHttpServletResponse(), executing(3)))
+                .isInstanceOf(QueryBudgetExceededException.class)
+                .hasMessageContaining("statements 3 > 2");
+        assertThat(meterRegistry.get("hospital.request.query.budget.exceeded")
+                .tag("endpoint", "GET " + PATTERN)
+                .counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("fail 모드는 예산 확인 후 본문을 내보냄 (초과 시 응답이 커밋되지 않음)")
+    void failModeBuffersBody() throws Exception {
+        QueryBudgetFilter filter = new QueryBudgetFilter(properties(QueryBudgetProperties.Mode.FAIL), meterRegistry);
+
+        MockHttpServletResponse within = new MockHttpServletResponse();
+        filter.doFilter(request(), within, writing(2, "{\"id\":1}"));
+        assertThat(within.getContentAsString()).isEqualTo("{\"id\":1}");
+
+        MockHttpServletResponse exceeded = new MockHttpServletResponse();
+        assertThatThrownBy(() -> filter.doFilter(request(), exceeded, writing(3, "{\"id\":1}")))
+                .isInstanceOf(QueryBudgetExceededException.class);
+        assertThat(exceeded.isCommitted()).isFalse();
+        assertThat(exceeded.getContentAsString()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("log 모드에서는 예산을 초과해도 응답은 그대로, 요청 밖 쿼리는 집계하지 않음")
+    void exceededLogs() throws Exception {
+        QueryBudgetFilter filter = new QueryBudgetFilter(properties(QueryBudgetProperties.Mode.LOG), meterRegistry);
+
+        filter.doFilter(request(), new MockHttpServletResponse(), executing(5));
+        inspector.inspect("select 1");
+
+        assertThat(meterRegistry.get("hospital.request.query.budget.exceeded").counter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("hospital.request.statements").summary().totalAmount()).isEqualTo(5);
+    }
+
+    private FilterChain executing(int statements) {
+        return (request, response) -> {
+            for (int i = 0; i < statements; i++) {
+                inspector.inspect("select 1");
+            }
+        };
+    }
+
+    private FilterChain writing(int statements, String body) {
+        return (request, response) -> {
+            executing(statements).doFilter(request, response);
+            response.getWriter().write(body);
+            response.flushBuffer();
+        };
+    }
+
+    private MockHttpServletRequest request() throws NoSuchMethodException {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/hospitals/1/patients/1");
+        request.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, PATTERN);
+        request.setAttribute(QueryBudgetInterceptor.BUDGET_ATTRIBUTE,
+                getClass().getDeclaredMethod("budgeted").getAnnotation(QueryBudget.class));
+        return request;
+    }
+
+    private static QueryBudgetProperties properties(QueryBudgetProperties.Mode mode) {
+        QueryBudgetProperties properties = new QueryBudgetProperties();
+        properties.setMode(mode);
+        return properties;
+    }
+
+    @QueryBudget(statements = 2)
+    private void budgeted() {
+    }
+}
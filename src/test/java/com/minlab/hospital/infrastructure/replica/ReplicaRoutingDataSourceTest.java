@@ -0,0 +1,124 @@
+package com.minlab.hospital.infrastructure.replica;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ReplicaRoutingDataSourceTest {
+
+    private final DataSource primary = new DriverManagerDataSource("jdbc:h2:mem:routing-primary;DB_CLOSE_DELAY=-1", "sa", "");
+    private final DataSource replica = new DriverManagerDataSource("jdbc:h2:mem:routing-replica;DB_CLOSE_DELAY=-1", "sa", "");
+    private final AtomicBoolean replicaHealthy = new AtomicBoolean(true);
+
+    private JdbcTemplate jdbc;
+    private TransactionTemplate writeTx;
+    private TransactionTemplate readOnlyTx;
+
+    @BeforeEach
+    void setUp() {
+        prepare(primary, "primary");
+        prepare(replica, "replica");
+
+        ReplicaRoutingDataSource routing = new ReplicaRoutingDataSource(primary, replica, replicaHealthy::get, new SimpleMeterRegistry());
+        routing.afterPropertiesSet();
+        DataSource dataSource = new LazyConnectionDataSourceProxy(routing);
+
+        jdbc = new JdbcTemplate(dataSource);
+        DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(dataSource);
+        writeTx = new TransactionTemplate(transactionManager);
+        readOnlyTx = new TransactionTemplate(transactionManager);
+        readOnlyTx.setReadOnly(true);
+    }
+
+    @AfterEach
+    void tearDown() {
+        ReadYourWrites.clear();
+    }
+
+    @Test
+    @DisplayName("readOnly 트랜잭션은 replica, 쓰기 트랜잭션은 primary")
+    void routesByReadOnly() {
+        assertThat(readOnlyTx.execute(status -> node())).isEqualTo("replica");
+        assertThat(writeTx.execute(status -> node())).isEqualTo("primary");
+    }
+
+    @Test
+    @DisplayName("read-your-writes 고정 또는 replica 지연 시 primary 에서 읽기")
+    void fallsBackToPrimary() {
+        ReadYourWrites.pin();
+        assertThat(readOnlyTx.execute(status -> node())).isEqualTo("primary");
+        ReadYourWrites.clear();
+
+        replicaHealthy.set(false);
+        assertThat(readOnlyTx.execute(status -> node())).isEqualTo("primary");
+    }
+
+    @Test
+    @DisplayName("쓰기 후 고정 시간 동안만 같은 클라이언트 고정, 만료 항목 제거")
+    void tracksRecentWrites() {
+        MutableClock clock = new MutableClock();
+        ReadYourWritesTracker tracker = new ReadYourWritesTracker(Duration.ofSeconds(5), clock);
+
+        tracker.recordWrite("client-a");
+        clock.advance(Duration.ofSeconds(4));
+        assertThat(tracker.wroteRecently("client-a")).isTrue();
+        assertThat(tracker.wroteRecently("client-b")).isFalse();
+
+        clock.advance(Duration.ofSeconds(1));
+        assertThat(tracker.wroteRecently("client-a")).isFalse();
+        tracker.evictExpired();
+        assertThat(tracker.size()).isZero();
+    }
+
+    private String node() {
+        return jdbc.queryForObject("SELECT name FROM node", String.class);
+    }
+
+    private static void prepare(DataSource dataSource, String name) {
+        JdbcTemplate jdbc = new JdbcTemplate(dataSource);
+        jdbc.execute("DROP TABLE IF EXISTS node");
+        jdbc.execute("CREATE TABLE node (name VARCHAR(10))");
+        jdbc.update("INSERT INTO node (name) VALUES (?)", name);
+    }
+
+    private static class MutableClock extends Clock {
+
+        private Instant now = Instant.parse("2025-01-01T00:00:00Z");
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
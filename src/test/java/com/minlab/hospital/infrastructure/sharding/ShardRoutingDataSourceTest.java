@@ -0,0 +1,107 @@
+package com.minlab.hospital.infrastructure.sharding;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import javax.sql.DataSource;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ShardRoutingDataSourceTest {
+
+    private final DataSource shard0 = new DriverManagerDataSource("jdbc:h2:mem:routing-shard0;DB_CLOSE_DELAY=-1", "sa", "");
+    private final DataSource shard1 = new DriverManagerDataSource("jdbc:h2:mem:routing-shard1;DB_CLOSE_DELAY=-1", "sa", "");
+
+    private ShardRoutingDataSource routing;
+    private ShardResolver resolver;
+
+    @BeforeEach
+    void setUp() {
+        for (DataSource shard : List.of(shard0, shard1)) {
+            JdbcTemplate jdbc = new JdbcTemplate(shard);
+            jdbc.execute("DROP ALL OBJECTS");
+            jdbc.execute("CREATE TABLE hospital (id BIGINT PRIMARY KEY, name VARCHAR(45), provider_number VARCHAR(20), doctor_name VARCHAR(10))");
+            jdbc.execute("CREATE TABLE patient (id BIGINT PRIMARY KEY, hospital_id BIGINT NOT NULL, name VARCHAR(20))");
+            jdbc.execute("CREATE TABLE visit (id BIGINT PRIMARY KEY, hospital_id BIGINT NOT NULL, patient_id BIGINT NOT NULL)");
+            jdbc.execute("CREATE TABLE hospital_shard (hospital_id BIGINT PRIMARY KEY, shard INT NOT NULL, state VARCHAR(10) NOT NULL)");
+        }
+
+        routing = new ShardRoutingDataSource(Map.of(0, shard0, 1, shard1));
+        routing.afterPropertiesSet();
+        resolver = new ShardResolver(new JdbcTemplate(shard0), 2);
+        resolver.refresh();
+    }
+
+    @AfterEach
+    void tearDown() {
+        ShardContext.clear();
+    }
+
+    @Test
+    @DisplayName("ShardContext 의 샤드로 커넥션 라우팅")
+    void routesToCurrentShard() {
+        JdbcTemplate jdbc = new JdbcTemplate(routing);
+
+        ShardContext.runOn(1, () -> jdbc.update("INSERT INTO patient (id, hospital_id, name) VALUES (1, 1, '홍길동')"));
+
+        assertThat(countPatients(shard0)).isZero();
+        assertThat(countPatients(shard1)).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("샤드 미지정 시 디렉터리 샤드 사용, 존재하지 않는 샤드는 실패")
+    void defaultAndUnknownShard() {
+        JdbcTemplate jdbc = new JdbcTemplate(routing);
+
+        jdbc.update("INSERT INTO patient (id, hospital_id, name) VALUES (1, 2, '홍길동')");
+        assertThat(countPatients(shard0)).isEqualTo(1);
+
+        assertThatThrownBy(() -> ShardContext.runOn(7, () -> jdbc.queryForObject("SELECT 1", Integer.class)))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    @DisplayName("병원 샤드 배정 - 기본은 병원 ID 나머지, 디렉터리 배정 우선")
+    void resolvesShard() {
+        assertThat(resolver.shardOf(3L)).isEqualTo(1);
+        assertThat(resolver.shardOf(4L)).isEqualTo(0);
+
+        resolver.assign(3L, 0, ShardResolver.MOVING);
+        assertThat(resolver.shardOf(3L)).isZero();
+        assertThat(resolver.isMoving(3L)).isTrue();
+    }
+
+    @Test
+    @DisplayName("병원 샤드 이동 - 환자/방문을 같은 ID 로 옮기고 원본 삭제")
+    void movesHospital() {
+        JdbcTemplate directory = new JdbcTemplate(shard0);
+        JdbcTemplate source = new JdbcTemplate(shard1);
+        directory.update("INSERT INTO hospital VALUES (1, '민랩의원', '2200005678', '박원장')");
+        source.update("INSERT INTO hospital VALUES (1, '민랩의원', '2200005678', '박원장')");
+        source.update("INSERT INTO patient (id, hospital_id, name) VALUES (1000000000001, 1, '홍길동')");
+        source.update("INSERT INTO visit (id, hospital_id, patient_id) VALUES (1000000000001, 1, 1000000000001)");
+
+        ShardRebalancer rebalancer = new ShardRebalancer(routing, resolver, new ShardedHospitalReplicator(routing), 0);
+        ShardRebalancer.MoveResult result = rebalancer.move(1L, 0);
+
+        assertThat(result.sourceShard()).isEqualTo(1);
+        assertThat(result.patients()).isEqualTo(1);
+        assertThat(result.visits()).isEqualTo(1);
+        assertThat(resolver.shardOf(1L)).isZero();
+        assertThat(resolver.isMoving(1L)).isFalse();
+        assertThat(countPatients(shard1)).isZero();
+        assertThat(directory.queryForObject("SELECT patient_id FROM visit WHERE id = 1000000000001", Long.class))
+                .isEqualTo(1000000000001L);
+    }
+
+    private static long countPatients(DataSource shard) {
+        return new JdbcTemplate(shard).queryForObject("SELECT COUNT(*) FROM patient", Long.class);
+    }
+}
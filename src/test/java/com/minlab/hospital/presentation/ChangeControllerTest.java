@@ -0,0 +1,82 @@
+package com.minlab.hospital.presentation;
+
+import com.minlab.hospital.application.service.ChangeFeedService;
+import com.minlab.hospital.presentation.controller.ChangeController;
+import com.minlab.hospital.presentation.dto.response.ChangeEventResponseDto;
+import com.minlab.hospital.presentation.dto.response.ChangeFeedResponseDto;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.restdocs.AutoConfigureRestDocs;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.restdocs.mockmvc.RestDocumentationRequestBuilders;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.springframework.restdocs.mockmvc.MockMvcRestDocumentation.document;
+import static org.springframework.restdocs.payload.PayloadDocumentation.*;
+import static org.springframework.restdocs.request.RequestDocumentation.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@WebMvcTest(ChangeController.class)
+@AutoConfigureRestDocs
+class ChangeControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockitoBean
+    private ChangeFeedService changeFeedService;
+
+    @Test
+    @DisplayName("변경 이벤트 조회 성공")
+    void getChanges_success() throws Exception {
+        var event = new ChangeEventResponseDto(130L, 121L, "PATIENT", 10L, 1L, "UPDATED",
+                "{\"id\":10,\"hospitalId\":1,\"patientNumber\":\"001-10\",\"name\":\"홍길동\"}",
+                LocalDateTime.of(2025, 8, 23, 12, 34, 56));
+        Mockito.when(changeFeedService.getChanges(eq("0:120"), eq(100)))
+                .thenReturn(new ChangeFeedResponseDto(List.of(event), "0:121", false));
+
+        mockMvc.perform(RestDocumentationRequestBuilders.get("/api/changes")
+                        .param("since", "0:120")
+                        .param("limit", "100"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.events[0].payload.patientNumber").value("001-10"))
+                .andExpect(jsonPath("$.next").value("0:121"))
+                .andDo(document("change-get-success",
+                        queryParameters(
+                                parameterWithName("since").description("이전 응답의 next 값 (기본값 0: 처음부터)"),
+                                parameterWithName("limit").description("최대 이벤트 수 (기본값 100, 최대 1000)")
+                        ),
+                        responseFields(
+                                fieldWithPath("events[].id").description("이벤트 ID (중복 제거용, 커밋 순서와 다를 수 있음)"),
+                                fieldWithPath("events[].seq").description("피드 순번 (파티션 안의 커밋 순서, since/next 의 기준)"),
+                                fieldWithPath("events[].aggregateType").description("대상 종류 (PATIENT, VISIT)"),
+                                fieldWithPath("events[].aggregateId").description("환자 ID 또는 방문 ID"),
+                                fieldWithPath("events[].hospitalId").description("병원 ID"),
+                                fieldWithPath("events[].eventType").description("변경 종류 (CREATED, UPDATED, DELETED)"),
+                                subsectionWithPath("events[].payload").description("변경 후 상태 (환자/방문 조회 응답과 같은 구조)"),
+                                fieldWithPath("events[].occurredAt").description("변경 시각"),
+                                fieldWithPath("next").description("다음 요청의 since 값"),
+                                fieldWithPath("hasMore").description("바로 이어서 조회할 이벤트가 더 있는지 여부")
+                        )
+                ));
+    }
+
+    @Test
+    @DisplayName("변경 이벤트 조회 실패 - 잘못된 since")
+    void getChanges_fail() throws Exception {
+        Mockito.when(changeFeedService.getChanges(eq("abc"), anyInt()))
+                .thenThrow(new IllegalArgumentException("since 값이 올바르지 않습니다: abc"));
+
+        mockMvc.perform(RestDocumentationRequestBuilders.get("/api/changes")
+                        .param("since", "abc"))
+                .andExpect(status().isBadRequest())
+                .andDo(document("change-get-fail"));
+    }
+}
@@ -1,6 +1,8 @@
 package com.minlab.hospital.presentation;
 
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
 import com.minlab.hospital.application.service.HospitalService;
 import com.minlab.hospital.presentation.controller.HospitalController;
 import com.minlab.hospital.presentation.dto.request.HospitalRequestDto;
@@ -19,6 +21,7 @@ import org.springframework.test.web.servlet.MockMvc;
 
 import java.util.List;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.*;
 import static org.springframework.restdocs.mockmvc.MockMvcRestDocumentation.document;
 import static org.springframework.restdocs.payload.PayloadDocumentation.*;
@@ -254,4 +257,24 @@ class HospitalControllerTest {
                         )
                 ));
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("병원 전체 조회 성공 - CBOR 응답")
+    void getAllHospitals_cbor() throws Exception {
+        var res1 = responseDto(1L, "강남병원");
+        var res2 = responseDto(2L, "역삼병원");
+
+        Mockito.when(hospitalService.getAllHospitals())
+                .thenReturn(List.of(res1, res2));
+
+        byte[] body = mockMvc.perform(RestDocumentationRequestBuilders.get("/api/hospitals")
+                        .accept(MediaType.APPLICATION_CBOR))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_CBOR))
+                .andReturn().getResponse().getContentAsByteArray();
+
+        JsonNode hospitals = new ObjectMapper(new CBORFactory()).readTree(body);
+        assertThat(hospitals).hasSize(2);
+        assertThat(hospitals.get(0).get("name").asText()).isEqualTo("강남병원");
+    }
+}
@@ -2,37 +2,57 @@ package com.minlab.hospital.presentation;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.minlab.hospital.application.service.PatientService;
+import com.minlab.hospital.application.support.IdempotencyStore;
+import com.minlab.hospital.domain.repository.CappedPage;
 import com.minlab.hospital.presentation.controller.PatientController;
+import com.minlab.hospital.presentation.dto.request.BatchGetRequestDto;
 import com.minlab.hospital.presentation.dto.request.PatientRequestDto;
 import com.minlab.hospital.presentation.dto.request.PatientSearchRequestDto;
+import com.minlab.hospital.presentation.dto.response.BatchGetResponseDto;
+import com.minlab.hospital.presentation.dto.response.PatientChangeResponseDto;
+import com.minlab.hospital.presentation.dto.response.PatientChangesResponseDto;
+import com.minlab.hospital.presentation.dto.response.PatientDetailResponseDto;
 import com.minlab.hospital.presentation.dto.response.PatientResponseDto;
 import com.minlab.hospital.presentation.dto.response.PatientSearchResponseDto;
+import com.minlab.hospital.presentation.dto.response.VisitResponseDto;
 import jakarta.persistence.EntityNotFoundException;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.restdocs.AutoConfigureRestDocs;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
-import org.springframework.data.domain.PageImpl;
+import org.springframework.context.annotation.Import;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockAsyncContext;
 import org.springframework.restdocs.mockmvc.RestDocumentationRequestBuilders;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.LongStream;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.*;
+import static org.springframework.restdocs.headers.HeaderDocumentation.headerWithName;
+import static org.springframework.restdocs.headers.HeaderDocumentation.requestHeaders;
 import static org.springframework.restdocs.mockmvc.MockMvcRestDocumentation.document;
 import static org.springframework.restdocs.payload.PayloadDocumentation.*;
 import static org.springframework.restdocs.request.RequestDocumentation.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
 @WebMvcTest(PatientController.class)
+@Import(IdempotencyStore.class)
 @AutoConfigureRestDocs
 class PatientControllerTest {
 
@@ -115,6 +135,38 @@ class PatientControllerTest {
                 ));
     }
 
+    @Test
+    @DisplayName("환자 등록 - 같은 Idempotency-Key 재전송 시 최초 응답 반환")
+    void registerPatient_idempotent() throws Exception {
+        var req = requestDto();
+        var res = responseDto(1L, "001-1", "홍길동");
+
+        Mockito.when(patientService.registerPatient(anyLong(), any())).thenReturn(res);
+
+        for (int attempt = 0; attempt < 2; attempt++) {
+            mockMvc.perform(RestDocumentationRequestBuilders.post("/api/hospitals/{hospitalId}/patients", 1L)
+                            .header(IdempotencyStore.HEADER, "clinic-a-20250823-0001")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(req)))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.patientNumber").value("001-1"))
+                    .andDo(document("patient-register-idempotent",
+                            requestHeaders(
+                                    headerWithName(IdempotencyStore.HEADER).description("재전송 식별 키 (선택, 24시간 보관)")
+                            )
+                    ));
+        }
+
+        Mockito.verify(patientService, Mockito.times(1)).registerPatient(anyLong(), any());
+
+        var otherReq = new PatientRequestDto("김영희", "F", LocalDate.of(1992, 3, 4), "010-9876-5432", "서울시 서초구");
+        mockMvc.perform(RestDocumentationRequestBuilders.post("/api/hospitals/{hospitalId}/patients", 1L)
+                        .header(IdempotencyStore.HEADER, "clinic-a-20250823-0001")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(otherReq)))
+                .andExpect(status().isUnprocessableEntity());
+    }
+
     @Test
     @DisplayName("환자 등록 실패 - 병원 없음")
     void registerPatient_fail() throws Exception {
@@ -137,6 +189,20 @@ class PatientControllerTest {
                 ));
     }
 
+    @Test
+    @DisplayName("환자 등록 실패 - 성별이 비어 있거나 20자 초과")
+    void registerPatient_invalidGender() throws Exception {
+        for (String gender : List.of("", "M".repeat(21))) {
+            var req = new PatientRequestDto("홍길동", gender, LocalDate.of(1990, 1, 1), "010-1234-5678", "서울시 강남구");
+
+            mockMvc.perform(RestDocumentationRequestBuilders.post("/api/hospitals/{hospitalId}/patients", 1L)
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(req)))
+                    .andExpect(status().isBadRequest());
+        }
+        Mockito.verifyNoInteractions(patientService);
+    }
+
     @Test
     @DisplayName("환자 수정 성공")
     void updatePatient_success() throws Exception {
@@ -226,6 +292,32 @@ class PatientControllerTest {
                 ));
     }
 
+    @Test
+    @DisplayName("삭제된 환자 복원 성공")
+    void restorePatient_success() throws Exception {
+        var res = responseDto(1L, "1", "홍길동");
+
+        Mockito.when(patientService.restorePatient(anyLong(), anyLong())).thenReturn(res);
+
+        mockMvc.perform(RestDocumentationRequestBuilders.post("/api/hospitals/{hospitalId}/patients/{patientId}/restore", 1L, 1L))
+                .andExpect(status().isOk())
+                .andDo(document("patient-restore-success",
+                        pathParameters(
+                                parameterWithName("hospitalId").description("병원 ID"),
+                                parameterWithName("patientId").description("삭제된 환자 ID")
+                        ),
+                        responseFields(
+                                fieldWithPath("id").description("환자 ID"),
+                                fieldWithPath("patientNumber").description("환자 번호"),
+                                fieldWithPath("name").description("이름"),
+                                fieldWithPath("gender").description("성별"),
+                                fieldWithPath("birthDate").description("생년월일"),
+                                fieldWithPath("phone").description("전화번호"),
+                                fieldWithPath("address").description("주소")
+                        )
+                ));
+    }
+
     @Test
     @DisplayName("환자 단건 조회 성공")
     void getPatient_success() throws Exception {
@@ -252,6 +344,75 @@ class PatientControllerTest {
                 ));
     }
 
+    @Test
+    @DisplayName("환자등록번호로 조회 성공")
+    void getPatientByNumber_success() throws Exception {
+        var res = responseDto(42L, "42", "홍길동");
+
+        Mockito.when(patientService.getPatientByNumber(eq(1L), eq("001-42"))).thenReturn(res);
+
+        mockMvc.perform(RestDocumentationRequestBuilders.get("/api/hospitals/{hospitalId}/patients/by-number/{patientNumber}", 1L, "001-42"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.id").value(42))
+                .andDo(document("patient-get-by-number-success",
+                        pathParameters(
+                                parameterWithName("hospitalId").description("병원 ID"),
+                                parameterWithName("patientNumber").description("환자등록번호")
+                        ),
+                        responseFields(
+                                fieldWithPath("id").description("환자 ID"),
+                                fieldWithPath("patientNumber").description("환자 번호"),
+                                fieldWithPath("name").description("이름"),
+                                fieldWithPath("gender").description("성별"),
+                                fieldWithPath("birthDate").description("생년월일"),
+                                fieldWithPath("phone").description("전화번호"),
+                                fieldWithPath("address").description("주소")
+                        )
+                ));
+    }
+
+    @Test
+    @DisplayName("환자 상세 조회 성공")
+    void getPatientDetail_success() throws Exception {
+        var visit = new VisitResponseDto(7L, 1L, 1L, "001-1", LocalDateTime.of(2025, 8, 27, 14, 30), "종료", "외래");
+        var res = new PatientDetailResponseDto(responseDto(1L, "1", "홍길동"), List.of(visit),
+                Map.of("내과", 3L, "안과", 1L), 4L);
+
+        Mockito.when(patientService.getPatientDetail(eq(1L), eq(1L), eq(5))).thenReturn(res);
+
+        mockMvc.perform(RestDocumentationRequestBuilders.get("/api/hospitals/{hospitalId}/patients/{patientId}/detail", 1L, 1L)
+                        .param("recentVisits", "5"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.totalVisits").value(4))
+                .andDo(document("patient-detail-success",
+                        pathParameters(
+                                parameterWithName("hospitalId").description("병원 ID"),
+                                parameterWithName("patientId").description("환자 ID")
+                        ),
+                        queryParameters(
+                                parameterWithName("recentVisits").description("최근 방문 수 (기본값 5, 최대 50)")
+                        ),
+                        responseFields(
+                                fieldWithPath("patient.id").description("환자 ID"),
+                                fieldWithPath("patient.patientNumber").description("환자 번호"),
+                                fieldWithPath("patient.name").description("이름"),
+                                fieldWithPath("patient.gender").description("성별"),
+                                fieldWithPath("patient.birthDate").description("생년월일"),
+                                fieldWithPath("patient.phone").description("전화번호"),
+                                fieldWithPath("patient.address").description("주소"),
+                                fieldWithPath("recentVisits[].id").description("방문 ID"),
+                                fieldWithPath("recentVisits[].hospitalId").description("병원 ID"),
+                                fieldWithPath("recentVisits[].patientId").description("환자 ID"),
+                                fieldWithPath("recentVisits[].patientNumber").description("환자 번호"),
+                                fieldWithPath("recentVisits[].visitDate").description("방문 일시"),
+                                fieldWithPath("recentVisits[].visitStatus").description("방문 상태"),
+                                fieldWithPath("recentVisits[].visitType").description("방문 유형"),
+                                subsectionWithPath("visitCountsByCategory").description("진료 과목별 방문 수"),
+                                fieldWithPath("totalVisits").description("전체 방문 수")
+                        )
+                ));
+    }
+
     @Test
     @DisplayName("환자 단건 조회 실패 - 환자 없음")
     void getPatient_fail() throws Exception {
@@ -270,6 +431,93 @@ class PatientControllerTest {
                 ));
     }
 
+    @Test
+    @DisplayName("환자 여러 명 조회 성공")
+    void getPatients_success() throws Exception {
+        var req = new BatchGetRequestDto(List.of(2L, 1L, 999L));
+        var res = new BatchGetResponseDto<>(List.of(responseDto(2L, "2", "김영희"), responseDto(1L, "1", "홍길동")), List.of(999L));
+
+        Mockito.when(patientService.getPatients(eq(1L), eq(List.of(2L, 1L, 999L)))).thenReturn(res);
+
+        mockMvc.perform(RestDocumentationRequestBuilders.post("/api/hospitals/{hospitalId}/patients/batch-get", 1L)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(req)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items[0].id").value(2))
+                .andExpect(jsonPath("$.missing[0]").value(999))
+                .andDo(document("patient-batch-get-success",
+                        pathParameters(
+                                parameterWithName("hospitalId").description("병원 ID")
+                        ),
+                        requestFields(
+                                fieldWithPath("ids").description("환자 ID 목록 (최대 " + BatchGetRequestDto.MAX_IDS + "개)")
+                        ),
+                        responseFields(
+                                fieldWithPath("items[].id").description("환자 ID"),
+                                fieldWithPath("items[].patientNumber").description("환자 번호"),
+                                fieldWithPath("items[].name").description("이름"),
+                                fieldWithPath("items[].gender").description("성별"),
+                                fieldWithPath("items[].birthDate").description("생년월일"),
+                                fieldWithPath("items[].phone").description("전화번호"),
+                                fieldWithPath("items[].address").description("주소"),
+                                fieldWithPath("missing").description("찾을 수 없는 환자 ID (요청 순서)")
+                        )
+                ));
+    }
+
+    @Test
+    @DisplayName("환자 여러 명 조회 실패 - 최대 개수 초과")
+    void getPatients_fail() throws Exception {
+        var ids = LongStream.rangeClosed(1, BatchGetRequestDto.MAX_IDS + 1).boxed().toList();
+
+        mockMvc.perform(RestDocumentationRequestBuilders.post("/api/hospitals/{hospitalId}/patients/batch-get", 1L)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new BatchGetRequestDto(ids))))
+                .andExpect(status().isBadRequest())
+                .andDo(document("patient-batch-get-fail"));
+    }
+
+    @Test
+    @DisplayName("환자 증분 동기화 성공")
+    void getPatientChanges_success() throws Exception {
+        var res = new PatientChangesResponseDto(List.of(
+                new PatientChangeResponseDto(1L, "홍길동", "001-1", "M", LocalDate.of(1990, 1, 1),
+                        "010-1234-5678", "서울시 강남구", false, 41L),
+                new PatientChangeResponseDto(2L, "김영희", "001-2", "F", LocalDate.of(1992, 3, 4),
+                        null, null, true, 42L)
+        ), 42L, false);
+
+        Mockito.when(patientService.getPatientChanges(eq(1L), eq(40L), eq(100))).thenReturn(res);
+
+        mockMvc.perform(RestDocumentationRequestBuilders.get("/api/hospitals/{hospitalId}/patients/changes", 1L)
+                        .param("since", "40")
+                        .param("limit", "100"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.next").value(42))
+                .andDo(document("patient-changes-success",
+                        pathParameters(
+                                parameterWithName("hospitalId").description("병원 ID")
+                        ),
+                        queryParameters(
+                                parameterWithName("since").description("이전 응답의 next 값 (기본값 0: 전체)"),
+                                parameterWithName("limit").description("최대 환자 수 (기본값 100, 최대 1000)")
+                        ),
+                        responseFields(
+                                fieldWithPath("changes[].id").description("환자 ID"),
+                                fieldWithPath("changes[].patientNumber").description("환자 번호"),
+                                fieldWithPath("changes[].name").description("이름"),
+                                fieldWithPath("changes[].gender").description("성별"),
+                                fieldWithPath("changes[].birthDate").description("생년월일"),
+                                fieldWithPath("changes[].phone").optional().description("전화번호"),
+                                fieldWithPath("changes[].address").optional().description("주소"),
+                                fieldWithPath("changes[].deleted").description("삭제 여부 (true 면 클라이언트에서 삭제)"),
+                                fieldWithPath("changes[].changeSeq").description("변경 순번"),
+                                fieldWithPath("next").description("다음 요청의 since 값"),
+                                fieldWithPath("hasMore").description("바로 이어서 조회할 변경이 더 있는지 여부")
+                        )
+                ));
+    }
+
     @Test
     @DisplayName("병원 환자 전체 조회 성공")
     void getAllPatients_success() throws Exception {
@@ -318,16 +566,21 @@ class PatientControllerTest {
     void searchPatients_success() throws Exception {
         var res = List.of(searchResponseDto(1L, "1", "홍길동"));
         
-        Mockito.when(patientService.searchPatients(anyLong(), any(PatientSearchRequestDto.class), any(Pageable.class)))
-                .thenReturn(new PageImpl<>(res, PageRequest.of(0, 10), res.size()));
+        Mockito.when(patientService.searchPatientsAsync(anyLong(), any(PatientSearchRequestDto.class), any(Pageable.class)))
+                .thenReturn(CompletableFuture.completedFuture(new CappedPage<>(res, PageRequest.of(0, 10), res.size(), false)));
 
-        mockMvc.perform(RestDocumentationRequestBuilders.get("/api/hospitals/{hospitalId}/patients/search", 1L)
+        MvcResult started = mockMvc.perform(RestDocumentationRequestBuilders.get("/api/hospitals/{hospitalId}/patients/search", 1L)
                         .param("name", "홍길동")
                         .param("patientNumber", "1")
                         .param("birthDate", "1990-01-01")
                         .param("pageNo", "1")
                         .param("pageSize", "10"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(started))
                 .andExpect(status().isOk())
+                .andExpect(jsonPath("$.truncated").value(false))
                 .andDo(document("patient-search-success",
                         pathParameters(
                                 parameterWithName("hospitalId").description("병원 ID")
@@ -350,28 +603,12 @@ class PatientControllerTest {
                                 fieldWithPath("content[].recentVisitDate").description("최근 방문 일자"),
 
                                 // 페이지 정보
-                                fieldWithPath("pageable.pageNumber").description("현재 페이지 번호 (0부터 시작)"),
-                                fieldWithPath("pageable.pageSize").description("페이지 크기"),
-                                fieldWithPath("pageable.offset").description("현재 페이지 시작 위치"),
-                                fieldWithPath("pageable.paged").description("페이징 여부"),
-                                fieldWithPath("pageable.unpaged").description("페이징되지 않았는지 여부"),
-                                fieldWithPath("pageable.sort.empty").description("정렬 정보가 비어있는지 여부"),
-                                fieldWithPath("pageable.sort.sorted").description("정렬 여부"),
-                                fieldWithPath("pageable.sort.unsorted").description("정렬되지 않았는지 여부"),
-
-                                fieldWithPath("last").description("마지막 페이지 여부"),
-                                fieldWithPath("totalPages").description("전체 페이지 수"),
-                                fieldWithPath("totalElements").description("전체 데이터 수"),
+                                fieldWithPath("number").description("현재 페이지 번호 (0부터 시작)"),
                                 fieldWithPath("size").description("페이지 크기"),
-                                fieldWithPath("number").description("현재 페이지 번호"),
-                                fieldWithPath("first").description("첫 페이지 여부"),
-                                fieldWithPath("numberOfElements").description("현재 페이지 요소 수"),
-                                fieldWithPath("empty").description("결과가 비었는지 여부"),
-
-                                // 최상위 sort
-                                fieldWithPath("sort.empty").description("정렬 정보가 비어있는지 여부"),
-                                fieldWithPath("sort.sorted").description("정렬 여부"),
-                                fieldWithPath("sort.unsorted").description("정렬되지 않았는지 여부")
+                                fieldWithPath("totalElements").description("전체 데이터 수"),
+                                fieldWithPath("totalPages").description("전체 페이지 수"),
+                                fieldWithPath("last").description("마지막 페이지 여부"),
+                                fieldWithPath("truncated").description("조회 행 수 상한(hospital.search.max-rows) 초과 여부, true 면 상한 이후 결과는 생략")
                         )
 
                 ));
@@ -380,13 +617,17 @@ class PatientControllerTest {
     @Test
     @DisplayName("환자 검색 실패 - 병원 없음")
     void searchPatients_fail() throws Exception {
-        Mockito.when(patientService.searchPatients(anyLong(), any(PatientSearchRequestDto.class), any(Pageable.class)))
-                .thenThrow(new EntityNotFoundException("해당 병원을 찾을 수 없습니다."));
+        Mockito.when(patientService.searchPatientsAsync(anyLong(), any(PatientSearchRequestDto.class), any(Pageable.class)))
+                .thenReturn(CompletableFuture.failedFuture(new EntityNotFoundException("해당 병원을 찾을 수 없습니다.")));
 
-        mockMvc.perform(RestDocumentationRequestBuilders.get("/api/hospitals/{hospitalId}/patients/search", 999L)
+        MvcResult started = mockMvc.perform(RestDocumentationRequestBuilders.get("/api/hospitals/{hospitalId}/patients/search", 999L)
                         .param("name", "홍길동")
                         .param("pageNo", "1")
                         .param("pageSize", "10"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(started))
                 .andExpect(status().isNotFound())
                 .andDo(document("patient-search-fail",
                         responseFields(
@@ -397,4 +638,35 @@ class PatientControllerTest {
                         )
                 ));
     }
+
+    @Test
+    @DisplayName("환자 검색 실패 - 응답 시간 초과 시 검색 취소")
+    void searchPatients_timeout() throws Exception {
+        CompletableFuture<CappedPage<PatientSearchResponseDto>> search = new CompletableFuture<>();
+        Mockito.when(patientService.searchPatientsAsync(anyLong(), any(PatientSearchRequestDto.class), any(Pageable.class)))
+                .thenReturn(search);
+
+        MvcResult started = mockMvc.perform(RestDocumentationRequestBuilders.get("/api/hospitals/{hospitalId}/patients/search", 1L)
+                        .param("name", "홍"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        MockAsyncContext asyncContext = (MockAsyncContext) started.getRequest().getAsyncContext();
+        for (AsyncListener listener : asyncContext.getListeners()) {
+            listener.onTimeout(new AsyncEvent(asyncContext));
+        }
+
+        mockMvc.perform(asyncDispatch(started))
+                .andExpect(status().isServiceUnavailable())
+                .andDo(document("patient-search-timeout",
+                        responseFields(
+                                fieldWithPath("status").description("HTTP 상태 코드"),
+                                fieldWithPath("error").description("에러 유형"),
+                                fieldWithPath("message").description("에러 메시지"),
+                                fieldWithPath("timestamp").description("에러 발생 시각")
+                        )
+                ));
+
+        assertThat(search.isCancelled()).isTrue();
+    }
 }
@@ -0,0 +1,125 @@
+package com.minlab.hospital.presentation;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.minlab.hospital.application.service.HospitalService;
+import com.minlab.hospital.application.service.PatientService;
+import com.minlab.hospital.application.service.VisitService;
+import com.minlab.hospital.presentation.dto.request.BatchGetRequestDto;
+import com.minlab.hospital.presentation.dto.request.HospitalRequestDto;
+import com.minlab.hospital.presentation.dto.request.PatientRequestDto;
+import com.minlab.hospital.presentation.dto.request.VisitRequestDto;
+import com.minlab.hospital.presentation.dto.response.PatientResponseDto;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * @QueryBudget 이 붙은 조회 API 를 실제 SQL 로 호출 (test 프로필: hospital.query-budget.mode=fail)
+ * - 예산을 넘으면 QueryBudgetFilter 가 예외를 던져 perform 에서 실패
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class QueryBudgetIntegrationTest {
+
+    // 같은 컨텍스트(DB)를 여러 테스트가 공유하므로 요양기관번호를 테스트마다 다르게
+    private static final AtomicInteger PROVIDER_NUMBER = new AtomicInteger(90_000_000);
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private HospitalService hospitalService;
+
+    @Autowired
+    private PatientService patientService;
+
+    @Autowired
+    private VisitService visitService;
+
+    private Long hospitalId;
+    private List<PatientResponseDto> patients;
+    private List<Long> visitIds;
+
+    @BeforeEach
+    void setUp() {
+        hospitalId = hospitalService.registerHospital(new HospitalRequestDto("예산병원", String.valueOf(PROVIDER_NUMBER.incrementAndGet()), "김의사")).id();
+        patients = new ArrayList<>();
+        visitIds = new ArrayList<>();
+        for (int i = 1; i <= 3; i++) {
+            PatientResponseDto patient = patientService.registerPatient(hospitalId,
+                    new PatientRequestDto("환자" + i, i % 2 == 0 ? "F" : "M", LocalDate.of(1990, 1, i), "010-0000-000" + i, "서울"));
+            patients.add(patient);
+            for (String category : List.of("내과", "안과")) {
+                VisitRequestDto visit = new VisitRequestDto();
+                visit.setVisitDate(LocalDateTime.of(2025, 1, i, 9, 0));
+                visit.setVisitStatus("종료");
+                visit.setVisitType("외래");
+                visit.setVisitCategory(category);
+                visitIds.add(visitService.registerVisit(patient.id(), visit).id());
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("병원 조회 API 가 쿼리 예산 안에서 처리됨")
+    void hospitalReads() throws Exception {
+        mockMvc.perform(get("/api/hospitals/{hospitalId}", hospitalId)).andExpect(status().isOk());
+        mockMvc.perform(get("/api/hospitals")).andExpect(status().isOk());
+    }
+
+    @Test
+    @DisplayName("환자 조회 API 가 쿼리 예산 안에서 처리됨 (여러 환자/방문으로 지연 로딩 N+1 확인)")
+    void patientReads() throws Exception {
+        PatientResponseDto patient = patients.get(0);
+        String base = "/api/hospitals/" + hospitalId + "/patients";
+
+        mockMvc.perform(get(base + "/{patientId}", patient.id())).andExpect(status().isOk());
+        mockMvc.perform(get(base + "/by-number/{patientNumber}", patient.patientNumber())).andExpect(status().isOk());
+        mockMvc.perform(get(base + "/{patientId}/detail", patient.id())).andExpect(status().isOk());
+        mockMvc.perform(get(base)).andExpect(status().isOk());
+        mockMvc.perform(get(base + "/changes")).andExpect(status().isOk());
+        mockMvc.perform(post(base + "/batch-get")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new BatchGetRequestDto(patients.stream().map(PatientResponseDto::id).toList()))))
+                .andExpect(status().isOk());
+
+        MvcResult search = mockMvc.perform(get(base + "/search").param("name", "환자"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        mockMvc.perform(asyncDispatch(search)).andExpect(status().isOk());
+    }
+
+    @Test
+    @DisplayName("방문 조회 API 가 쿼리 예산 안에서 처리됨")
+    void visitReads() throws Exception {
+        Long patientId = patients.get(0).id();
+
+        mockMvc.perform(get("/api/patients/{patientId}/visits/{visitId}", patientId, visitIds.get(0))).andExpect(status().isOk());
+        mockMvc.perform(get("/api/patients/{patientId}/visits", patientId)).andExpect(status().isOk());
+        mockMvc.perform(post("/api/hospitals/{hospitalId}/visits/batch-get", hospitalId)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new BatchGetRequestDto(visitIds))))
+                .andExpect(status().isOk());
+    }
+}
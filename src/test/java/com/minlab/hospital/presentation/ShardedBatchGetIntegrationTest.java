@@ -0,0 +1,104 @@
+package com.minlab.hospital.presentation;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.minlab.hospital.application.service.HospitalService;
+import com.minlab.hospital.application.service.PatientService;
+import com.minlab.hospital.application.service.VisitService;
+import com.minlab.hospital.infrastructure.sharding.ShardContext;
+import com.minlab.hospital.infrastructure.sharding.ShardRebalancer;
+import com.minlab.hospital.infrastructure.sharding.ShardResolver;
+import com.minlab.hospital.presentation.dto.request.BatchGetRequestDto;
+import com.minlab.hospital.presentation.dto.request.HospitalRequestDto;
+import com.minlab.hospital.presentation.dto.request.PatientRequestDto;
+import com.minlab.hospital.presentation.dto.request.VisitRequestDto;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 샤딩 구성(sharded 프로필, H2 샤드 3개)에서 경로의 병원 ID 로 샤드를 선택하는지 확인
+ * - 디렉터리 샤드(0)가 아닌 샤드 1 에 둔 병원의 데이터를 조회
+ */
+@SpringBootTest(properties = "hospital.sharding.directory-refresh-ms=10")
+@AutoConfigureMockMvc
+@ActiveProfiles("sharded")
+class ShardedBatchGetIntegrationTest {
+
+    private static final int SHARD = 1;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private HospitalService hospitalService;
+
+    @Autowired
+    private PatientService patientService;
+
+    @Autowired
+    private VisitService visitService;
+
+    @Autowired
+    private ShardResolver shardResolver;
+
+    @Autowired
+    private ShardRebalancer shardRebalancer;
+
+    private Long hospitalId;
+    private final List<Long> visitIds = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        hospitalId = hospitalService.registerHospital(new HospitalRequestDto("샤드병원", "93000001", "김의사")).id();
+        shardRebalancer.move(hospitalId, SHARD);
+        assertThat(shardResolver.shardOf(hospitalId)).isEqualTo(SHARD);
+
+        ShardContext.runOn(SHARD, () -> {
+            Long patientId = patientService.registerPatient(hospitalId,
+                    new PatientRequestDto("홍길동", "M", LocalDate.of(1990, 1, 1), "010-0000-0001", "서울")).id();
+            for (int day = 1; day <= 2; day++) {
+                VisitRequestDto visit = new VisitRequestDto();
+                visit.setVisitDate(LocalDateTime.of(2025, 1, day, 9, 0));
+                visit.setVisitStatus("종료");
+                visit.setVisitType("외래");
+                visit.setVisitCategory("내과");
+                visitIds.add(visitService.registerVisit(patientId, visit).id());
+            }
+        });
+    }
+
+    @Test
+    @DisplayName("병원 방문 여러 건 조회 - 병원이 있는 샤드에서 조회 (누락 없음)")
+    void visitBatchGetRoutesToHospitalShard() throws Exception {
+        String body = mockMvc.perform(post("/api/hospitals/{hospitalId}/visits/batch-get", hospitalId)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new BatchGetRequestDto(visitIds))))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+
+        // 샤드 1 의 ID 는 int 범위를 넘으므로 long 으로 비교
+        JsonNode response = objectMapper.readTree(body);
+        assertThat(response.get("items")).extracting(item -> item.get("id").asLong())
+                .containsExactlyInAnyOrderElementsOf(visitIds);
+        assertThat(response.get("missing")).isEmpty();
+    }
+}
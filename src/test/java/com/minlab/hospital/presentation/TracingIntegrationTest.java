@@ -0,0 +1,140 @@
+package com.minlab.hospital.presentation;
+
+import com.minlab.hospital.application.service.HospitalService;
+import com.minlab.hospital.presentation.dto.request.HospitalRequestDto;
+import io.micrometer.common.KeyValue;
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationView;
+import io.micrometer.observation.tck.TestObservationRegistry;
+import io.micrometer.observation.tck.TestObservationRegistryAssert;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.server.observation.ServerRequestObservationContext;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 요청 추적 스팬 계층 확인 (TestObservationRegistry 로 관측 기록)
+ * - HTTP 요청 → 컨트롤러 → 트랜잭션 → 리포지토리 → JDBC 쿼리/결과 행 수
+ * - 스케줄 작업(outbox 등)의 관측도 함께 기록되므로 요청 관측의 하위만 확인
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@Import(TracingIntegrationTest.ObservationTestConfig.class)
+class TracingIntegrationTest {
+
+    private static final AtomicInteger PROVIDER_NUMBER = new AtomicInteger(91_000_000);
+
+    @TestConfiguration
+    static class ObservationTestConfig {
+        @Bean
+        TestObservationRegistry observationRegistry() {
+            return TestObservationRegistry.create();
+        }
+    }
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private TestObservationRegistry observationRegistry;
+
+    @Autowired
+    private HospitalService hospitalService;
+
+    private Long hospitalId;
+
+    @BeforeEach
+    void setUp() {
+        hospitalId = hospitalService.registerHospital(new HospitalRequestDto("추적병원", String.valueOf(PROVIDER_NUMBER.incrementAndGet()), "김의사")).id();
+        observationRegistry.clear();
+    }
+
+    @Test
+    @DisplayName("병원 조회 요청의 스팬이 HTTP → 컨트롤러 → 트랜잭션 → 리포지토리 → JDBC 순으로 이어짐")
+    void spanHierarchy() throws Exception {
+        String uri = "/api/hospitals/" + hospitalId;
+        mockMvc.perform(get(uri)).andExpect(status().isOk());
+
+        TestObservationRegistryAssert.assertThat(observationRegistry).hasHandledContextsThatSatisfy(contexts -> {
+            Observation.Context request = contexts.stream()
+                    .filter(context -> context instanceof ServerRequestObservationContext server
+                            && uri.equals(server.getCarrier().getRequestURI()))
+                    .findFirst().orElseThrow();
+            assertThat(highCardinality(request, "hospital.id")).isEqualTo(hospitalId.toString());
+
+            Observation.Context controller = child(contexts, request, "hospital.controller");
+            assertThat(controller.getContextualName()).isEqualTo("HospitalController.getHospital");
+            assertThat(highCardinality(controller, "hospital.id")).isEqualTo(hospitalId.toString());
+
+            Observation.Context transaction = child(contexts, controller, "hospital.transaction");
+            assertThat(transaction.getContextualName()).isEqualTo("HospitalService.getHospital");
+            assertThat(transaction.getLowCardinalityKeyValue("read-only").getValue()).isEqualTo("true");
+
+            Observation.Context repository = child(contexts, transaction, "hospital.repository");
+            assertThat(repository.getContextualName()).isEqualTo("HospitalRepository.findById");
+            assertThat(highCardinality(repository, "rows")).isEqualTo("1");
+
+            // JDBC 스팬: 커넥션 획득은 트랜잭션 아래, 쿼리/결과 행 수는 리포지토리 아래 (SQL 파라미터 값은 기록하지 않음)
+            assertThat(descendants(contexts, transaction, "jdbc.connection")).isNotEmpty();
+
+            List<Observation.Context> queries = descendants(contexts, repository, "jdbc.query");
+            assertThat(queries).hasSize(1);
+            assertThat(highCardinality(queries.get(0), "jdbc.query[0]")).containsIgnoringCase("from hospital");
+            assertThat(queries.get(0).getHighCardinalityKeyValue("jdbc.params[0]")).isNull();
+
+            List<Observation.Context> resultSets = descendants(contexts, repository, "jdbc.result-set");
+            assertThat(resultSets).hasSize(1);
+            assertThat(highCardinality(resultSets.get(0), "jdbc.row-count")).isEqualTo("1");
+        });
+    }
+
+    private static Observation.Context child(List<Observation.Context> contexts, Observation.Context parent, String name) {
+        List<Observation.Context> children = contexts.stream()
+                .filter(context -> name.equals(context.getName()) && parentOf(context) == parent)
+                .toList();
+        assertThat(children).as("%s 의 하위 %s", parent.getName(), name).hasSize(1);
+        return children.get(0);
+    }
+
+    private static List<Observation.Context> descendants(List<Observation.Context> contexts, Observation.Context ancestor, String name) {
+        return contexts.stream()
+                .filter(context -> name.equals(context.getName()) && hasAncestor(context, ancestor))
+                .toList();
+    }
+
+    private static boolean hasAncestor(Observation.ContextView context, Observation.Context ancestor) {
+        for (Observation.ContextView parent = parentOf(context); parent != null; parent = parentOf(parent)) {
+            if (parent == ancestor) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static Observation.ContextView parentOf(Observation.ContextView context) {
+        ObservationView parent = context.getParentObservation();
+        return parent == null ? null : parent.getContextView();
+    }
+
+    private static String highCardinality(Observation.Context context, String key) {
+        KeyValue keyValue = context.getHighCardinalityKeyValue(key);
+        assertThat(keyValue).as("%s 의 %s", context.getName(), key).isNotNull();
+        return keyValue.getValue();
+    }
+}
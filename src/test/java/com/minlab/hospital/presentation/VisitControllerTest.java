@@ -2,8 +2,12 @@ package com.minlab.hospital.presentation;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.minlab.hospital.application.service.VisitService;
+import com.minlab.hospital.application.support.IdempotencyStore;
+import com.minlab.hospital.presentation.controller.HospitalVisitController;
 import com.minlab.hospital.presentation.controller.VisitController;
+import com.minlab.hospital.presentation.dto.request.BatchGetRequestDto;
 import com.minlab.hospital.presentation.dto.request.VisitRequestDto;
+import com.minlab.hospital.presentation.dto.response.BatchGetResponseDto;
 import com.minlab.hospital.presentation.dto.response.VisitResponseDto;
 import jakarta.persistence.EntityNotFoundException;
 import org.junit.jupiter.api.DisplayName;
@@ -12,6 +16,7 @@ import org.mockito.Mockito;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.restdocs.AutoConfigureRestDocs;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.context.annotation.Import;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
@@ -28,7 +33,8 @@ import static org.springframework.restdocs.payload.PayloadDocumentation.*;
 import static org.springframework.restdocs.request.RequestDocumentation.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
-@WebMvcTest(VisitController.class)
+@WebMvcTest({VisitController.class, HospitalVisitController.class})
+@Import(IdempotencyStore.class)
 @AutoConfigureRestDocs
 class VisitControllerTest {
 
@@ -122,6 +128,38 @@ class VisitControllerTest {
     }
 
 
+    @Test
+    @DisplayName("방문 등록 실패 - 코드 값이 비어 있거나 20자 초과")
+    void registerVisit_invalidCode() throws Exception {
+        var blank = visitRequestDto();
+        blank.setVisitStatus(" ");
+        var tooLong = visitRequestDto();
+        tooLong.setVisitCategory("가".repeat(21));
+
+        for (VisitRequestDto req : List.of(blank, tooLong)) {
+            mockMvc.perform(RestDocumentationRequestBuilders
+                            .post("/api/patients/{patientId}/visits", 1L)
+                            .contentType("application/json")
+                            .content(objectMapper.writeValueAsString(req)))
+                    .andExpect(status().isBadRequest());
+        }
+        Mockito.verifyNoInteractions(visitService);
+    }
+
+    @Test
+    @DisplayName("방문 등록 실패 - 코드 값 검증 실패(서비스)")
+    void registerVisit_rejectedCode() throws Exception {
+        Mockito.when(visitService.registerVisit(anyLong(), any(VisitRequestDto.class)))
+                .thenThrow(new IllegalArgumentException("진료 과목 값이 비어 있습니다."));
+
+        mockMvc.perform(RestDocumentationRequestBuilders
+                        .post("/api/patients/{patientId}/visits", 1L)
+                        .contentType("application/json")
+                        .content(objectMapper.writeValueAsString(visitRequestDto())))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("진료 과목 값이 비어 있습니다."));
+    }
+
     @Test
     @DisplayName("방문 수정 성공")
     void updateVisit_success() throws Exception {
@@ -288,28 +326,11 @@ class VisitControllerTest {
                                 fieldWithPath("content[].visitType").description("방문 유형"),
 
                                 // 페이지 정보
-                                fieldWithPath("pageable.pageNumber").description("현재 페이지 번호 (0부터 시작)"),
-                                fieldWithPath("pageable.pageSize").description("페이지 크기"),
-                                fieldWithPath("pageable.offset").description("현재 페이지 시작 위치"),
-                                fieldWithPath("pageable.paged").description("페이징 여부"),
-                                fieldWithPath("pageable.unpaged").description("페이징되지 않았는지 여부"),
-                                fieldWithPath("pageable.sort.empty").description("정렬 정보가 비어있는지 여부"),
-                                fieldWithPath("pageable.sort.sorted").description("정렬 여부"),
-                                fieldWithPath("pageable.sort.unsorted").description("정렬되지 않았는지 여부"),
-
-                                fieldWithPath("last").description("마지막 페이지 여부"),
-                                fieldWithPath("totalPages").description("전체 페이지 수"),
-                                fieldWithPath("totalElements").description("전체 데이터 수"),
+                                fieldWithPath("number").description("현재 페이지 번호 (0부터 시작)"),
                                 fieldWithPath("size").description("페이지 크기"),
-                                fieldWithPath("number").description("현재 페이지 번호"),
-                                fieldWithPath("first").description("첫 페이지 여부"),
-                                fieldWithPath("numberOfElements").description("현재 페이지 요소 수"),
-                                fieldWithPath("empty").description("결과가 비었는지 여부"),
-
-                                // 최상위 sort
-                                fieldWithPath("sort.empty").description("정렬 정보가 비어있는지 여부"),
-                                fieldWithPath("sort.sorted").description("정렬 여부"),
-                                fieldWithPath("sort.unsorted").description("정렬되지 않았는지 여부")
+                                fieldWithPath("totalElements").description("전체 데이터 수"),
+                                fieldWithPath("totalPages").description("전체 페이지 수"),
+                                fieldWithPath("last").description("마지막 페이지 여부")
                         )
                 ));
     }
@@ -334,4 +355,37 @@ class VisitControllerTest {
                 ));
     }
 
+
+    @Test
+    @DisplayName("병원 방문 여러 건 조회 성공")
+    void getVisits_success() throws Exception {
+        var req = new BatchGetRequestDto(List.of(3L, 1L, 404L));
+        var res = new BatchGetResponseDto<>(List.of(visitResponseDto(3L, 2L), visitResponseDto(1L, 1L)), List.of(404L));
+
+        Mockito.when(visitService.getVisits(eq(1L), eq(List.of(3L, 1L, 404L)))).thenReturn(res);
+
+        mockMvc.perform(RestDocumentationRequestBuilders
+                        .post("/api/hospitals/{hospitalId}/visits/batch-get", 1L)
+                        .contentType("application/json")
+                        .content(objectMapper.writeValueAsString(req)))
+                .andExpect(status().isOk())
+                .andDo(document("visit-batch-get-success",
+                        pathParameters(
+                                parameterWithName("hospitalId").description("병원 ID")
+                        ),
+                        requestFields(
+                                fieldWithPath("ids").description("방문 ID 목록 (최대 " + BatchGetRequestDto.MAX_IDS + "개)")
+                        ),
+                        responseFields(
+                                fieldWithPath("items[].id").description("방문 ID"),
+                                fieldWithPath("items[].hospitalId").description("병원 ID"),
+                                fieldWithPath("items[].patientId").description("환자 ID"),
+                                fieldWithPath("items[].patientNumber").description("환자 번호"),
+                                fieldWithPath("items[].visitDate").description("방문 일시"),
+                                fieldWithPath("items[].visitStatus").description("방문 상태"),
+                                fieldWithPath("items[].visitType").description("방문 유형"),
+                                fieldWithPath("missing").description("찾을 수 없는 방문 ID (요청 순서)")
+                        )
+                ));
+    }
 }
@@ -0,0 +1,68 @@
+package com.minlab.hospital.presentation.json;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.minlab.hospital.presentation.dto.response.HospitalResponseDto;
+import com.minlab.hospital.presentation.dto.response.PatientResponseDto;
+import com.minlab.hospital.presentation.dto.response.PatientSearchResponseDto;
+import com.minlab.hospital.presentation.dto.response.VisitResponseDto;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ResponseDtoSerializersTest {
+
+    private final ObjectMapper defaultMapper = JsonMapper.builder()
+            .addModule(new JavaTimeModule())
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+            .build();
+
+    private final ObjectMapper tunedMapper = JsonMapper.builder()
+            .addModule(new JavaTimeModule())
+            .addModule(new SimpleModule()
+                    .addSerializer(PatientResponseDto.class, new ResponseDtoSerializers.PatientResponseSerializer())
+                    .addSerializer(PatientSearchResponseDto.class, new ResponseDtoSerializers.PatientSearchResponseSerializer())
+                    .addSerializer(VisitResponseDto.class, new ResponseDtoSerializers.VisitResponseSerializer())
+                    .addSerializer(HospitalResponseDto.class, new ResponseDtoSerializers.HospitalResponseSerializer()))
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+            .build();
+
+    @Test
+    @DisplayName("환자 응답 - 기본 직렬화와 동일")
+    void patientResponse() throws Exception {
+        assertSameJson(new PatientResponseDto(1L, "홍길동", "001-1", "M",
+                LocalDate.of(1990, 1, 1), "010-1234-5678", null));
+    }
+
+    @Test
+    @DisplayName("환자 검색 응답 - 초/나노초 포함 일시도 기본 직렬화와 동일")
+    void patientSearchResponse() throws Exception {
+        assertSameJson(new PatientSearchResponseDto(1L, "홍길동", "001-1", "M",
+                LocalDate.of(1990, 1, 1), "010-1234-5678", "서울시 강남구",
+                LocalDateTime.of(2024, 1, 1, 15, 44, 0)));
+        assertSameJson(new PatientSearchResponseDto(1L, "홍길동", "001-1", "M",
+                LocalDate.of(1990, 1, 1), "010-1234-5678", "서울시 강남구",
+                LocalDateTime.of(2024, 1, 1, 15, 44, 22, 120_000_000)));
+        assertSameJson(new PatientSearchResponseDto(2L, "김철수", "001-2", "F",
+                LocalDate.of(1985, 12, 31), null, null, null));
+    }
+
+    @Test
+    @DisplayName("방문/병원 응답 - 기본 직렬화와 동일")
+    void visitAndHospitalResponse() throws Exception {
+        assertSameJson(new VisitResponseDto(1L, 1L, 1L, "001-1",
+                LocalDateTime.of(2025, 8, 27, 14, 30, 5, 1), "방문중", "외래"));
+        assertSameJson(new HospitalResponseDto(1L, "민랩종합병원", "1100001234", "김병원장"));
+    }
+
+    private void assertSameJson(Object dto) throws Exception {
+        assertThat(tunedMapper.writeValueAsString(dto)).isEqualTo(defaultMapper.writeValueAsString(dto));
+    }
+}
@@ -0,0 +1,158 @@
+package com.minlab.hospital.presentation.reactive;
+
+import com.minlab.hospital.domain.repository.CappedPage;
+import com.minlab.hospital.infrastructure.reactive.ReactiveReadRepository;
+import com.minlab.hospital.presentation.dto.request.PatientSearchRequestDto;
+import com.minlab.hospital.presentation.dto.response.PatientResponseDto;
+import com.minlab.hospital.presentation.dto.response.PatientSearchResponseDto;
+import com.minlab.hospital.presentation.dto.response.VisitResponseDto;
+import jakarta.persistence.EntityNotFoundException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mockito;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.TimeoutException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+
+class ReactiveReadHandlerTest {
+
+    private final ReactiveReadRepository repository = Mockito.mock(ReactiveReadRepository.class);
+    private final WebTestClient client = WebTestClient.bindToRouterFunction(new ReactiveReadHandler(repository).routes()).build();
+
+    @Test
+    @DisplayName("환자 단건 조회 - 서블릿 API 와 같은 응답")
+    void getPatient() {
+        Mockito.when(repository.findPatient(1L, 2L)).thenReturn(Mono.just(new PatientResponseDto(
+                2L, "홍길동", "001-1", "M", LocalDate.of(1990, 1, 1), "010-1234-5678", "서울시 강남구")));
+
+        client.get().uri("/api/hospitals/1/patients/2")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.id").isEqualTo(2)
+                .jsonPath("$.patientNumber").isEqualTo("001-1")
+                .jsonPath("$.birthDate").isEqualTo("1990-01-01");
+    }
+
+    @Test
+    @DisplayName("환자 단건 조회 실패 - 404, GlobalExceptionHandler 와 같은 에러 형식")
+    void getPatientNotFound() {
+        Mockito.when(repository.findPatient(1L, 99L))
+                .thenReturn(Mono.error(new EntityNotFoundException("해당 병원에서 환자를 찾을 수 없습니다.")));
+
+        client.get().uri("/api/hospitals/1/patients/99")
+                .exchange()
+                .expectStatus().isNotFound()
+                .expectBody()
+                .jsonPath("$.status").isEqualTo(404)
+                .jsonPath("$.error").isEqualTo("Not Found")
+                .jsonPath("$.message").isEqualTo("해당 병원에서 환자를 찾을 수 없습니다.")
+                .jsonPath("$.timestamp").exists();
+    }
+
+    @Test
+    @DisplayName("잘못된 경로 변수 - 400")
+    void invalidPathVariable() {
+        client.get().uri("/api/hospitals/1/patients/abc")
+                .exchange()
+                .expectStatus().isBadRequest()
+                .expectBody()
+                .jsonPath("$.status").isEqualTo(400);
+    }
+
+    @Test
+    @DisplayName("환자 검색 - 조건/페이지 전달, 상한 초과 시 truncated=true")
+    void searchPatients() {
+        PatientSearchResponseDto patient = new PatientSearchResponseDto(2L, "홍길동", "001-1", "M",
+                LocalDate.of(1990, 1, 1), "010-1234-5678", "서울시 강남구", LocalDateTime.of(2024, 1, 1, 15, 44));
+        Mockito.when(repository.searchPatients(eq(1L), any(), any()))
+                .thenReturn(Mono.just(new CappedPage<>(List.of(patient), PageRequest.of(1, 1), 1000, true)));
+
+        client.get().uri("/api/hospitals/1/patients/search?name=홍&birthDate=1990-01-01&pageNo=2&pageSize=1")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.content[0].name").isEqualTo("홍길동")
+                .jsonPath("$.number").isEqualTo(1)
+                .jsonPath("$.totalElements").isEqualTo(1000)
+                .jsonPath("$.truncated").isEqualTo(true);
+
+        ArgumentCaptor<PatientSearchRequestDto> condition = ArgumentCaptor.forClass(PatientSearchRequestDto.class);
+        ArgumentCaptor<Pageable> pageable = ArgumentCaptor.forClass(Pageable.class);
+        Mockito.verify(repository).searchPatients(eq(1L), condition.capture(), pageable.capture());
+        assertThat(condition.getValue().getName()).isEqualTo("홍");
+        assertThat(condition.getValue().getPatientNumber()).isNull();
+        assertThat(condition.getValue().getBirthDate()).isEqualTo("1990-01-01");
+        assertThat(pageable.getValue()).isEqualTo(PageRequest.of(1, 1));
+    }
+
+    @Test
+    @DisplayName("환자 검색 제한 시간 초과 - 503")
+    void searchPatientsTimeout() {
+        Mockito.when(repository.searchPatients(eq(1L), any(), any())).thenReturn(Mono.error(new TimeoutException()));
+
+        client.get().uri("/api/hospitals/1/patients/search?name=홍")
+                .exchange()
+                .expectStatus().isEqualTo(503)
+                .expectBody()
+                .jsonPath("$.error").isEqualTo("Service Unavailable");
+    }
+
+    @Test
+    @DisplayName("환자별 방문 조회 - 기본 페이지(0, 10), truncated 필드 없음")
+    void getAllVisitsByPatient() {
+        VisitResponseDto visit = new VisitResponseDto(3L, 1L, 2L, "001-1",
+                LocalDateTime.of(2025, 8, 27, 14, 30), "방문중", "외래");
+        Mockito.when(repository.findVisitsByPatient(2L, PageRequest.of(0, 10)))
+                .thenReturn(Mono.just(new PageImpl<>(List.of(visit), PageRequest.of(0, 10), 1)));
+
+        client.get().uri("/api/patients/2/visits")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.content[0].visitStatus").isEqualTo("방문중")
+                .jsonPath("$.totalElements").isEqualTo(1)
+                .jsonPath("$.last").isEqualTo(true)
+                .jsonPath("$.truncated").doesNotExist();
+    }
+
+    @Test
+    @DisplayName("환자별 방문 조회 - sort 파라미터는 Spring Data 웹과 같은 형식으로 전달")
+    void getAllVisitsByPatientSorted() {
+        Pageable expected = PageRequest.of(1, 5, Sort.by(Sort.Order.desc("visitDate"), Sort.Order.asc("id")));
+        Mockito.when(repository.findVisitsByPatient(2L, expected))
+                .thenReturn(Mono.just(new PageImpl<>(List.of(), expected, 5)));
+
+        client.get().uri("/api/patients/2/visits?page=1&size=5&sort=visitDate,desc&sort=id")
+                .exchange()
+                .expectStatus().isOk();
+
+        Mockito.verify(repository).findVisitsByPatient(2L, expected);
+    }
+
+    @Test
+    @DisplayName("환자별 방문 조회 실패 - 정렬할 수 없는 속성은 400")
+    void getAllVisitsByPatientUnknownSort() {
+        Mockito.when(repository.findVisitsByPatient(eq(2L), any()))
+                .thenThrow(new IllegalArgumentException("정렬할 수 없는 속성입니다: patient"));
+
+        client.get().uri("/api/patients/2/visits?sort=patient")
+                .exchange()
+                .expectStatus().isBadRequest()
+                .expectBody()
+                .jsonPath("$.message").isEqualTo("정렬할 수 없는 속성입니다: patient");
+    }
+}